@@ -0,0 +1,104 @@
+package seedu.plannermd.benchmark;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.plannermd.logic.commands.apptcommand.AppointmentFilters;
+import seedu.plannermd.model.Model;
+import seedu.plannermd.model.ModelManager;
+import seedu.plannermd.model.PlannerMd;
+import seedu.plannermd.model.UserPrefs;
+import seedu.plannermd.model.appointment.Appointment;
+import seedu.plannermd.model.appointment.AppointmentContainsPatientPredicate;
+import seedu.plannermd.model.appointment.AppointmentIsAfterPredicate;
+import seedu.plannermd.model.appointment.AppointmentIsBeforePredicate;
+import seedu.plannermd.model.appointment.UniqueAppointmentList;
+
+/**
+ * Benchmarks the operations on the appointments of a clinic that are run by most appointment commands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class ModelBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int appointmentCount;
+
+    private SyntheticPlannerMd clinic;
+    private UniqueAppointmentList appointmentList;
+    private PlannerMd plannerMd;
+    private Model model;
+    private Appointment newAppointment;
+    private Appointment clashingAppointment;
+    private AppointmentFilters filters;
+
+    @Setup
+    public void setUp() {
+        clinic = new SyntheticPlannerMd(appointmentCount);
+        appointmentList = new UniqueAppointmentList();
+        appointmentList.setAppointments(Arrays.asList(clinic.getAppointments()));
+        plannerMd = clinic.toPlannerMd();
+        model = new ModelManager(plannerMd, new UserPrefs());
+
+        newAppointment = clinic.getAppointment(appointmentCount);
+        clashingAppointment = clinic.getAppointment(appointmentCount / 2);
+
+        // Appointments of one patient, by the number in their name, within a week in the middle of the schedule
+        String[] patientNameWords = clashingAppointment.getPatient().getName().fullName.split(" ");
+        LocalDate middleDate = clashingAppointment.getAppointmentDate().date;
+        filters = AppointmentFilters.allAppointmentsFilter();
+        filters.setHasPatient(new AppointmentContainsPatientPredicate(
+                Collections.singletonList(patientNameWords[patientNameWords.length - 1])));
+        filters.setStartAfter(new AppointmentIsAfterPredicate(middleDate));
+        filters.setStartBefore(new AppointmentIsBeforePredicate(middleDate.plusDays(7)));
+    }
+
+    @TearDown(Level.Invocation)
+    public void removeNewAppointment() {
+        if (appointmentList.contains(newAppointment)) {
+            appointmentList.remove(newAppointment);
+        }
+    }
+
+    @Benchmark
+    public UniqueAppointmentList uniqueAppointmentListAdd() {
+        appointmentList.add(newAppointment);
+        return appointmentList;
+    }
+
+    @Benchmark
+    public boolean isClashAppointment_noClash() {
+        return plannerMd.isClashAppointment(newAppointment);
+    }
+
+    @Benchmark
+    public boolean isClashAppointment_clash() {
+        return plannerMd.isClashAppointment(clashingAppointment);
+    }
+
+    @Benchmark
+    public int updateFilteredAppointmentList() {
+        model.updateFilteredAppointmentList(filters.collectAllFilters());
+        return model.getFilteredAppointmentList().size();
+    }
+}
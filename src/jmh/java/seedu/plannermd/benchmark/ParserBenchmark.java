@@ -0,0 +1,47 @@
+package seedu.plannermd.benchmark;
+
+import static seedu.plannermd.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.plannermd.logic.parser.CliSyntax.PREFIX_BIRTH_DATE;
+import static seedu.plannermd.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.plannermd.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.plannermd.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.plannermd.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.plannermd.logic.parser.CliSyntax.PREFIX_RISK;
+import static seedu.plannermd.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.plannermd.logic.parser.ArgumentMultimap;
+import seedu.plannermd.logic.parser.ArgumentTokenizer;
+
+/**
+ * Benchmarks tokenizing the arguments of an add patient command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class ParserBenchmark {
+
+    private static final String ADD_PATIENT_ARGS = " n/Amy Bee hp/11111111 eml/amy@example.com"
+            + " a/Block 312, Amy Street 1 dob/02/01/1965 risk/LOW r/Prefers morning appointments"
+            + " t/diabetic t/elderly";
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(ADD_PATIENT_ARGS, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+                PREFIX_ADDRESS, PREFIX_BIRTH_DATE, PREFIX_RISK, PREFIX_REMARK, PREFIX_TAG);
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.plannermd.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.plannermd.commons.exceptions.DataConversionException;
+import seedu.plannermd.model.PlannerMd;
+import seedu.plannermd.model.ReadOnlyPlannerMd;
+import seedu.plannermd.storage.BinaryPlannerMdStorage;
+import seedu.plannermd.storage.JsonPlannerMdStorage;
+
+/**
+ * Benchmarks reading and saving the data file of a clinic, as json and in the binary format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class StorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int appointmentCount;
+
+    private Path folder;
+    private JsonPlannerMdStorage readStorage;
+    private JsonPlannerMdStorage saveStorage;
+    private BinaryPlannerMdStorage binaryReadStorage;
+    private BinaryPlannerMdStorage binarySaveStorage;
+    private PlannerMd plannerMd;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("plannermd-benchmark");
+        plannerMd = new SyntheticPlannerMd(appointmentCount).toPlannerMd();
+        readStorage = new JsonPlannerMdStorage(folder.resolve("read.json"));
+        readStorage.savePlannerMd(plannerMd);
+        saveStorage = new JsonPlannerMdStorage(folder.resolve("save.json"));
+        binaryReadStorage = new BinaryPlannerMdStorage(folder.resolve("read.bin"));
+        binaryReadStorage.savePlannerMd(plannerMd);
+        binarySaveStorage = new BinaryPlannerMdStorage(folder.resolve("save.bin"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        for (Path file : new Path[] { readStorage.getPlannerMdFilePath(), saveStorage.getPlannerMdFilePath(),
+                binaryReadStorage.getPlannerMdFilePath(), binarySaveStorage.getPlannerMdFilePath() }) {
+            Files.deleteIfExists(file);
+        }
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public ReadOnlyPlannerMd readPlannerMd() throws DataConversionException {
+        return readStorage.readPlannerMd().get();
+    }
+
+    @Benchmark
+    public Path savePlannerMd() throws IOException {
+        saveStorage.savePlannerMd(plannerMd);
+        return saveStorage.getPlannerMdFilePath();
+    }
+
+    @Benchmark
+    public ReadOnlyPlannerMd readBinaryPlannerMd() throws DataConversionException {
+        return binaryReadStorage.readPlannerMd().get();
+    }
+
+    @Benchmark
+    public Path saveBinaryPlannerMd() throws IOException {
+        binarySaveStorage.savePlannerMd(plannerMd);
+        return binarySaveStorage.getPlannerMdFilePath();
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.plannermd.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import seedu.plannermd.model.PlannerMd;
+import seedu.plannermd.model.appointment.Appointment;
+import seedu.plannermd.model.appointment.AppointmentDate;
+import seedu.plannermd.model.appointment.Session;
+import seedu.plannermd.model.doctor.Doctor;
+import seedu.plannermd.model.patient.Patient;
+import seedu.plannermd.testutil.appointment.AppointmentBuilder;
+import seedu.plannermd.testutil.doctor.DoctorBuilder;
+import seedu.plannermd.testutil.patient.PatientBuilder;
+
+/**
+ * Generates PlannerMd data of a clinic with a given number of appointments, for benchmarks.
+ * The clinic has a patient for every {@value #APPOINTMENTS_PER_PATIENT} appointments and a doctor for every
+ * {@value #APPOINTMENTS_PER_DOCTOR} appointments. Each doctor sees patients in back-to-back sessions from
+ * {@link #FIRST_DATE} onwards, so none of the appointments clash.
+ */
+public class SyntheticPlannerMd {
+
+    public static final LocalDate FIRST_DATE = LocalDate.of(2022, 1, 3);
+
+    private static final int APPOINTMENTS_PER_PATIENT = 10;
+    private static final int APPOINTMENTS_PER_DOCTOR = 50;
+    private static final int SESSIONS_PER_DAY = 16;
+    private static final int SESSION_MINUTES = 30;
+    private static final LocalTime FIRST_SESSION = LocalTime.of(8, 0);
+    private static final String[] RISKS = { "LOW", "MEDIUM", "HIGH" };
+
+    private final Patient[] patients;
+    private final Doctor[] doctors;
+    private final Appointment[] appointments;
+
+    /**
+     * Generates a clinic with {@code appointmentCount} appointments.
+     */
+    public SyntheticPlannerMd(int appointmentCount) {
+        patients = new Patient[Math.max(1, appointmentCount / APPOINTMENTS_PER_PATIENT)];
+        for (int i = 0; i < patients.length; i++) {
+            patients[i] = new PatientBuilder().withName("Patient " + i)
+                    .withPhone(String.format("8%07d", i))
+                    .withEmail("patient" + i + "@example.com")
+                    .withAddress("Blk " + i + " Clementi Ave 3, #02-" + (i % 100))
+                    .withTags(i % 2 == 0 ? "diabetic" : "asthmatic")
+                    .withRisk(RISKS[i % RISKS.length])
+                    .build();
+        }
+
+        doctors = new Doctor[Math.max(1, appointmentCount / APPOINTMENTS_PER_DOCTOR)];
+        for (int i = 0; i < doctors.length; i++) {
+            doctors[i] = new DoctorBuilder().withName("Doctor " + i)
+                    .withPhone(String.format("9%07d", i))
+                    .withEmail("doctor" + i + "@example.com")
+                    .withAddress("Blk " + i + " Jurong West Ave 6, #08-" + (i % 100))
+                    .build();
+        }
+
+        appointments = new Appointment[appointmentCount];
+        for (int i = 0; i < appointmentCount; i++) {
+            appointments[i] = getAppointment(i);
+        }
+    }
+
+    /**
+     * Returns the {@code index}-th appointment of the clinic. Appointments from {@code getAppointments().length}
+     * onwards do not clash with any of the clinic's appointments.
+     */
+    public Appointment getAppointment(int index) {
+        // Consecutive appointments are with different doctors, and appointments of the same patient are
+        // at least APPOINTMENTS_PER_PATIENT appointments apart, so a patient has at most one appointment per slot
+        int slot = index / doctors.length;
+        LocalDate date = FIRST_DATE.plusDays(slot / SESSIONS_PER_DAY);
+        LocalTime start = FIRST_SESSION.plusMinutes((long) (slot % SESSIONS_PER_DAY) * SESSION_MINUTES);
+        return new AppointmentBuilder()
+                .withPatient(patients[index % patients.length])
+                .withDoctor(doctors[index % doctors.length])
+                .withDate(date.format(AppointmentDate.DATE_FORMATTER))
+                .withSession(start.format(Session.TIME_FORMATTER), SESSION_MINUTES)
+                .withRemark(index % 3 == 0 ? "Follow up" : "")
+                .build();
+    }
+
+    public Patient[] getPatients() {
+        return patients;
+    }
+
+    public Doctor[] getDoctors() {
+        return doctors;
+    }
+
+    public Appointment[] getAppointments() {
+        return appointments;
+    }
+
+    /**
+     * Returns a {@code PlannerMd} with all the patients, doctors and appointments of the clinic.
+     */
+    public PlannerMd toPlannerMd() {
+        PlannerMd plannerMd = new PlannerMd();
+        for (Patient patient : patients) {
+            plannerMd.addPatient(patient);
+        }
+        for (Doctor doctor : doctors) {
+            plannerMd.addDoctor(doctor);
+        }
+        for (Appointment appointment : appointments) {
+            plannerMd.addAppointment(appointment);
+        }
+        return plannerMd;
+    }
+}
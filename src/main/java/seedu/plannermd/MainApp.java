@@ -3,6 +3,7 @@ package seedu.plannermd;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -22,8 +23,10 @@ import seedu.plannermd.model.ReadOnlyPlannerMd;
 import seedu.plannermd.model.ReadOnlyUserPrefs;
 import seedu.plannermd.model.UserPrefs;
 import seedu.plannermd.model.util.SampleDataUtil;
-import seedu.plannermd.storage.JsonPlannerMdStorage;
+import seedu.plannermd.storage.ArchivingPlannerMdStorage;
+import seedu.plannermd.storage.JournalPlannerMdStorage;
 import seedu.plannermd.storage.JsonUserPrefsStorage;
+import seedu.plannermd.storage.PlannerMdCodec;
 import seedu.plannermd.storage.PlannerMdStorage;
 import seedu.plannermd.storage.Storage;
 import seedu.plannermd.storage.StorageManager;
@@ -56,8 +59,17 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        PlannerMdStorage plannerMdStorage = new JsonPlannerMdStorage(userPrefs.getPlannerMdFilePath());
-        storage = new StorageManager(plannerMdStorage, userPrefsStorage);
+        PlannerMdCodec codec = initCodec(userPrefs);
+        PlannerMdStorage plannerMdStorage = new ArchivingPlannerMdStorage(
+                new JournalPlannerMdStorage(userPrefs.getPlannerMdFilePath(),
+                        JournalPlannerMdStorage.DEFAULT_COMPACTION_THRESHOLD, true, codec),
+                userPrefs.getAppointmentArchiveDays(), codec);
+        storage = new StorageManager(plannerMdStorage, userPrefsStorage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "PlannerMd data writer");
+            // Pending data is flushed in stop(), so the writer does not need to keep the application alive
+            thread.setDaemon(true);
+            return thread;
+        }));
 
         initLogging(config);
 
@@ -90,7 +102,8 @@ public class MainApp extends Application {
             initialData = new PlannerMd();
         }
 
-        Model model = new ModelManager(initialData, userPrefs);
+        // Nothing else holds the data read, so the model takes it over instead of copying it
+        Model model = ModelManager.takeOver(initialData, userPrefs);
         model.updateFilteredAppointmentList(Model.PREDICATE_SHOW_TODAY_APPOINTMENT);
         return model;
     }
@@ -167,6 +180,22 @@ public class MainApp extends Application {
         return initializedPrefs;
     }
 
+    /**
+     * Returns the {@code PlannerMdCodec} of the data file format in {@code userPrefs},
+     * or the default codec if the format is unknown.
+     */
+    private PlannerMdCodec initCodec(ReadOnlyUserPrefs userPrefs) {
+        try {
+            PlannerMdCodec codec = PlannerMdCodec.of(userPrefs.getDataFileFormat(), userPrefs.isDataFileCompressed());
+            logger.info("Writing data file as " + codec);
+            return codec;
+        } catch (IllegalArgumentException e) {
+            logger.warning("Unknown data file format " + userPrefs.getDataFileFormat() + ". "
+                    + "Writing data file as " + PlannerMdCodec.DEFAULT);
+            return PlannerMdCodec.DEFAULT;
+        }
+    }
+
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting PlannerMd " + MainApp.VERSION);
@@ -176,6 +205,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping PlannerMD ] =============================");
+        try {
+            storage.flushPlannerMd();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -5,7 +5,8 @@ import static seedu.plannermd.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Helper functions for handling strings.
@@ -27,15 +28,51 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
+        String preppedWord = caseFoldWord(word);
+        return getCaseFoldedWords(sentence).contains(preppedWord);
+    }
+
+    /**
+     * Returns the words in {@code sentence}, case-folded so that two words are equal ignoring case
+     * if and only if their case-folded forms are equal.
+     * The words can be kept to match many words against the sentence without splitting it again.
+     *
+     * @param sentence cannot be null
+     */
+    public static Set<String> getCaseFoldedWords(String sentence) {
+        requireNonNull(sentence);
+
+        Set<String> words = new HashSet<>();
+        for (String wordInSentence : sentence.split("\\s+")) {
+            words.add(foldCase(wordInSentence));
+        }
+        return words;
+    }
+
+    /**
+     * Returns {@code word} case-folded as the words returned by {@link #getCaseFoldedWords(String)} are.
+     *
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public static String caseFoldWord(String word) {
+        requireNonNull(word);
+
         String preppedWord = word.trim();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
         checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        return foldCase(preppedWord);
+    }
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
-
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    /**
+     * Folds the case of each character of {@code s} in the same way as {@link String#equalsIgnoreCase(String)}
+     * compares them.
+     */
+    private static String foldCase(String s) {
+        char[] characters = s.toCharArray();
+        for (int i = 0; i < characters.length; i++) {
+            characters[i] = Character.toLowerCase(Character.toUpperCase(characters[i]));
+        }
+        return new String(characters);
     }
 
     /**
@@ -1,6 +1,7 @@
 package seedu.plannermd.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.plannermd.commons.core.GuiSettings;
@@ -19,13 +20,23 @@ import seedu.plannermd.model.patient.Patient;
 public interface Logic {
     /**
      * Executes the command and returns the result.
+     * The data is saved before this method returns, but may be written to the data file afterwards. A failure to
+     * write it is then reported to the handler set by {@link #setSaveFailureHandler(Consumer)} when it happens,
+     * and the data is written again after the next command.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
-     * @throws CommandException If an error occurs during command execution.
+     * @throws CommandException If an error occurs during command execution, or while writing data saved by it
+     *     or by an earlier command that was not reported to the save failure handler.
      * @throws ParseException If an error occurs during parsing.
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler of messages about failures to write saved data to the data file.
+     * The handler may be called from a thread other than the one executing commands.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
     /**
      * Returns the State of Model
      *
@@ -2,6 +2,7 @@ package seedu.plannermd.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -16,6 +17,7 @@ import seedu.plannermd.model.Model;
 import seedu.plannermd.model.Model.State;
 import seedu.plannermd.model.ReadOnlyPlannerMd;
 import seedu.plannermd.model.appointment.Appointment;
+import seedu.plannermd.model.appointment.exceptions.AppointmentArchiveException;
 import seedu.plannermd.model.doctor.Doctor;
 import seedu.plannermd.model.patient.Patient;
 import seedu.plannermd.storage.Storage;
@@ -25,6 +27,7 @@ import seedu.plannermd.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String ARCHIVE_OPS_ERROR_MESSAGE = "Could not read archived appointments from file: ";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
@@ -46,7 +49,18 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = plannerMdParser.parseCommand(commandText, model.getState());
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } catch (AppointmentArchiveException aae) {
+            model.rollbackPlannerMd();
+            throw new CommandException(ARCHIVE_OPS_ERROR_MESSAGE + aae.getCause(), aae);
+        } catch (CommandException | RuntimeException e) {
+            // A failed command leaves the data as it was, so that it still matches the data file
+            model.rollbackPlannerMd();
+            throw e;
+        }
+        // Each successful command is undone as a whole
+        model.commitPlannerMd();
 
         try {
             storage.savePlannerMd(model.getPlannerMd());
@@ -57,6 +71,11 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        storage.setPlannerMdWriteFailureHandler(ioe -> handler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
     @Override
     public State getState() {
         return model.getState();
@@ -0,0 +1,31 @@
+package seedu.plannermd.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.plannermd.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import seedu.plannermd.logic.commands.exceptions.CommandException;
+import seedu.plannermd.model.Model;
+
+/**
+ * Reverts the PlannerMD to its state before the previous undo command.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to redo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoPlannerMd()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoPlannerMd();
+        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredDoctorList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.plannermd.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.plannermd.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import seedu.plannermd.logic.commands.exceptions.CommandException;
+import seedu.plannermd.model.Model;
+
+/**
+ * Reverts the PlannerMD to its state before the previous command that modified it.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to undo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoPlannerMd()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoPlannerMd();
+        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredDoctorList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
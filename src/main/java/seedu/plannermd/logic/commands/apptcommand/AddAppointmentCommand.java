@@ -10,6 +10,7 @@ import static seedu.plannermd.logic.parser.CliSyntax.PREFIX_START;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Predicate;
 
 import seedu.plannermd.commons.core.Messages;
 import seedu.plannermd.commons.core.index.Index;
@@ -18,6 +19,9 @@ import seedu.plannermd.logic.commands.exceptions.CommandException;
 import seedu.plannermd.model.Model;
 import seedu.plannermd.model.appointment.Appointment;
 import seedu.plannermd.model.appointment.AppointmentDate;
+import seedu.plannermd.model.appointment.AppointmentIsAfterPredicate;
+import seedu.plannermd.model.appointment.AppointmentIsBeforePredicate;
+import seedu.plannermd.model.appointment.AppointmentIsWithinRangePredicate;
 import seedu.plannermd.model.appointment.Session;
 import seedu.plannermd.model.doctor.Doctor;
 import seedu.plannermd.model.patient.Patient;
@@ -92,13 +96,13 @@ public class AddAppointmentCommand extends AppointmentCommand {
 
         if (model.hasAppointment(toAdd)) {
             // Show the duplicate appointment to the user
-            model.updateFilteredAppointmentList(x -> x.isSameAppointment(toAdd));
+            model.updateFilteredAppointmentList(onDateOf(toAdd, toAdd::isSameAppointment));
             throw new CommandException(MESSAGE_DUPLICATE_APPOINTMENT);
         }
 
         if (model.isClashAppointment(toAdd)) {
             // Show the clashing appointment to the user
-            model.updateFilteredAppointmentList(x -> x.isClash(toAdd));
+            model.updateFilteredAppointmentList(onDateOf(toAdd, toAdd::isClash));
             throw new CommandException(MESSAGE_CONFLICTING_APPOINTMENT);
         }
 
@@ -109,6 +113,18 @@ public class AddAppointmentCommand extends AppointmentCommand {
                 AppointmentDate.DISPLAYED_DATE_FORMATTER.format(toAdd.getAppointmentDate().date)));
     }
 
+    /**
+     * Returns a predicate for the appointments on the same date as {@code appointment} that pass {@code filter}.
+     * Duplicate and clashing appointments are always on the same date, so only the archived appointments from
+     * that date on have to be loaded to show them.
+     */
+    private static AppointmentIsWithinRangePredicate onDateOf(Appointment appointment,
+            Predicate<Appointment> filter) {
+        LocalDate date = appointment.getAppointmentDate().date;
+        return new AppointmentIsWithinRangePredicate(new AppointmentIsAfterPredicate(date),
+                new AppointmentIsBeforePredicate(date), filter);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -17,6 +17,7 @@ import seedu.plannermd.model.appointment.AppointmentContainsDoctorPredicate;
 import seedu.plannermd.model.appointment.AppointmentContainsPatientPredicate;
 import seedu.plannermd.model.appointment.AppointmentIsAfterPredicate;
 import seedu.plannermd.model.appointment.AppointmentIsBeforePredicate;
+import seedu.plannermd.model.appointment.AppointmentIsWithinRangePredicate;
 
 /**
  * Stores the details of all the filters to filter the appointment list in plannermd with.
@@ -26,11 +27,11 @@ public class AppointmentFilters {
     /**
      * Appointment starts after a certain point in time.
      */
-    private Predicate<Appointment> startAfter;
+    private AppointmentIsAfterPredicate startAfter;
     /**
      * Appointment starts before a certain point in time.
      */
-    private Predicate<Appointment> startBefore;
+    private AppointmentIsBeforePredicate startBefore;
     /**
      * Appointment contains a patient whose names matches a given set of keywords.
      */
@@ -115,13 +116,16 @@ public class AppointmentFilters {
     /**
      * Collects all the given filters and convert them into a single predicate
      * that can be used to filter the {@code Appointment} list.
+     * The start time filters are kept as the range of the predicate, so that they do not have to be tested
+     * against every appointment.
      */
-    public Predicate<Appointment> collectAllFilters() {
-        List<Predicate<Appointment>> allPredicates = new ArrayList<>(
-                Arrays.asList(startAfter, startBefore, hasPatient, hasDoctor));
+    public AppointmentIsWithinRangePredicate collectAllFilters() {
+        List<Predicate<Appointment>> otherPredicates = new ArrayList<>(Arrays.asList(hasPatient, hasDoctor));
 
-        return allPredicates.stream().map(x -> Optional.ofNullable(x).orElse(y -> true))
+        Predicate<Appointment> otherFilters = otherPredicates.stream()
+                .map(x -> Optional.ofNullable(x).orElse(y -> true))
                 .reduce(Predicate::and).orElse(x -> true);
+        return new AppointmentIsWithinRangePredicate(startAfter, startBefore, otherFilters);
     }
 
     /**
@@ -40,8 +40,13 @@ public class DeleteDoctorCommand extends DeleteCommand {
         }
 
         Doctor doctorToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deleteAppointmentsWithPerson(doctorToDelete);
-        model.deleteDoctor(doctorToDelete);
+        model.beginBatch();
+        try {
+            model.deleteAppointmentsWithPerson(doctorToDelete);
+            model.deleteDoctor(doctorToDelete);
+        } finally {
+            model.commitBatch();
+        }
 
         return new CommandResult(String.format(MESSAGE_DELETE_DOCTOR_SUCCESS, doctorToDelete));
     }
@@ -39,8 +39,13 @@ public class DeletePatientCommand extends DeleteCommand {
         }
 
         Patient patientToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deleteAppointmentsWithPerson(patientToDelete);
-        model.deletePatient(patientToDelete);
+        model.beginBatch();
+        try {
+            model.deleteAppointmentsWithPerson(patientToDelete);
+            model.deletePatient(patientToDelete);
+        } finally {
+            model.commitBatch();
+        }
 
         return new CommandResult(String.format(MESSAGE_DELETE_PATIENT_SUCCESS, patientToDelete));
     }
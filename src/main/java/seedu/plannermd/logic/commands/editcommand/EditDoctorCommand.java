@@ -77,8 +77,13 @@ public class EditDoctorCommand extends EditCommand {
             throw new CommandException(MESSAGE_DUPLICATE_DOCTOR);
         }
 
-        model.setDoctor(doctorToEdit, editedDoctor);
-        model.editAppointmentsWithPerson(doctorToEdit, editedDoctor);
+        model.beginBatch();
+        try {
+            model.setDoctor(doctorToEdit, editedDoctor);
+            model.editAppointmentsWithPerson(doctorToEdit, editedDoctor);
+        } finally {
+            model.commitBatch();
+        }
         return new CommandResult(String.format(MESSAGE_EDIT_DOCTOR_SUCCESS, editedDoctor));
     }
 
@@ -81,8 +81,13 @@ public class EditPatientCommand extends EditCommand {
             throw new CommandException(MESSAGE_DUPLICATE_PATIENT);
         }
 
-        model.setPatient(patientToEdit, editedPerson);
-        model.editAppointmentsWithPerson(patientToEdit, editedPerson);
+        model.beginBatch();
+        try {
+            model.setPatient(patientToEdit, editedPerson);
+            model.editAppointmentsWithPerson(patientToEdit, editedPerson);
+        } finally {
+            model.commitBatch();
+        }
 
         return new CommandResult(String.format(MESSAGE_EDIT_PATIENT_SUCCESS, editedPerson));
     }
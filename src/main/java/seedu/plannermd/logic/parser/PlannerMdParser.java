@@ -10,7 +10,9 @@ import seedu.plannermd.logic.commands.ClearCommand;
 import seedu.plannermd.logic.commands.Command;
 import seedu.plannermd.logic.commands.ExitCommand;
 import seedu.plannermd.logic.commands.HelpCommand;
+import seedu.plannermd.logic.commands.RedoCommand;
 import seedu.plannermd.logic.commands.ToggleCommand;
+import seedu.plannermd.logic.commands.UndoCommand;
 import seedu.plannermd.logic.commands.addcommand.AddDoctorCommand;
 import seedu.plannermd.logic.commands.addcommand.AddPatientCommand;
 import seedu.plannermd.logic.commands.apptcommand.AppointmentCommand;
@@ -80,6 +82,12 @@ public class PlannerMdParser {
         case ClearCommand.COMMAND_WORD:
             return new ClearCommand();
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
             if (state.equals(State.PATIENT)) {
                 return parsePatientCommand(commandWord, arguments);
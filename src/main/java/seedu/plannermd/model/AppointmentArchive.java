@@ -0,0 +1,49 @@
+package seedu.plannermd.model;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.plannermd.commons.exceptions.DataConversionException;
+import seedu.plannermd.model.appointment.Appointment;
+import seedu.plannermd.model.doctor.Doctor;
+import seedu.plannermd.model.patient.Patient;
+import seedu.plannermd.model.person.Person;
+
+/**
+ * The appointments of a PlannerMD dated before some date, which are kept apart from the rest of its data
+ * and are only read when they are needed.
+ */
+public interface AppointmentArchive {
+
+    /**
+     * Returns the date before which appointments are archived.
+     * The appointments dated from this date on are not in the archive.
+     */
+    LocalDate getArchivedBefore();
+
+    /**
+     * Returns a date from which on all the archived appointments of {@code person} are dated, which is the date
+     * before which appointments are archived if the archive has none of them. The archive may tell the date without
+     * reading its appointments, in which case the date may be earlier than that of the first appointment of
+     * {@code person}. By default, the archive is taken to hold the appointments of every person at any date.
+     */
+    default LocalDate getFirstDateWith(Person person) {
+        return LocalDate.MIN;
+    }
+
+    /**
+     * Reads the archived appointments dated from {@code from} on, with the patients and doctors in
+     * {@code patients} and {@code doctors}. The archive may only read the part of it holding those appointments.
+     *
+     * @throws DataConversionException if the archive cannot be read or is not in the expected format.
+     */
+    List<Appointment> readAppointments(LocalDate from, List<Patient> patients, List<Doctor> doctors)
+            throws DataConversionException;
+
+    /**
+     * Returns the archive of the archived appointments dated before {@code date}, which are left in the archive
+     * when the appointments from {@code date} on are read, or an empty {@code Optional} if there are none.
+     */
+    Optional<AppointmentArchive> before(LocalDate date);
+}
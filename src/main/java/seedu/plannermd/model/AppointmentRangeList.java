@@ -0,0 +1,185 @@
+package seedu.plannermd.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.plannermd.model.appointment.Appointment;
+
+/**
+ * A view of the appointments in a list sorted by start time that start within a range of time.
+ * The appointments within the range are next to each other in the sorted list, so the view only has to find
+ * where the range begins and ends in the list, instead of testing every appointment in it.
+ */
+class AppointmentRangeList extends TransformationList<Appointment, Appointment> {
+
+    // The range of start times as minutes from the epoch, where a null end is unbounded
+    private Long rangeStart;
+    private Long rangeEnd;
+
+    // The positions in the source list from which the appointments are within and after the range
+    private int from;
+    private int to;
+
+    /**
+     * Creates a view of all the appointments in {@code source}, which must be sorted by start time.
+     */
+    AppointmentRangeList(ObservableList<Appointment> source) {
+        super(source);
+        to = source.size();
+    }
+
+    /**
+     * Sets the range to the appointments starting from {@code rangeStart} and before {@code rangeEnd}.
+     * Either end of the range can be null, in which case the range is unbounded at that end.
+     */
+    void setRange(LocalDateTime rangeStart, LocalDateTime rangeEnd) {
+        beginChange();
+        if (to > from) {
+            nextRemove(0, new ArrayList<>(getSource().subList(from, to)));
+        }
+        this.rangeStart = rangeStart == null ? null : Appointment.toStartEpochMinute(rangeStart);
+        this.rangeEnd = rangeEnd == null ? null : Appointment.toStartEpochMinute(rangeEnd);
+        updatePositions();
+        if (to > from) {
+            nextAdd(0, to - from);
+        }
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends Appointment> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                permute(c);
+            } else if (c.wasUpdated()) {
+                for (int i = Math.max(c.getFrom(), from); i < Math.min(c.getTo(), to); i++) {
+                    nextUpdate(i - from);
+                }
+            } else {
+                remove(c);
+                add(c);
+            }
+        }
+        // The positions are kept up to date above to report the changes to the view, and are looked up again
+        // in case the changes were reported as a whole
+        updatePositions();
+        endChange();
+    }
+
+    /**
+     * Reports the appointments removed from the range by {@code c}.
+     */
+    private void remove(Change<? extends Appointment> c) {
+        if (!c.wasRemoved()) {
+            return;
+        }
+
+        int removedEnd = c.getFrom() + c.getRemovedSize();
+        int removedBefore = Math.max(0, Math.min(removedEnd, from) - c.getFrom());
+        int removedWithinStart = Math.max(c.getFrom(), from);
+        int removedWithinEnd = Math.min(removedEnd, to);
+        if (removedWithinStart < removedWithinEnd) {
+            nextRemove(removedWithinStart - from, new ArrayList<>(c.getRemoved().subList(
+                    removedWithinStart - c.getFrom(), removedWithinEnd - c.getFrom())));
+            to -= removedWithinEnd - removedWithinStart;
+        }
+        from -= removedBefore;
+        to -= removedBefore;
+    }
+
+    /**
+     * Reports the appointments added to the range by {@code c}.
+     */
+    private void add(Change<? extends Appointment> c) {
+        if (!c.wasAdded()) {
+            return;
+        }
+
+        for (int i = c.getFrom(); i < c.getTo(); i++) {
+            Appointment appointment = getSource().get(i);
+            if (isBeforeRange(appointment)) {
+                from++;
+                to++;
+            } else if (!isAfterRange(appointment)) {
+                nextAdd(i - from, i - from + 1);
+                to++;
+            }
+        }
+    }
+
+    /**
+     * Reports the appointments within the range reordered by {@code c}. The appointments within the range
+     * stay within it, as the start times of the appointments do not change.
+     */
+    private void permute(Change<? extends Appointment> c) {
+        int permutedFrom = Math.max(c.getFrom(), from);
+        int permutedTo = Math.min(c.getTo(), to);
+        if (permutedFrom >= permutedTo) {
+            return;
+        }
+
+        int[] permutation = new int[permutedTo - permutedFrom];
+        for (int i = permutedFrom; i < permutedTo; i++) {
+            permutation[i - permutedFrom] = c.getPermutation(i) - from;
+        }
+        nextPermutation(permutedFrom - from, permutedTo - from, permutation);
+    }
+
+    private boolean isBeforeRange(Appointment appointment) {
+        return rangeStart != null && appointment.getStartEpochMinute() < rangeStart;
+    }
+
+    private boolean isAfterRange(Appointment appointment) {
+        return rangeEnd != null && appointment.getStartEpochMinute() >= rangeEnd;
+    }
+
+    private void updatePositions() {
+        from = rangeStart == null ? 0 : findFirstStartingFrom(rangeStart);
+        to = rangeEnd == null ? getSource().size() : findFirstStartingFrom(rangeEnd);
+    }
+
+    /**
+     * Returns the position of the first appointment in the source list that starts at or after {@code epochMinute},
+     * or the size of the list if there is none.
+     */
+    private int findFirstStartingFrom(long epochMinute) {
+        int low = 0;
+        int high = getSource().size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (getSource().get(middle).getStartEpochMinute() < epochMinute) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public Appointment get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return getSource().get(from + index);
+    }
+
+    @Override
+    public int size() {
+        return to - from;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return from + index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return index >= from && index < to ? index - from : -1;
+    }
+}
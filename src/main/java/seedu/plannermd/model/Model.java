@@ -84,6 +84,48 @@ public interface Model {
     /** Returns the PlannerMd */
     ReadOnlyPlannerMd getPlannerMd();
 
+    /**
+     * Starts a batch of modifications to the PlannerMD data, which are published to the listeners of each list
+     * as a single change when the batch is committed.
+     * The filtered lists are not updated until then, so they must not be read or filtered during the batch.
+     */
+    void beginBatch();
+
+    /**
+     * Commits the batch started by the last call to {@link #beginBatch()}.
+     */
+    void commitBatch();
+
+    /**
+     * Returns true if the model has previous PlannerMD states to restore.
+     */
+    boolean canUndoPlannerMd();
+
+    /**
+     * Returns true if the model has undone PlannerMD states to restore.
+     */
+    boolean canRedoPlannerMd();
+
+    /**
+     * Restores the model's PlannerMD to its previous state.
+     */
+    void undoPlannerMd();
+
+    /**
+     * Restores the model's PlannerMD to its previously undone state.
+     */
+    void redoPlannerMd();
+
+    /**
+     * Saves the current PlannerMD state for undo/redo, if it was modified since the last save.
+     */
+    void commitPlannerMd();
+
+    /**
+     * Reverts the modifications made to the PlannerMD since its state was last saved for undo/redo.
+     */
+    void rollbackPlannerMd();
+
     //// patient methods
     /**
      * Returns true if a patient with the same identity as {@code patient} exists in the PlannerMD.
@@ -204,6 +246,8 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered appointment list to filter by the given {@code predicate}.
+     * Only the appointments within the range of an {@code AppointmentIsWithinRangePredicate} are tested
+     * against its other filters.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredAppointmentList(Predicate<? super Appointment> predicate);
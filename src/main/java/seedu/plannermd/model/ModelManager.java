@@ -4,6 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.plannermd.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,21 +15,31 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.plannermd.commons.core.GuiSettings;
 import seedu.plannermd.commons.core.LogsCenter;
+import seedu.plannermd.commons.exceptions.DataConversionException;
 import seedu.plannermd.model.appointment.Appointment;
+import seedu.plannermd.model.appointment.AppointmentIsWithinRangePredicate;
+import seedu.plannermd.model.appointment.exceptions.AppointmentArchiveException;
 import seedu.plannermd.model.doctor.Doctor;
 import seedu.plannermd.model.patient.Patient;
 import seedu.plannermd.model.person.Person;
 
 /**
  * Represents the in-memory model of the plannermd data.
+ * If the data comes with an archive of old appointments, the archived appointments are only loaded the first time
+ * an operation needs them, such as showing the appointments before the archived date, for which only the
+ * appointments from the first date shown are loaded, or deleting a person, whose archived appointments are
+ * deleted too, for which only the appointments from the first archived appointment of the person are loaded.
+ * Operations that need the archive throw
+ * {@link AppointmentArchiveException} if it cannot be loaded.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final PlannerMd plannerMd;
+    private final VersionedPlannerMd versionedPlannerMd;
     private final UserPrefs userPrefs;
     private final FilteredList<Patient> filteredPatients;
     private final FilteredList<Doctor> filteredDoctors;
+    private final AppointmentRangeList appointmentsInRange;
     private final FilteredList<Appointment> filteredAppointments;
     private State state;
 
@@ -34,26 +48,43 @@ public class ModelManager implements Model {
      * Default state is Patients
      */
     public ModelManager(ReadOnlyPlannerMd plannerMd, ReadOnlyUserPrefs userPrefs) {
+        this(new VersionedPlannerMd(requireNonNull(plannerMd)), userPrefs);
+    }
+
+    private ModelManager(VersionedPlannerMd versionedPlannerMd, ReadOnlyUserPrefs userPrefs) {
         super();
-        requireAllNonNull(plannerMd, userPrefs);
+        requireAllNonNull(versionedPlannerMd, userPrefs);
 
-        logger.fine("Initializing with plannermd: " + plannerMd + " and user prefs " + userPrefs);
+        logger.fine("Initializing with plannermd: " + versionedPlannerMd + " and user prefs " + userPrefs);
 
         this.state = State.PATIENT;
-        this.plannerMd = new PlannerMd(plannerMd);
+        this.versionedPlannerMd = versionedPlannerMd;
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPatients = new FilteredList<>(this.plannerMd.getPatientList());
-        filteredDoctors = new FilteredList<>(this.plannerMd.getDoctorList());
+        filteredPatients = new FilteredList<>(versionedPlannerMd.getPatientList());
+        filteredDoctors = new FilteredList<>(versionedPlannerMd.getDoctorList());
 
-        // Wrap the FilteredList over a SortedList such that list is always sorted
-        // UniqueAppointmentList is sorted using its natural ordering as per Appointment#compareTo
-        filteredAppointments = new FilteredList<>(this.plannerMd.getAppointmentList().sorted());
+        // UniqueAppointmentList is always sorted using its natural ordering as per Appointment#compareTo
+        // The appointments within the range of start times filtered by are looked up in the sorted list
+        appointmentsInRange = new AppointmentRangeList(versionedPlannerMd.getAppointmentList());
+        filteredAppointments = new FilteredList<>(appointmentsInRange);
     }
 
     public ModelManager() {
         this(new PlannerMd(), new UserPrefs());
     }
 
+    /**
+     * Returns a ModelManager with the given plannerMd and userPrefs, which takes over {@code plannerMd} instead of
+     * copying it if it is a {@code PlannerMd}, so that data freshly read from storage is not checked, sorted and
+     * held twice. {@code plannerMd} must not be used afterwards.
+     */
+    public static ModelManager takeOver(ReadOnlyPlannerMd plannerMd, ReadOnlyUserPrefs userPrefs) {
+        requireAllNonNull(plannerMd, userPrefs);
+        return plannerMd instanceof PlannerMd
+                ? new ModelManager(VersionedPlannerMd.takeOver((PlannerMd) plannerMd), userPrefs)
+                : new ModelManager(plannerMd, userPrefs);
+    }
+
     public void setState(State state) {
         this.state = state;
     }
@@ -110,12 +141,54 @@ public class ModelManager implements Model {
 
     @Override
     public void setPlannerMd(ReadOnlyPlannerMd plannerMd) {
-        this.plannerMd.resetData(plannerMd);
+        // The archived appointments are loaded first, so that replacing them can be undone
+        loadAppointmentArchive();
+        versionedPlannerMd.resetData(plannerMd);
     }
 
     @Override
     public ReadOnlyPlannerMd getPlannerMd() {
-        return plannerMd;
+        return versionedPlannerMd;
+    }
+
+    @Override
+    public void beginBatch() {
+        versionedPlannerMd.beginBatch();
+    }
+
+    @Override
+    public void commitBatch() {
+        versionedPlannerMd.commitBatch();
+    }
+
+    @Override
+    public boolean canUndoPlannerMd() {
+        return versionedPlannerMd.canUndo();
+    }
+
+    @Override
+    public boolean canRedoPlannerMd() {
+        return versionedPlannerMd.canRedo();
+    }
+
+    @Override
+    public void undoPlannerMd() {
+        versionedPlannerMd.undo();
+    }
+
+    @Override
+    public void redoPlannerMd() {
+        versionedPlannerMd.redo();
+    }
+
+    @Override
+    public void commitPlannerMd() {
+        versionedPlannerMd.commit();
+    }
+
+    @Override
+    public void rollbackPlannerMd() {
+        versionedPlannerMd.rollback();
     }
 
     //// patient methods
@@ -123,17 +196,18 @@ public class ModelManager implements Model {
     @Override
     public boolean hasPatient(Patient patient) {
         requireNonNull(patient);
-        return plannerMd.hasPatient(patient);
+        return versionedPlannerMd.hasPatient(patient);
     }
 
     @Override
     public void deletePatient(Patient target) {
-        plannerMd.removePatient(target);
+        loadAppointmentArchiveWith(target);
+        versionedPlannerMd.removePatient(target);
     }
 
     @Override
     public void addPatient(Patient patient) {
-        plannerMd.addPatient(patient);
+        versionedPlannerMd.addPatient(patient);
         updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -141,7 +215,8 @@ public class ModelManager implements Model {
     public void setPatient(Patient target, Patient editedPatient) {
         requireAllNonNull(target, editedPatient);
 
-        plannerMd.setPatient(target, editedPatient);
+        loadAppointmentArchiveWith(target);
+        versionedPlannerMd.setPatient(target, editedPatient);
     }
 
     //// doctor methods
@@ -149,17 +224,18 @@ public class ModelManager implements Model {
     @Override
     public boolean hasDoctor(Doctor doctor) {
         requireNonNull(doctor);
-        return plannerMd.hasDoctor(doctor);
+        return versionedPlannerMd.hasDoctor(doctor);
     }
 
     @Override
     public void deleteDoctor(Doctor target) {
-        plannerMd.removeDoctor(target);
+        loadAppointmentArchiveWith(target);
+        versionedPlannerMd.removeDoctor(target);
     }
 
     @Override
     public void addDoctor(Doctor doctor) {
-        plannerMd.addDoctor(doctor);
+        versionedPlannerMd.addDoctor(doctor);
         updateFilteredDoctorList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -167,7 +243,8 @@ public class ModelManager implements Model {
     public void setDoctor(Doctor target, Doctor editedDoctor) {
         requireAllNonNull(target, editedDoctor);
 
-        plannerMd.setDoctor(target, editedDoctor);
+        loadAppointmentArchiveWith(target);
+        versionedPlannerMd.setDoctor(target, editedDoctor);
     }
 
     //// appointment methods
@@ -175,36 +252,41 @@ public class ModelManager implements Model {
     @Override
     public boolean hasAppointment(Appointment appointment) {
         requireNonNull(appointment);
-        return plannerMd.hasAppointment(appointment);
+        loadAppointmentArchiveFrom(appointment);
+        return versionedPlannerMd.hasAppointment(appointment);
     }
 
     @Override
     public boolean isClashAppointment(Appointment appointment) {
         requireAllNonNull(appointment);
-        return plannerMd.isClashAppointment(appointment);
+        loadAppointmentArchiveFrom(appointment);
+        return versionedPlannerMd.isClashAppointment(appointment);
     }
 
     @Override
     public boolean isClashAppointmentForEdited(Appointment editedAppointment, Appointment oldAppointment) {
         requireAllNonNull(editedAppointment, oldAppointment);
-        return plannerMd.isClashAppointmentForEdited(editedAppointment, oldAppointment);
+        loadAppointmentArchiveFrom(editedAppointment);
+        return versionedPlannerMd.isClashAppointmentForEdited(editedAppointment, oldAppointment);
     }
 
     @Override
     public void deleteAppointment(Appointment target) {
-        plannerMd.removeAppointment(target);
+        versionedPlannerMd.removeAppointment(target);
     }
 
     @Override
     public void addAppointment(Appointment appointment) {
-        plannerMd.addAppointment(appointment);
+        loadAppointmentArchiveFrom(appointment);
+        versionedPlannerMd.addAppointment(appointment);
     }
 
     @Override
     public void setAppointment(Appointment target, Appointment editedAppointment) {
         requireAllNonNull(target, editedAppointment);
 
-        plannerMd.setAppointment(target, editedAppointment);
+        loadAppointmentArchiveFrom(editedAppointment);
+        versionedPlannerMd.setAppointment(target, editedAppointment);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -247,17 +329,83 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredAppointmentList(Predicate<? super Appointment> predicate) {
         requireNonNull(predicate);
-        filteredAppointments.setPredicate(predicate);
+        if (predicate instanceof AppointmentIsWithinRangePredicate) {
+            AppointmentIsWithinRangePredicate rangePredicate = (AppointmentIsWithinRangePredicate) predicate;
+            Optional<LocalDateTime> rangeStart = rangePredicate.getRangeStart();
+            if (!rangeStart.isPresent()) {
+                loadAppointmentArchive();
+            } else {
+                loadAppointmentArchiveFrom(rangeStart.get().toLocalDate());
+            }
+            appointmentsInRange.setRange(rangePredicate.getRangeStart().orElse(null),
+                    rangePredicate.getRangeEnd().orElse(null));
+            filteredAppointments.setPredicate(rangePredicate.getOtherFilters());
+        } else {
+            loadAppointmentArchive();
+            appointmentsInRange.setRange(null, null);
+            filteredAppointments.setPredicate(predicate);
+        }
     }
 
     @Override
     public <T extends Person> void deleteAppointmentsWithPerson(T person) {
-        plannerMd.deleteAppointmentsWithPerson(person);
+        loadAppointmentArchiveWith(person);
+        versionedPlannerMd.deleteAppointmentsWithPerson(person);
     }
 
     @Override
     public <T extends Person> void editAppointmentsWithPerson(T person, T editedPerson) {
-        plannerMd.editAppointmentsWithPerson(person, editedPerson);
+        loadAppointmentArchiveWith(person);
+        versionedPlannerMd.editAppointmentsWithPerson(person, editedPerson);
+    }
+
+    /**
+     * Loads all the archived appointments into the PlannerMD, if it has an archive that is not loaded yet.
+     *
+     * @throws AppointmentArchiveException if the archived appointments cannot be read.
+     */
+    private void loadAppointmentArchive() {
+        loadAppointmentArchiveFrom(LocalDate.MIN);
+    }
+
+    /**
+     * Loads the archived appointments dated from {@code date} on into the PlannerMD, if there are any.
+     * Only the part of the archive holding those appointments is read.
+     *
+     * @throws AppointmentArchiveException if the archived appointments cannot be read.
+     */
+    private void loadAppointmentArchiveFrom(LocalDate date) {
+        Optional<AppointmentArchive> archive = versionedPlannerMd.getAppointmentArchive();
+        if (!archive.isPresent() || !date.isBefore(archive.get().getArchivedBefore())) {
+            return;
+        }
+
+        logger.info("Loading appointments archived from " + date + " to " + archive.get().getArchivedBefore());
+        List<Appointment> archivedAppointments;
+        try {
+            archivedAppointments = archive.get().readAppointments(date, versionedPlannerMd.getPatientList(),
+                    versionedPlannerMd.getDoctorList());
+        } catch (DataConversionException e) {
+            throw new AppointmentArchiveException(e);
+        }
+        versionedPlannerMd.addArchivedAppointments(archivedAppointments, archive.get().before(date).orElse(null));
+    }
+
+    /**
+     * Loads the archived appointments from the first archived appointment of {@code person} on into the PlannerMD,
+     * so that all the appointments of {@code person} are loaded, as told by the archive without reading it.
+     *
+     * @throws AppointmentArchiveException if the archived appointments cannot be read.
+     */
+    private void loadAppointmentArchiveWith(Person person) {
+        Optional<AppointmentArchive> archive = versionedPlannerMd.getAppointmentArchive();
+        if (archive.isPresent()) {
+            loadAppointmentArchiveFrom(archive.get().getFirstDateWith(person));
+        }
+    }
+
+    private void loadAppointmentArchiveFrom(Appointment appointment) {
+        loadAppointmentArchiveFrom(appointment.getAppointmentDate().date);
     }
 
     @Override
@@ -275,7 +423,7 @@ public class ModelManager implements Model {
         // state check
         ModelManager other = (ModelManager) obj;
 
-        return plannerMd.equals(other.plannerMd)
+        return versionedPlannerMd.equals(other.versionedPlannerMd)
                 && userPrefs.equals(other.userPrefs)
                 && state.equals(other.state)
                 && filteredPatients.equals(other.filteredPatients)
@@ -24,23 +24,15 @@ public class PlannerMd implements ReadOnlyPlannerMd {
     private final UniquePersonList<Patient> patients;
     private final UniquePersonList<Doctor> doctors;
     private final UniqueAppointmentList appointments;
+    // The archive of the appointments not loaded yet, or null if all the appointments are loaded
+    private AppointmentArchive appointmentArchive;
 
-    /*
-     * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
-     * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
-     *
-     * Note that non-static init blocks are not recommended to use. There are other ways to avoid duplication
-     *   among constructors.
-     */
-    {
+    public PlannerMd() {
         patients = new UniquePersonList<>();
         doctors = new UniquePersonList<>();
         appointments = new UniqueAppointmentList();
     }
 
-    public PlannerMd() {
-    }
-
     /**
      * Creates an PlannerMd using the Persons in the {@code toBeCopied}
      */
@@ -49,17 +41,44 @@ public class PlannerMd implements ReadOnlyPlannerMd {
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates a PlannerMd with the data in {@code source}. If {@code isTakenOver}, the lists and the archive of
+     * {@code source} are taken over instead of copied, so that its data is not checked, sorted or indexed again,
+     * and {@code source} must not be used afterwards, as it shares its lists with the created PlannerMd.
+     */
+    protected PlannerMd(PlannerMd source, boolean isTakenOver) {
+        requireNonNull(source);
+        if (isTakenOver) {
+            patients = source.patients;
+            doctors = source.doctors;
+            appointments = source.appointments;
+            appointmentArchive = source.appointmentArchive;
+        } else {
+            patients = new UniquePersonList<>();
+            doctors = new UniquePersonList<>();
+            appointments = new UniqueAppointmentList();
+            resetData(source);
+        }
+    }
+
     //// list overwrite operations
 
     /**
      * Resets the existing data of this {@code PlannerMd} with {@code newData}.
+     * The archive of {@code newData}, if any, replaces the archive of this {@code PlannerMd}.
      */
     public void resetData(ReadOnlyPlannerMd newData) {
         requireNonNull(newData);
 
-        setPatients(newData.getPatientList());
-        setDoctors(newData.getDoctorList());
-        setAppointments(newData.getAppointmentList());
+        beginBatch();
+        try {
+            setPatients(newData.getPatientList());
+            setDoctors(newData.getDoctorList());
+            setAppointments(newData.getAppointmentList());
+        } finally {
+            commitBatch();
+        }
+        appointmentArchive = newData.getAppointmentArchive().orElse(null);
     }
 
     /**
@@ -192,12 +211,7 @@ public class PlannerMd implements ReadOnlyPlannerMd {
      */
     public boolean isClashAppointment(Appointment appointment) {
         requireNonNull(appointment);
-        for (Appointment existingAppointment : appointments) {
-            if (appointment.isClash(existingAppointment)) {
-                return true;
-            }
-        }
-        return false;
+        return appointments.isClash(appointment);
     }
 
     /**
@@ -208,17 +222,7 @@ public class PlannerMd implements ReadOnlyPlannerMd {
      */
     public boolean isClashAppointmentForEdited(Appointment editedAppointment, Appointment oldAppointment) {
         requireAllNonNull(editedAppointment, oldAppointment);
-        for (Appointment existingAppointment : appointments) {
-            if (oldAppointment.isSameAppointment(existingAppointment)) {
-                // skip comparing, otherwise the edited appointment will almost always
-                // clash with itself before the changes
-                continue;
-            }
-            if (editedAppointment.isClash(existingAppointment)) {
-                return true;
-            }
-        }
-        return false;
+        return appointments.isClashForEdited(editedAppointment, oldAppointment);
     }
 
     /**
@@ -269,6 +273,101 @@ public class PlannerMd implements ReadOnlyPlannerMd {
         appointments.editAppointmentsWithPerson(person, editedPerson);
     }
 
+    /**
+     * Adds {@code archivedAppointments}, the appointments read from the archive of this PlannerMD, before
+     * the other appointments, after which {@code remainingArchive} holds the appointments still archived.
+     * The appointments are added as if they had been in the PlannerMD all along, so adding them cannot be undone.
+     *
+     * @param remainingArchive null if all the archived appointments are added.
+     */
+    public void addArchivedAppointments(List<Appointment> archivedAppointments, AppointmentArchive remainingArchive) {
+        requireNonNull(archivedAppointments);
+        appointments.addArchived(archivedAppointments);
+        appointmentArchive = remainingArchive;
+    }
+
+    /**
+     * Starts a batch of modifications to the PlannerMD. The modifications to each of its lists are published
+     * to the listeners of the list as a single change when the batch is committed, so that the listeners
+     * see the modifications to all the lists at once.
+     * Batches can be nested, in which case the changes are published when the outermost batch is committed.
+     */
+    public void beginBatch() {
+        patients.beginBatch();
+        doctors.beginBatch();
+        appointments.beginBatch();
+    }
+
+    /**
+     * Commits the batch started by the last call to {@link #beginBatch()}.
+     */
+    public void commitBatch() {
+        appointments.commitBatch();
+        doctors.commitBatch();
+        patients.commitBatch();
+    }
+
+    /**
+     * Starts recording the modifications made to the PlannerMD from now on.
+     */
+    void startRecordingEdits() {
+        patients.startRecordingEdits();
+        doctors.startRecordingEdits();
+        appointments.startRecordingEdits();
+    }
+
+    /**
+     * Returns the modifications made to the PlannerMD since the last call.
+     */
+    PlannerMdEdit takeRecordedEdit() {
+        return new PlannerMdEdit(patients.takeRecordedEdits(), doctors.takeRecordedEdits(),
+                appointments.takeRecordedEdits());
+    }
+
+    /**
+     * Makes the modifications in {@code edit}, which must have been recorded by this PlannerMD or be the inverse
+     * of such modifications, in a single batch.
+     */
+    void applyEdit(PlannerMdEdit edit) {
+        requireNonNull(edit);
+
+        beginBatch();
+        try {
+            patients.applyEdits(edit.getPatientEdits());
+            doctors.applyEdits(edit.getDoctorEdits());
+            appointments.applyEdits(edit.getAppointmentEdits());
+        } finally {
+            commitBatch();
+        }
+    }
+
+    /**
+     * Returns the version of the data, which only changes when one of its lists logs a modification, so that
+     * operations that turn out to change nothing, such as deleting the appointments of a person who has none,
+     * leave the version as it was.
+     */
+    @Override
+    public long getVersion() {
+        return patients.getEditCount() + doctors.getEditCount() + appointments.getEditCount();
+    }
+
+    /**
+     * Returns an immutable copy of the data, which can be read from any thread while this data is modified.
+     * The lists are shared with the snapshot until they are next modified, and are copied at most once for each
+     * snapshot, so taking a snapshot after each batch of modifications only copies the lists modified by the batch.
+     * The snapshot must be taken on the thread that modifies this data.
+     */
+    @Override
+    public ReadOnlyPlannerMd getSnapshot() {
+        return new PlannerMdSnapshot(patients.snapshot(), doctors.snapshot(), appointments.snapshot(), getVersion(),
+                appointmentArchive);
+    }
+
+    @Override
+    public Optional<AppointmentArchive> getAppointmentArchive() {
+        return Optional.ofNullable(appointmentArchive);
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,64 @@
+package seedu.plannermd.model;
+
+import java.util.List;
+
+import seedu.plannermd.model.appointment.Appointment;
+import seedu.plannermd.model.doctor.Doctor;
+import seedu.plannermd.model.patient.Patient;
+import seedu.plannermd.model.util.ListEdit;
+
+/**
+ * The modifications made to the lists of a {@code PlannerMd} over some period, such as by a command or
+ * between two saves.
+ * Only the modified elements are kept, and they are shared with the lists, as the elements are immutable.
+ */
+public class PlannerMdEdit {
+
+    private final List<ListEdit<Patient>> patientEdits;
+    private final List<ListEdit<Doctor>> doctorEdits;
+    private final List<ListEdit<Appointment>> appointmentEdits;
+
+    /**
+     * Creates a {@code PlannerMdEdit} with the modifications made to each list, in the order they were made.
+     */
+    public PlannerMdEdit(List<ListEdit<Patient>> patientEdits, List<ListEdit<Doctor>> doctorEdits,
+                  List<ListEdit<Appointment>> appointmentEdits) {
+        this.patientEdits = patientEdits;
+        this.doctorEdits = doctorEdits;
+        this.appointmentEdits = appointmentEdits;
+    }
+
+    public List<ListEdit<Patient>> getPatientEdits() {
+        return patientEdits;
+    }
+
+    public List<ListEdit<Doctor>> getDoctorEdits() {
+        return doctorEdits;
+    }
+
+    public List<ListEdit<Appointment>> getAppointmentEdits() {
+        return appointmentEdits;
+    }
+
+    /**
+     * Returns true if no list was modified.
+     */
+    public boolean isEmpty() {
+        return patientEdits.isEmpty() && doctorEdits.isEmpty() && appointmentEdits.isEmpty();
+    }
+
+    /**
+     * Returns the modifications that revert these modifications.
+     */
+    PlannerMdEdit getInverse() {
+        return new PlannerMdEdit(ListEdit.inverseOf(patientEdits), ListEdit.inverseOf(doctorEdits),
+                ListEdit.inverseOf(appointmentEdits));
+    }
+
+    /**
+     * Returns the same modifications, made to the appointments {@code offset} positions further along the list.
+     */
+    PlannerMdEdit withAppointmentsShiftedBy(int offset) {
+        return new PlannerMdEdit(patientEdits, doctorEdits, ListEdit.shiftAll(appointmentEdits, offset));
+    }
+}
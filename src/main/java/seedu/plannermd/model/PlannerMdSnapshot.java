@@ -0,0 +1,110 @@
+package seedu.plannermd.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.plannermd.model.appointment.Appointment;
+import seedu.plannermd.model.doctor.Doctor;
+import seedu.plannermd.model.patient.Patient;
+import seedu.plannermd.model.util.BatchObservableList;
+import seedu.plannermd.model.util.ListEdit;
+
+/**
+ * An immutable copy of PlannerMd data, which can be read from any thread while the original data is modified.
+ * Only the lists are copied, as patients, doctors and appointments are immutable.
+ */
+class PlannerMdSnapshot implements ReadOnlyPlannerMd {
+
+    private final List<Patient> patientSnapshot;
+    private final List<Doctor> doctorSnapshot;
+    private final List<Appointment> appointmentSnapshot;
+    private final ObservableList<Patient> patients;
+    private final ObservableList<Doctor> doctors;
+    private final ObservableList<Appointment> appointments;
+    private final long version;
+    private final AppointmentArchive appointmentArchive;
+
+    /**
+     * Creates a {@code PlannerMdSnapshot} of the current data in {@code source}.
+     */
+    PlannerMdSnapshot(ReadOnlyPlannerMd source) {
+        this(Collections.unmodifiableList(new ArrayList<>(source.getPatientList())),
+                Collections.unmodifiableList(new ArrayList<>(source.getDoctorList())),
+                Collections.unmodifiableList(new ArrayList<>(source.getAppointmentList())),
+                source.getVersion(), source.getAppointmentArchive().orElse(null));
+    }
+
+    /**
+     * Creates a {@code PlannerMdSnapshot} of the given lists, which must never be modified.
+     *
+     * @param appointmentArchive null if there are no archived appointments left out of the lists.
+     */
+    PlannerMdSnapshot(List<Patient> patients, List<Doctor> doctors, List<Appointment> appointments, long version,
+                      AppointmentArchive appointmentArchive) {
+        this.patientSnapshot = patients;
+        this.doctorSnapshot = doctors;
+        this.appointmentSnapshot = appointments;
+        this.patients = FXCollections.unmodifiableObservableList(FXCollections.observableList(patients));
+        this.doctors = FXCollections.unmodifiableObservableList(FXCollections.observableList(doctors));
+        this.appointments = FXCollections.unmodifiableObservableList(FXCollections.observableList(appointments));
+        this.version = version;
+        this.appointmentArchive = appointmentArchive;
+    }
+
+    @Override
+    public ObservableList<Patient> getPatientList() {
+        return patients;
+    }
+
+    @Override
+    public ObservableList<Doctor> getDoctorList() {
+        return doctors;
+    }
+
+    @Override
+    public ObservableList<Appointment> getAppointmentList() {
+        return appointments;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Optional<AppointmentArchive> getAppointmentArchive() {
+        return Optional.ofNullable(appointmentArchive);
+    }
+
+    @Override
+    public ReadOnlyPlannerMd getSnapshot() {
+        return this;
+    }
+
+    /**
+     * Returns the modifications that turned {@code earlier} into this snapshot, which are known if both were
+     * taken from the lists of the same {@code PlannerMd}, as each of its lists logs its modifications.
+     */
+    @Override
+    public Optional<PlannerMdEdit> getEditSince(ReadOnlyPlannerMd earlier) {
+        if (!(earlier instanceof PlannerMdSnapshot)) {
+            return Optional.empty();
+        }
+
+        PlannerMdSnapshot earlierSnapshot = (PlannerMdSnapshot) earlier;
+        Optional<List<ListEdit<Patient>>> patientEdits =
+                BatchObservableList.getEditsBetween(earlierSnapshot.patientSnapshot, patientSnapshot);
+        Optional<List<ListEdit<Doctor>>> doctorEdits =
+                BatchObservableList.getEditsBetween(earlierSnapshot.doctorSnapshot, doctorSnapshot);
+        Optional<List<ListEdit<Appointment>>> appointmentEdits =
+                BatchObservableList.getEditsBetween(earlierSnapshot.appointmentSnapshot, appointmentSnapshot);
+        if (!patientEdits.isPresent() || !doctorEdits.isPresent() || !appointmentEdits.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(new PlannerMdEdit(patientEdits.get(), doctorEdits.get(), appointmentEdits.get()));
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.plannermd.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.plannermd.model.appointment.Appointment;
 import seedu.plannermd.model.doctor.Doctor;
@@ -27,4 +29,32 @@ public interface ReadOnlyPlannerMd {
      * This list will not contain any duplicate appointments.
      */
     ObservableList<Appointment> getAppointmentList();
+
+    /**
+     * Returns the version of the data, which changes whenever the data is modified.
+     */
+    long getVersion();
+
+    /**
+     * Returns the archive of the appointments left out of this data, if there are archived appointments
+     * that are not loaded into it.
+     */
+    default Optional<AppointmentArchive> getAppointmentArchive() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns an immutable copy of the data, which can be read from any thread while this data is modified.
+     */
+    default ReadOnlyPlannerMd getSnapshot() {
+        return new PlannerMdSnapshot(this);
+    }
+
+    /**
+     * Returns the modifications that turned {@code earlier}, a snapshot of the data this snapshot was taken from,
+     * into this snapshot, if they are known.
+     */
+    default Optional<PlannerMdEdit> getEditSince(ReadOnlyPlannerMd earlier) {
+        return Optional.empty();
+    }
 }
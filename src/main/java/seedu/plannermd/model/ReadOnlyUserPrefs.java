@@ -13,4 +13,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getPlannerMdFilePath();
 
+    int getAppointmentArchiveDays();
+
+    String getDataFileFormat();
+
+    boolean isDataFileCompressed();
+
 }
@@ -1,6 +1,7 @@
 package seedu.plannermd.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.plannermd.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,16 @@ import seedu.plannermd.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_APPOINTMENT_ARCHIVE_DAYS = 365;
+    public static final String MESSAGE_APPOINTMENT_ARCHIVE_DAYS_CONSTRAINTS =
+            "Appointments can only be archived after a non-negative number of days";
+    public static final String DEFAULT_DATA_FILE_FORMAT = "json";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path plannerMdFilePath = Paths.get("data" , "plannermd.json");
+    private int appointmentArchiveDays = DEFAULT_APPOINTMENT_ARCHIVE_DAYS;
+    private String dataFileFormat = DEFAULT_DATA_FILE_FORMAT;
+    private boolean isDataFileCompressed = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +45,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setPlannerMdFilePath(newUserPrefs.getPlannerMdFilePath());
+        setAppointmentArchiveDays(newUserPrefs.getAppointmentArchiveDays());
+        setDataFileFormat(newUserPrefs.getDataFileFormat());
+        setDataFileCompressed(newUserPrefs.isDataFileCompressed());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +68,38 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.plannerMdFilePath = plannerMdFilePath;
     }
 
+    public int getAppointmentArchiveDays() {
+        return appointmentArchiveDays;
+    }
+
+    /**
+     * Sets the number of days after which past appointments are moved into the archive of the data file.
+     */
+    public void setAppointmentArchiveDays(int appointmentArchiveDays) {
+        checkArgument(appointmentArchiveDays >= 0, MESSAGE_APPOINTMENT_ARCHIVE_DAYS_CONSTRAINTS);
+        this.appointmentArchiveDays = appointmentArchiveDays;
+    }
+
+    public String getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    /**
+     * Sets the name of the format in which the data file is written.
+     */
+    public void setDataFileFormat(String dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        this.dataFileFormat = dataFileFormat;
+    }
+
+    public boolean isDataFileCompressed() {
+        return isDataFileCompressed;
+    }
+
+    public void setDataFileCompressed(boolean isDataFileCompressed) {
+        this.isDataFileCompressed = isDataFileCompressed;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +112,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && plannerMdFilePath.equals(o.plannerMdFilePath);
+                && plannerMdFilePath.equals(o.plannerMdFilePath)
+                && appointmentArchiveDays == o.appointmentArchiveDays
+                && dataFileFormat.equals(o.dataFileFormat)
+                && isDataFileCompressed == o.isDataFileCompressed;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, plannerMdFilePath);
+        return Objects.hash(guiSettings, plannerMdFilePath, appointmentArchiveDays, dataFileFormat,
+                isDataFileCompressed);
     }
 
     @Override
@@ -81,6 +129,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + plannerMdFilePath);
+        sb.append("\nDays before appointments are archived : " + appointmentArchiveDays);
+        sb.append("\nData file format : " + dataFileFormat + (isDataFileCompressed ? " (compressed)" : ""));
         return sb.toString();
     }
 
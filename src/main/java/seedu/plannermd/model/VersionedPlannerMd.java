@@ -0,0 +1,149 @@
+package seedu.plannermd.model;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.plannermd.model.appointment.Appointment;
+
+/**
+ * {@code PlannerMd} that keeps track of its own history.
+ * Each state is kept as the modifications that lead to it from the previous state, instead of as a copy of
+ * the whole PlannerMD, so committing, undoing or redoing a state only costs as much as the modifications
+ * made to reach it. At most {@link #MAX_UNDOABLE_STATES} states are kept, so that the elements removed or replaced
+ * long ago do not stay in memory for the rest of the session.
+ */
+public class VersionedPlannerMd extends PlannerMd {
+
+    public static final int MAX_UNDOABLE_STATES = 100;
+
+    private final Deque<PlannerMdEdit> undoableEdits = new ArrayDeque<>();
+    private final Deque<PlannerMdEdit> redoableEdits = new ArrayDeque<>();
+
+    /**
+     * Creates a {@code VersionedPlannerMd} with the data in {@code initialState} as its first state.
+     */
+    public VersionedPlannerMd(ReadOnlyPlannerMd initialState) {
+        super(initialState);
+        startRecordingEdits();
+    }
+
+    private VersionedPlannerMd(PlannerMd initialState, boolean isTakenOver) {
+        super(initialState, isTakenOver);
+        startRecordingEdits();
+    }
+
+    /**
+     * Returns a {@code VersionedPlannerMd} with the data in {@code initialState} as its first state, which takes over
+     * the lists of {@code initialState} instead of copying them. {@code initialState} must not be used afterwards.
+     */
+    public static VersionedPlannerMd takeOver(PlannerMd initialState) {
+        return new VersionedPlannerMd(initialState, true);
+    }
+
+    /**
+     * Saves the current state in the history, if it was modified since the last commit.
+     * Undone states are removed from the history when a new state is saved, and the oldest state is removed
+     * once there are more than {@link #MAX_UNDOABLE_STATES} states to restore.
+     */
+    public void commit() {
+        PlannerMdEdit edit = takeRecordedEdit();
+        if (edit.isEmpty()) {
+            return;
+        }
+        undoableEdits.push(edit);
+        redoableEdits.clear();
+        if (undoableEdits.size() > MAX_UNDOABLE_STATES) {
+            undoableEdits.removeLast();
+        }
+    }
+
+    /**
+     * Reverts the modifications made since the last commit, which are not saved in the history.
+     */
+    public void rollback() {
+        PlannerMdEdit edit = takeRecordedEdit();
+        if (!edit.isEmpty()) {
+            applyEdit(edit.getInverse());
+        }
+    }
+
+    /**
+     * Restores the previous state in the history.
+     * Modifications that are not committed yet are committed first.
+     */
+    public void undo() {
+        commit();
+        if (!canUndo()) {
+            throw new NoUndoableStateException();
+        }
+        PlannerMdEdit edit = undoableEdits.pop();
+        applyEdit(edit.getInverse());
+        redoableEdits.push(edit);
+    }
+
+    /**
+     * Restores the state that was last undone.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new NoRedoableStateException();
+        }
+        PlannerMdEdit edit = redoableEdits.pop();
+        applyEdit(edit);
+        undoableEdits.push(edit);
+    }
+
+    /**
+     * Adds {@code archivedAppointments} as in {@link PlannerMd#addArchivedAppointments(List, AppointmentArchive)}.
+     * The positions of the appointments in the history are shifted past the archived appointments, which are
+     * all before them.
+     */
+    @Override
+    public void addArchivedAppointments(List<Appointment> archivedAppointments, AppointmentArchive remainingArchive) {
+        super.addArchivedAppointments(archivedAppointments, remainingArchive);
+        shiftAppointments(undoableEdits, archivedAppointments.size());
+        shiftAppointments(redoableEdits, archivedAppointments.size());
+    }
+
+    private static void shiftAppointments(Deque<PlannerMdEdit> edits, int offset) {
+        Deque<PlannerMdEdit> shiftedEdits = new ArrayDeque<>(edits.size());
+        for (PlannerMdEdit edit : edits) {
+            shiftedEdits.addLast(edit.withAppointmentsShiftedBy(offset));
+        }
+        edits.clear();
+        edits.addAll(shiftedEdits);
+    }
+
+    /**
+     * Returns true if there are previous states to restore.
+     */
+    public boolean canUndo() {
+        return !undoableEdits.isEmpty();
+    }
+
+    /**
+     * Returns true if there are undone states to restore.
+     */
+    public boolean canRedo() {
+        return !redoableEdits.isEmpty();
+    }
+
+    /**
+     * Thrown when trying to {@code undo()} but there are no previous states to restore.
+     */
+    public static class NoUndoableStateException extends RuntimeException {
+        private NoUndoableStateException() {
+            super("There are no previous states of the PlannerMD to restore.");
+        }
+    }
+
+    /**
+     * Thrown when trying to {@code redo()} but there are no undone states to restore.
+     */
+    public static class NoRedoableStateException extends RuntimeException {
+        private NoRedoableStateException() {
+            super("There are no undone states of the PlannerMD to restore.");
+        }
+    }
+}
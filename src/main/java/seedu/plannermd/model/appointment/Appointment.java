@@ -24,6 +24,10 @@ public class Appointment implements Comparable<Appointment> {
     private final Session session;
     private final Remark remark;
 
+    // The start of the appointment as the number of minutes from the epoch 1970-01-01T00:00, which is used to
+    // order and filter appointments without comparing their dates and times
+    private final long startEpochMinute;
+
     /**
      * Constructs an Appointment.
      * Every field must be present and not null.
@@ -36,6 +40,7 @@ public class Appointment implements Comparable<Appointment> {
         this.date = date;
         this.session = session;
         this.remark = remark;
+        this.startEpochMinute = date.getEpochDay() * Session.MINUTES_PER_DAY + session.getStartMinute();
     }
 
     public Patient getPatient() {
@@ -58,6 +63,26 @@ public class Appointment implements Comparable<Appointment> {
         return remark;
     }
 
+    public long getStartEpochMinute() {
+        return startEpochMinute;
+    }
+
+    /**
+     * Returns the first minute at or after {@code dateTime}, as the number of minutes from the epoch
+     * 1970-01-01T00:00. An appointment starts before {@code dateTime} if and only if its
+     * {@link #getStartEpochMinute()} is less than the returned minute.
+     */
+    public static long toStartEpochMinute(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        long epochMinute = dateTime.toLocalDate().toEpochDay() * Session.MINUTES_PER_DAY
+                + Session.toMinuteOfDay(dateTime.toLocalTime());
+        return isOnMinute(dateTime) ? epochMinute : epochMinute + 1;
+    }
+
+    private static boolean isOnMinute(LocalDateTime dateTime) {
+        return dateTime.getSecond() == 0 && dateTime.getNano() == 0;
+    }
+
     /**
      * Checks if this Appointment clashes with the given Appointment.
      * There is a clash if both Appointments have the same Patient or Doctor with an overlapping date and time.
@@ -96,6 +121,25 @@ public class Appointment implements Comparable<Appointment> {
         return LocalDateTime.of(apptDate, apptTime);
     }
 
+    /**
+     * Compares the start time of the appointment to {@code dateTime}, without creating the start time
+     * as a {@code LocalDateTime}.
+     *
+     * @return The comparator value, negative if the appointment starts before {@code dateTime}, positive if it
+     *     starts after, and zero if it starts at {@code dateTime}.
+     */
+    public int compareStartTo(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+
+        long dateTimeEpochMinute = toStartEpochMinute(dateTime);
+        if (startEpochMinute != dateTimeEpochMinute) {
+            return Long.compare(startEpochMinute, dateTimeEpochMinute);
+        }
+        // dateTime is rounded up to the next minute if it is not on a minute, in which case the appointment
+        // starts after it
+        return isOnMinute(dateTime) ? 0 : 1;
+    }
+
     /**
      * Compares this appointment to another appointment.
      * The comparison is based on the date and start time of the appointment session.
@@ -107,9 +151,7 @@ public class Appointment implements Comparable<Appointment> {
     public int compareTo(Appointment otherAppointment) {
         requireNonNull(otherAppointment);
 
-        return date.isEqualDate(otherAppointment.date)
-                ? session.compareStartTimeTo(otherAppointment.session)
-                : date.compareTo(otherAppointment.date);
+        return Long.compare(startEpochMinute, otherAppointment.startEpochMinute);
     }
 
     /**
@@ -0,0 +1,155 @@
+package seedu.plannermd.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import seedu.plannermd.model.person.Person;
+import seedu.plannermd.model.person.PersonIdentity;
+
+/**
+ * Indexes appointments by the patient and the doctor attending them and the date they are on.
+ * Only appointments with the same patient or the same doctor on the same date can clash, so each
+ * person's sessions on a date are kept in a map ordered by start time. A clash check then only
+ * has to look at the sessions starting within {@link Duration#MAX_DURATION} minutes before the
+ * new session, instead of at every appointment in the list.
+ *
+ * Assumes that sessions end within the day they start, as enforced when adding or editing an appointment.
+ */
+class AppointmentClashIndex {
+
+    private final Map<DayKey, NavigableMap<Integer, List<Appointment>>> patientSessions = new HashMap<>();
+    private final Map<DayKey, NavigableMap<Integer, List<Appointment>>> doctorSessions = new HashMap<>();
+
+    /**
+     * Adds {@code appointment} to the index.
+     */
+    public void add(Appointment appointment) {
+        requireNonNull(appointment);
+        addTo(patientSessions, DayKey.of(appointment.getPatient(), appointment), appointment);
+        addTo(doctorSessions, DayKey.of(appointment.getDoctor(), appointment), appointment);
+    }
+
+    /**
+     * Adds all of {@code appointments} to the index.
+     */
+    public void addAll(Collection<Appointment> appointments) {
+        appointments.forEach(this::add);
+    }
+
+    /**
+     * Removes the appointment equal to {@code appointment} from the index, if present.
+     */
+    public void remove(Appointment appointment) {
+        requireNonNull(appointment);
+        removeFrom(patientSessions, DayKey.of(appointment.getPatient(), appointment), appointment);
+        removeFrom(doctorSessions, DayKey.of(appointment.getDoctor(), appointment), appointment);
+    }
+
+    /**
+     * Removes all appointments from the index.
+     */
+    public void clear() {
+        patientSessions.clear();
+        doctorSessions.clear();
+    }
+
+    /**
+     * Returns true if an indexed appointment, other than those matching {@code isIgnored},
+     * clashes with {@code toCheck} as defined by {@link Appointment#isClash(Appointment)}.
+     */
+    public boolean hasClash(Appointment toCheck, Predicate<Appointment> isIgnored) {
+        requireNonNull(toCheck);
+        return hasClashIn(patientSessions.get(DayKey.of(toCheck.getPatient(), toCheck)), toCheck, isIgnored)
+                || hasClashIn(doctorSessions.get(DayKey.of(toCheck.getDoctor(), toCheck)), toCheck, isIgnored);
+    }
+
+    private static boolean hasClashIn(NavigableMap<Integer, List<Appointment>> sessions, Appointment toCheck,
+                                      Predicate<Appointment> isIgnored) {
+        if (sessions == null) {
+            return false;
+        }
+
+        // A session can only overlap with sessions that start before it ends and that do not end before it starts.
+        int start = getStartMinute(toCheck);
+        int end = start + toCheck.getSession().getMinutes();
+        for (List<Appointment> candidates : sessions.subMap(start - Duration.MAX_DURATION, false, end, false)
+                .values()) {
+            for (Appointment candidate : candidates) {
+                if (!isIgnored.test(candidate) && toCheck.isClash(candidate)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void addTo(Map<DayKey, NavigableMap<Integer, List<Appointment>>> index, DayKey key,
+                              Appointment appointment) {
+        index.computeIfAbsent(key, unused -> new TreeMap<>())
+                .computeIfAbsent(getStartMinute(appointment), unused -> new ArrayList<>(1))
+                .add(appointment);
+    }
+
+    private static void removeFrom(Map<DayKey, NavigableMap<Integer, List<Appointment>>> index, DayKey key,
+                                   Appointment appointment) {
+        NavigableMap<Integer, List<Appointment>> sessions = index.get(key);
+        if (sessions == null) {
+            return;
+        }
+
+        int start = getStartMinute(appointment);
+        List<Appointment> appointmentsAtStart = sessions.get(start);
+        if (appointmentsAtStart == null || !appointmentsAtStart.remove(appointment)) {
+            return;
+        }
+        if (appointmentsAtStart.isEmpty()) {
+            sessions.remove(start);
+        }
+        if (sessions.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static int getStartMinute(Appointment appointment) {
+        return appointment.getSession().getStartMinute();
+    }
+
+    /**
+     * Key identifying a person's appointments on a single date.
+     */
+    private static final class DayKey {
+        private final PersonIdentity person;
+        private final AppointmentDate date;
+
+        private DayKey(PersonIdentity person, AppointmentDate date) {
+            this.person = person;
+            this.date = date;
+        }
+
+        static DayKey of(Person person, Appointment appointment) {
+            return new DayKey(PersonIdentity.of(person), appointment.getAppointmentDate());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof DayKey
+                    && person.equals(((DayKey) other).person)
+                    && date.equals(((DayKey) other).date));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(person, date);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import static seedu.plannermd.logic.parser.CliSyntax.PREFIX_DOCTOR;
 
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.plannermd.commons.util.StringUtil;
 
@@ -14,6 +15,7 @@ import seedu.plannermd.commons.util.StringUtil;
 public class AppointmentContainsDoctorPredicate implements Predicate<Appointment> {
 
     private final List<String> keywords;
+    private final List<String> caseFoldedKeywords;
 
     /**
      * Creates an AppointmentContainsDoctorPredicate based on a list of keywords.
@@ -21,12 +23,12 @@ public class AppointmentContainsDoctorPredicate implements Predicate<Appointment
     public AppointmentContainsDoctorPredicate(List<String> keywords) {
         requireNonNull(keywords);
         this.keywords = keywords;
+        this.caseFoldedKeywords = keywords.stream().map(StringUtil::caseFoldWord).collect(Collectors.toList());
     }
 
     @Override
     public boolean test(Appointment appointment) {
-        return keywords.stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(appointment.getDoctor().getName().fullName, keyword));
+        return appointment.getDoctor().getName().containsAnyWord(caseFoldedKeywords);
     }
 
     @Override
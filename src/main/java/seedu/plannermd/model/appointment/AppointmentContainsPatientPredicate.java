@@ -5,6 +5,7 @@ import static seedu.plannermd.logic.parser.CliSyntax.PREFIX_PATIENT;
 
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.plannermd.commons.util.StringUtil;
 
@@ -14,6 +15,7 @@ import seedu.plannermd.commons.util.StringUtil;
 public class AppointmentContainsPatientPredicate implements Predicate<Appointment> {
 
     private final List<String> keywords;
+    private final List<String> caseFoldedKeywords;
 
     /**
      * Creates an AppointmentContainsPredicate based on a given list of keywords.
@@ -21,12 +23,12 @@ public class AppointmentContainsPatientPredicate implements Predicate<Appointmen
     public AppointmentContainsPatientPredicate(List<String> keywords) {
         requireNonNull(keywords);
         this.keywords = keywords;
+        this.caseFoldedKeywords = keywords.stream().map(StringUtil::caseFoldWord).collect(Collectors.toList());
     }
 
     @Override
     public boolean test(Appointment appointment) {
-        return keywords.stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(appointment.getPatient().getName().fullName, keyword));
+        return appointment.getPatient().getName().containsAnyWord(caseFoldedKeywords);
     }
 
     @Override
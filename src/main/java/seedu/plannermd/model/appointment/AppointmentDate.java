@@ -27,6 +27,7 @@ public class AppointmentDate implements Comparable<AppointmentDate> {
     public static final DateTimeFormatter DISPLAYED_DATE_FORMATTER = DateTimeFormatter.ofPattern("d MMM yyyy");
 
     public final LocalDate date;
+    private final long epochDay;
 
     /**
      * Constructs an {@code AppointmentDate}.
@@ -37,6 +38,18 @@ public class AppointmentDate implements Comparable<AppointmentDate> {
         requireNonNull(date);
         checkArgument(isValidAppointmentDate(date), MESSAGE_CONSTRAINTS);
         this.date = LocalDate.parse(date, DATE_FORMATTER);
+        this.epochDay = this.date.toEpochDay();
+    }
+
+    /**
+     * Constructs an {@code AppointmentDate} from the number of days from the epoch day 1970-01-01.
+     *
+     * @param epochDay A valid epoch day.
+     */
+    public AppointmentDate(long epochDay) {
+        checkArgument(isValidEpochDay(epochDay), MESSAGE_CONSTRAINTS);
+        this.date = LocalDate.ofEpochDay(epochDay);
+        this.epochDay = epochDay;
     }
 
     /**
@@ -51,6 +64,21 @@ public class AppointmentDate implements Comparable<AppointmentDate> {
         }
     }
 
+    /**
+     * Returns if a given number of days from the epoch day 1970-01-01 is a valid date.
+     */
+    public static boolean isValidEpochDay(long test) {
+        return test >= LocalDate.MIN.toEpochDay() && test <= LocalDate.MAX.toEpochDay();
+    }
+
+    /**
+     * Returns the number of days from the epoch day 1970-01-01 to this date, which orders dates the same way
+     * as comparing them does.
+     */
+    public long getEpochDay() {
+        return epochDay;
+    }
+
     /**
      * Returns the date in input format.
      */
@@ -62,7 +90,7 @@ public class AppointmentDate implements Comparable<AppointmentDate> {
      * Returns true if the given date is equal to date.
      */
     public boolean isEqualDate(AppointmentDate otherDate) {
-        return date.isEqual(otherDate.date);
+        return epochDay == otherDate.epochDay;
     }
 
     @Override
@@ -81,7 +109,7 @@ public class AppointmentDate implements Comparable<AppointmentDate> {
         }
 
         AppointmentDate apptDate = (AppointmentDate) other;
-        return date.equals(apptDate.date);
+        return epochDay == apptDate.epochDay;
     }
 
     @Override
@@ -99,6 +127,6 @@ public class AppointmentDate implements Comparable<AppointmentDate> {
      */
     @Override
     public int compareTo(AppointmentDate otherAppointmentDate) {
-        return date.compareTo(otherAppointmentDate.date);
+        return Long.compare(epochDay, otherAppointmentDate.epochDay);
     }
 }
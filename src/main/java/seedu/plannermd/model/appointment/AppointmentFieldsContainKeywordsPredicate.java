@@ -2,6 +2,7 @@ package seedu.plannermd.model.appointment;
 
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.plannermd.commons.util.StringUtil;
 
@@ -10,17 +11,19 @@ import seedu.plannermd.commons.util.StringUtil;
  */
 public class AppointmentFieldsContainKeywordsPredicate implements Predicate<Appointment> {
     private final List<String> keywords;
+    private final List<String> caseFoldedKeywords;
 
+    /**
+     * Creates an AppointmentFieldsContainKeywordsPredicate based on a list of keywords, which must be single words.
+     */
     public AppointmentFieldsContainKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.caseFoldedKeywords = keywords.stream().map(StringUtil::caseFoldWord).collect(Collectors.toList());
     }
 
     @Override
     public boolean test(Appointment appointment) {
-        return keywords.stream()
-                .anyMatch(keyword ->
-                        StringUtil.containsWordIgnoreCase(appointment.getPatient().getName().fullName, keyword)
-                );
+        return appointment.getPatient().getName().containsAnyWord(caseFoldedKeywords);
     }
 
     @Override
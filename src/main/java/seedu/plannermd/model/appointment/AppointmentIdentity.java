@@ -0,0 +1,59 @@
+package seedu.plannermd.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.plannermd.model.doctor.Doctor;
+import seedu.plannermd.model.patient.Patient;
+
+/**
+ * Represents the identity fields of an {@code Appointment}, for use as a key in hash-based lookups.
+ * Two {@code AppointmentIdentity} objects are equal if and only if the appointments they were created from
+ * are the same appointment as defined by {@link Appointment#isSameAppointment(Appointment)}.
+ */
+public final class AppointmentIdentity {
+
+    private final Patient patient;
+    private final Doctor doctor;
+    private final AppointmentDate date;
+    private final Session session;
+
+    private AppointmentIdentity(Patient patient, Doctor doctor, AppointmentDate date, Session session) {
+        this.patient = patient;
+        this.doctor = doctor;
+        this.date = date;
+        this.session = session;
+    }
+
+    /**
+     * Returns the identity of {@code appointment}.
+     */
+    public static AppointmentIdentity of(Appointment appointment) {
+        requireNonNull(appointment);
+        return new AppointmentIdentity(appointment.getPatient(), appointment.getDoctor(),
+                appointment.getAppointmentDate(), appointment.getSession());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AppointmentIdentity)) {
+            return false;
+        }
+
+        AppointmentIdentity otherIdentity = (AppointmentIdentity) other;
+        return patient.equals(otherIdentity.patient)
+                && doctor.equals(otherIdentity.doctor)
+                && date.equals(otherIdentity.date)
+                && session.equals(otherIdentity.session);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(patient, doctor, date, session);
+    }
+}
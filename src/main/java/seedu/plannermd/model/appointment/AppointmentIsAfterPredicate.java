@@ -14,6 +14,7 @@ import java.util.function.Predicate;
 public class AppointmentIsAfterPredicate implements Predicate<Appointment> {
 
     private final LocalDateTime filterStartDateTime;
+    private final long filterStartEpochMinute;
 
     /**
      * Creates an AppointmentIsAfterPredicate with a LocalDate object. The predicate is not time sensitive.
@@ -22,6 +23,7 @@ public class AppointmentIsAfterPredicate implements Predicate<Appointment> {
     public AppointmentIsAfterPredicate(LocalDate filterStartDate) {
         requireNonNull(filterStartDate);
         this.filterStartDateTime = filterStartDate.atStartOfDay();
+        this.filterStartEpochMinute = Appointment.toStartEpochMinute(this.filterStartDateTime);
     }
 
     /**
@@ -31,12 +33,16 @@ public class AppointmentIsAfterPredicate implements Predicate<Appointment> {
     public AppointmentIsAfterPredicate(LocalDateTime filterStartDateTime) {
         requireNonNull(filterStartDateTime);
         this.filterStartDateTime = filterStartDateTime.truncatedTo(ChronoUnit.MINUTES);
+        this.filterStartEpochMinute = Appointment.toStartEpochMinute(this.filterStartDateTime);
+    }
+
+    public LocalDateTime getFilterStartDateTime() {
+        return filterStartDateTime;
     }
 
     @Override
     public boolean test(Appointment appointment) {
-        LocalDateTime apptStartTime = appointment.getAppointmentStartTime();
-        return !apptStartTime.isBefore(filterStartDateTime);
+        return appointment.getStartEpochMinute() >= filterStartEpochMinute;
     }
 
     @Override
@@ -13,6 +13,7 @@ import java.util.function.Predicate;
 public class AppointmentIsBeforePredicate implements Predicate<Appointment> {
 
     private final LocalDateTime filerEndDateTime;
+    private final long filterEndEpochMinute;
 
     /**
      * Creates an AppointmentIsAfterPredicate with a LocalDate object.
@@ -22,12 +23,16 @@ public class AppointmentIsBeforePredicate implements Predicate<Appointment> {
         // The filter end date should be the last moment of the day since the filter is inclusive
         // of the end date itself.
         this.filerEndDateTime = filterEndDateTime.atTime(23, 59, 59, 99);
+        this.filterEndEpochMinute = Appointment.toStartEpochMinute(filerEndDateTime);
+    }
+
+    public LocalDateTime getFilterEndDateTime() {
+        return filerEndDateTime;
     }
 
     @Override
     public boolean test(Appointment appointment) {
-        LocalDateTime apptStartTime = appointment.getAppointmentStartTime();
-        return apptStartTime.isBefore(filerEndDateTime);
+        return appointment.getStartEpochMinute() < filterEndEpochMinute;
     }
 
     @Override
@@ -0,0 +1,57 @@
+package seedu.plannermd.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Appointment} starts within a range of time, and passes the other filters given.
+ * The range is kept separate from the other filters, so that the appointments within it can be looked up
+ * in a list sorted by start time instead of testing every appointment against it.
+ */
+public class AppointmentIsWithinRangePredicate implements Predicate<Appointment> {
+
+    private final AppointmentIsAfterPredicate startAfter;
+    private final AppointmentIsBeforePredicate startBefore;
+    private final Predicate<Appointment> otherFilters;
+
+    /**
+     * Creates an AppointmentIsWithinRangePredicate for the range starting from {@code startAfter} and ending
+     * before {@code startBefore}. Either end of the range can be null, in which case the range is unbounded
+     * at that end.
+     */
+    public AppointmentIsWithinRangePredicate(AppointmentIsAfterPredicate startAfter,
+            AppointmentIsBeforePredicate startBefore, Predicate<Appointment> otherFilters) {
+        requireNonNull(otherFilters);
+        this.startAfter = startAfter;
+        this.startBefore = startBefore;
+        this.otherFilters = otherFilters;
+    }
+
+    /**
+     * Returns the earliest start time of the appointments within the range, if the range has one.
+     */
+    public Optional<LocalDateTime> getRangeStart() {
+        return Optional.ofNullable(startAfter).map(AppointmentIsAfterPredicate::getFilterStartDateTime);
+    }
+
+    /**
+     * Returns the start time that all appointments within the range start before, if the range has one.
+     */
+    public Optional<LocalDateTime> getRangeEnd() {
+        return Optional.ofNullable(startBefore).map(AppointmentIsBeforePredicate::getFilterEndDateTime);
+    }
+
+    public Predicate<Appointment> getOtherFilters() {
+        return otherFilters;
+    }
+
+    @Override
+    public boolean test(Appointment appointment) {
+        return (startAfter == null || startAfter.test(appointment))
+                && (startBefore == null || startBefore.test(appointment))
+                && otherFilters.test(appointment);
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.plannermd.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.plannermd.model.person.Person;
+import seedu.plannermd.model.person.PersonIdentity;
+
+/**
+ * Indexes appointments by the patient and the doctor attending them, so that the appointments of a person
+ * can be found without looking at every appointment in the list.
+ * Persons are matched by {@link Person#isSamePerson(Person)}.
+ */
+class AppointmentPersonIndex {
+
+    private final Map<PersonIdentity, Set<Appointment>> patientAppointments = new HashMap<>();
+    private final Map<PersonIdentity, Set<Appointment>> doctorAppointments = new HashMap<>();
+
+    /**
+     * Adds {@code appointment} to the index.
+     */
+    public void add(Appointment appointment) {
+        requireNonNull(appointment);
+        addTo(patientAppointments, appointment.getPatient(), appointment);
+        addTo(doctorAppointments, appointment.getDoctor(), appointment);
+    }
+
+    /**
+     * Adds all of {@code appointments} to the index.
+     */
+    public void addAll(Collection<Appointment> appointments) {
+        appointments.forEach(this::add);
+    }
+
+    /**
+     * Removes the appointment equal to {@code appointment} from the index, if present.
+     */
+    public void remove(Appointment appointment) {
+        requireNonNull(appointment);
+        removeFrom(patientAppointments, appointment.getPatient(), appointment);
+        removeFrom(doctorAppointments, appointment.getDoctor(), appointment);
+    }
+
+    /**
+     * Removes all appointments from the index.
+     */
+    public void clear() {
+        patientAppointments.clear();
+        doctorAppointments.clear();
+    }
+
+    /**
+     * Returns the indexed appointments with the same patient as {@code patient}.
+     */
+    public List<Appointment> getAppointmentsWithPatient(Person patient) {
+        return getFrom(patientAppointments, patient);
+    }
+
+    /**
+     * Returns the indexed appointments with the same doctor as {@code doctor}.
+     */
+    public List<Appointment> getAppointmentsWithDoctor(Person doctor) {
+        return getFrom(doctorAppointments, doctor);
+    }
+
+    private static void addTo(Map<PersonIdentity, Set<Appointment>> index, Person person, Appointment appointment) {
+        index.computeIfAbsent(PersonIdentity.of(person), unused -> new LinkedHashSet<>()).add(appointment);
+    }
+
+    private static void removeFrom(Map<PersonIdentity, Set<Appointment>> index, Person person,
+                                   Appointment appointment) {
+        PersonIdentity key = PersonIdentity.of(person);
+        Set<Appointment> appointments = index.get(key);
+        if (appointments == null || !appointments.remove(appointment)) {
+            return;
+        }
+        if (appointments.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static List<Appointment> getFrom(Map<PersonIdentity, Set<Appointment>> index, Person person) {
+        requireNonNull(person);
+        Set<Appointment> appointments = index.get(PersonIdentity.of(person));
+        return appointments == null ? new ArrayList<>() : new ArrayList<>(appointments);
+    }
+}
@@ -13,6 +13,8 @@ public class Duration {
 
     public static final Integer DEFAULT_DURATION = 10;
 
+    public static final int MAX_DURATION = 120;
+
     public final Integer duration;
 
     private Duration() {
@@ -35,7 +37,7 @@ public class Duration {
      * A valid duration is between 1-120 minutes.
      */
     public static boolean isValidDuration(Integer duration) {
-        return duration >= 1 && duration <= 120;
+        return duration >= 1 && duration <= MAX_DURATION;
     }
 
     /**
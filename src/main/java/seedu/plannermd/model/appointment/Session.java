@@ -27,10 +27,18 @@ public class Session {
 
     public static final String MESSAGE_END_WITHIN_SAME_DAY = "The appointment should end within the same day.";
 
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final int MINUTES_PER_HOUR = 60;
+
     public final LocalTime start;
     public final LocalTime end;
     public final Duration duration;
 
+    // The start and end times as minutes of the day, which are compared instead of the times themselves
+    private final int startMinute;
+    private final int endMinute;
+
     /**
      * Constructs a {@code Session}.
      *
@@ -38,14 +46,37 @@ public class Session {
      * @param duration  Duration of the session in minutes.
      */
     public Session(String startTime, Duration duration) {
-        requireNonNull(startTime);
-        requireNonNull(duration);
+        this(parseStartMinute(startTime), duration);
+    }
 
-        checkArgument(isValidTime(startTime), MESSAGE_CONSTRAINTS);
+    /**
+     * Constructs a {@code Session} starting at the given number of minutes from the start of the day.
+     *
+     * @param startMinute A valid starting minute of the day.
+     * @param duration    Duration of the session in minutes.
+     */
+    public Session(int startMinute, Duration duration) {
+        requireNonNull(duration);
+        checkArgument(isValidStartMinute(startMinute), MESSAGE_CONSTRAINTS);
 
-        this.start = LocalTime.parse(startTime, TIME_FORMATTER);
+        this.start = LocalTime.of(startMinute / MINUTES_PER_HOUR, startMinute % MINUTES_PER_HOUR);
         this.duration = duration;
         this.end = calculateEndTime(this.start, this.duration);
+        this.startMinute = startMinute;
+        this.endMinute = toMinuteOfDay(end);
+    }
+
+    private static int parseStartMinute(String startTime) {
+        requireNonNull(startTime);
+        checkArgument(isValidTime(startTime), MESSAGE_CONSTRAINTS);
+        return toMinuteOfDay(LocalTime.parse(startTime, TIME_FORMATTER));
+    }
+
+    /**
+     * Returns {@code time}, truncated to the minute, as the number of minutes from the start of the day.
+     */
+    public static int toMinuteOfDay(LocalTime time) {
+        return time.getHour() * MINUTES_PER_HOUR + time.getMinute();
     }
 
     private LocalTime calculateEndTime(LocalTime start, Duration duration) {
@@ -66,6 +97,13 @@ public class Session {
         }
     }
 
+    /**
+     * Returns if a given number of minutes from the start of the day is a valid starting time.
+     */
+    public static boolean isValidStartMinute(int test) {
+        return test >= 0 && test < MINUTES_PER_DAY;
+    }
+
     /**
      * Returns if the starting and ending time are both in the same day.
      */
@@ -78,10 +116,10 @@ public class Session {
      * There is an overlap if both Sessions have at least one point of time in common.
      */
     public boolean isClash(Session otherSession) {
-        LocalTime thisStartTime = this.start;
-        LocalTime thisEndTime = this.end;
-        LocalTime otherStartTime = otherSession.start;
-        LocalTime otherEndTime = otherSession.end;
+        int thisStartTime = this.startMinute;
+        int thisEndTime = this.endMinute;
+        int otherStartTime = otherSession.startMinute;
+        int otherEndTime = otherSession.endMinute;
 
         boolean isThisStartTimeBetweenOtherSession =
                 isTimeBetweenExclusiveEnd(thisStartTime, otherStartTime, otherEndTime);
@@ -105,7 +143,7 @@ public class Session {
      * @return The comparator value, negative if less, positive if greater, and zero if equal.
      */
     public int compareStartTimeTo(Session otherSession) {
-        return start.compareTo(otherSession.start);
+        return Integer.compare(startMinute, otherSession.startMinute);
     }
 
     /**
@@ -116,8 +154,8 @@ public class Session {
      * @param end   End time.
      * @return True if the given time is between the start and end times, false otherwise.
      */
-    private static boolean isTimeBetweenExclusiveStart(LocalTime time, LocalTime start, LocalTime end) {
-        return time.isAfter(start) && !time.isAfter(end);
+    private static boolean isTimeBetweenExclusiveStart(int time, int start, int end) {
+        return time > start && time <= end;
     }
 
     /**
@@ -128,8 +166,8 @@ public class Session {
      * @param end   End time.
      * @return True if the given time is between the start and end times, false otherwise.
      */
-    private static boolean isTimeBetweenExclusiveEnd(LocalTime time, LocalTime start, LocalTime end) {
-        return !time.isBefore(start) && time.isBefore(end);
+    private static boolean isTimeBetweenExclusiveEnd(int time, int start, int end) {
+        return time >= start && time < end;
     }
 
     /**
@@ -146,6 +184,21 @@ public class Session {
         return end.format(DISPLAYED_TIME_FORMATTER);
     }
 
+    /**
+     * Returns the start time as the number of minutes from the start of the day.
+     */
+    public int getStartMinute() {
+        return startMinute;
+    }
+
+    /**
+     * Returns the end time as the number of minutes from the start of the day.
+     * The end time wraps around to the next day, as {@link #end} does.
+     */
+    public int getEndMinute() {
+        return endMinute;
+    }
+
     /**
      * Returns the number of minutes in this Session.
      */
@@ -177,7 +230,7 @@ public class Session {
         }
 
         Session otherSession = (Session) other;
-        return start.equals(otherSession.start) && duration.equals(otherSession.duration);
+        return startMinute == otherSession.startMinute && duration.equals(otherSession.duration);
     }
 
     @Override
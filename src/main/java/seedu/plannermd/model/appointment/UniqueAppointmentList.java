@@ -3,18 +3,26 @@ package seedu.plannermd.model.appointment;
 import static java.util.Objects.requireNonNull;
 import static seedu.plannermd.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.SortedList;
 import seedu.plannermd.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.plannermd.model.appointment.exceptions.ClashingAppointmentException;
 import seedu.plannermd.model.appointment.exceptions.DuplicateAppointmentException;
 import seedu.plannermd.model.doctor.Doctor;
 import seedu.plannermd.model.patient.Patient;
 import seedu.plannermd.model.person.Person;
+import seedu.plannermd.model.util.BatchObservableList;
+import seedu.plannermd.model.util.ListEdit;
 
 
 /**
@@ -27,19 +35,39 @@ import seedu.plannermd.model.person.Person;
  * appointment with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * The list is kept sorted by {@link Appointment#compareTo(Appointment)}, so that it does not have to be sorted
+ * again to be shown, and an appointment is looked up by a binary search. Appointments that start at the same time
+ * are kept in the order they were added. The identities of the appointments are also kept in a set, so that
+ * checking for an appointment takes constant time. The appointments of each patient and doctor are indexed
+ * too, so that updating or deleting the appointments of a person only touches those appointments, and is
+ * published to the listeners of the list as a single change. When the list is replaced, as when the data is loaded,
+ * the clash and person indexes are built in the background from a snapshot of the list, so that loading does not
+ * wait for them, and the modifications made to the list since the snapshot are applied to them when they are first
+ * needed, or when the list is next modified, so that the modifications logged since the snapshot are not kept for
+ * an index that is rarely needed. Other modifications made between
+ * {@link #beginBatch()} and {@link #commitBatch()} are also published as a single change.
+ * The modifications can also be recorded, so that they can be reverted later.
  */
 public class UniqueAppointmentList implements Iterable<Appointment> {
-    private final ObservableList<Appointment> internalList = FXCollections.observableArrayList();
-    private final SortedList<Appointment> sortedList = internalList.sorted();
+    private final BatchObservableList<Appointment> internalList = new BatchObservableList<>();
     private final ObservableList<Appointment> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(sortedList);
+            FXCollections.unmodifiableObservableList(internalList);
+    private Set<AppointmentIdentity> identities = new HashSet<>();
+    // Null after the list is replaced, while they are built in the background from the snapshot of the list
+    // taken when it was replaced, which each build keeps until its index is taken
+    private AppointmentClashIndex clashIndex = new AppointmentClashIndex();
+    private AppointmentPersonIndex personIndex = new AppointmentPersonIndex();
+    private CompletableFuture<AppointmentClashIndex> clashIndexBuild;
+    private CompletableFuture<AppointmentPersonIndex> personIndexBuild;
+    private List<Appointment> clashIndexedSnapshot;
+    private List<Appointment> personIndexedSnapshot;
 
     /**
      * Returns true if the list contains an equivalent appointment as the given argument.
      */
     public boolean contains(Appointment toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameAppointment);
+        return identities.contains(AppointmentIdentity.of(toCheck));
     }
 
     /**
@@ -47,11 +75,22 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      */
     public boolean isClash(Appointment toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isClash);
+        return getClashIndex().hasClash(toCheck, unused -> false);
     }
 
     /**
-     * Adds an appointment to the list.
+     * Returns true if {@code editedAppointment} clashes with any in the list other than {@code oldAppointment},
+     * the appointment it is to replace.
+     */
+    public boolean isClashForEdited(Appointment editedAppointment, Appointment oldAppointment) {
+        requireAllNonNull(editedAppointment, oldAppointment);
+        // skip comparing with the appointment being edited, otherwise the edited appointment
+        // will almost always clash with itself before the changes
+        return getClashIndex().hasClash(editedAppointment, oldAppointment::isSameAppointment);
+    }
+
+    /**
+     * Adds an appointment to the list, after any appointments starting at the same time.
      * The appointment must not already exist in the list.
      */
     public void add(Appointment toAdd) {
@@ -62,7 +101,9 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
         if (isClash(toAdd)) {
             throw new ClashingAppointmentException();
         }
-        internalList.add(toAdd);
+        takeBuiltIndexes();
+        internalList.add(findFirstAfter(toAdd), toAdd);
+        index(toAdd);
     }
 
     /**
@@ -74,7 +115,7 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
     public void setAppointment(Appointment target, Appointment editedAppointment) {
         requireAllNonNull(target, editedAppointment);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new AppointmentNotFoundException();
         }
@@ -83,7 +124,20 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
             throw new DuplicateAppointmentException();
         }
 
-        internalList.set(index, editedAppointment);
+        takeBuiltIndexes();
+        if (isInOrderAt(index, editedAppointment)) {
+            internalList.set(index, editedAppointment);
+        } else {
+            internalList.beginBatch();
+            try {
+                internalList.remove(index);
+                internalList.add(findFirstAfter(editedAppointment), editedAppointment);
+            } finally {
+                internalList.commitBatch();
+            }
+        }
+        unindex(target);
+        index(editedAppointment);
     }
 
     /**
@@ -92,14 +146,20 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      */
     public void remove(Appointment toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new AppointmentNotFoundException();
         }
+
+        takeBuiltIndexes();
+        internalList.remove(index);
+        unindex(toRemove);
     }
 
     public void setAppointments(UniqueAppointmentList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        resetIndexes(new HashSet<>(replacement.identities));
     }
 
     /**
@@ -108,11 +168,44 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      */
     public void setAppointments(List<Appointment> appointments) {
         requireAllNonNull(appointments);
-        if (!appointmentsAreUnique(appointments)) {
-            throw new DuplicateAppointmentException();
+        Set<AppointmentIdentity> newIdentities = getUniqueIdentities(appointments);
+
+        List<Appointment> sortedAppointments = new ArrayList<>(appointments);
+        // The sort is stable, so appointments starting at the same time stay in the given order. Appointments
+        // read from a data file are already sorted, which the sort only takes a single pass to find.
+        sortedAppointments.sort(null);
+        internalList.setAll(sortedAppointments);
+        resetIndexes(newIdentities);
+    }
+
+    /**
+     * Adds {@code archivedAppointments}, which must all start before the appointments in the list, to the start
+     * of the list as a single change. The addition is not recorded, and the modifications recorded so far are
+     * shifted past the added appointments, as the archived appointments were part of the data all along.
+     */
+    public void addArchived(List<Appointment> archivedAppointments) {
+        requireAllNonNull(archivedAppointments);
+        List<Appointment> sortedAppointments = new ArrayList<>(archivedAppointments);
+        sortedAppointments.sort(null);
+        if (sortedAppointments.isEmpty()) {
+            return;
+        }
+        if (!internalList.isEmpty()
+                && sortedAppointments.get(sortedAppointments.size() - 1).compareTo(internalList.get(0)) > 0) {
+            throw new IllegalArgumentException("Archived appointments must start before the appointments in the list");
         }
 
-        internalList.setAll(appointments);
+        Set<AppointmentIdentity> archivedIdentities = new HashSet<>();
+        for (Appointment appointment : sortedAppointments) {
+            AppointmentIdentity identity = AppointmentIdentity.of(appointment);
+            if (!archivedIdentities.add(identity) || identities.contains(identity)) {
+                throw new DuplicateAppointmentException();
+            }
+        }
+
+        takeBuiltIndexes();
+        internalList.insertFirstUnrecorded(sortedAppointments);
+        sortedAppointments.forEach(this::index);
     }
 
     /**
@@ -145,57 +238,325 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
     }
 
     /**
-     * Iterates though list of {@code Appointments} and delete those with {@code patient}
+     * Deletes the {@code Appointments} with {@code patient}.
      *
      * @param patient person whose appointments are to be deleted
      */
     public void deleteAppointmentsWithPatient(Patient patient) {
-        internalList.removeIf(appointment -> appointment.getPatient().isSamePerson(patient));
+        removeAppointments(getPersonIndex().getAppointmentsWithPatient(patient));
     }
 
     /**
-     * Iterates though list of {@code Appointments} and delete those with {@code doctor}
+     * Deletes the {@code Appointments} with {@code doctor}.
      *
      * @param doctor person whose appointments are to be deleted
      */
     public void deleteAppointmentsWithDoctor(Doctor doctor) {
-        internalList.removeIf(appointment -> appointment.getDoctor().isSamePerson(doctor));
+        removeAppointments(getPersonIndex().getAppointmentsWithDoctor(doctor));
     }
 
     /**
-     * Iterates though list of {@code Appointments} and update those with {@code patient} to {@code editedPatient}
+     * Updates the {@code Appointments} with {@code patient} to {@code editedPatient}.
      *
      * @param patient patient whose appointments are to be updated
      * @param editedPatient patient replacing {@code patient}
      */
     public void editAppointmentsWithPatient(Patient patient, Patient editedPatient) {
-        for (Appointment appointment : internalList) {
-            if (appointment.getPatient().isSamePerson(patient)) {
-                Appointment editedAppointment =
-                        new Appointment(editedPatient, appointment.getDoctor(),
-                        appointment.getAppointmentDate(), appointment.getSession(), appointment.getRemark());
-                setAppointment(appointment, editedAppointment);
-            }
-        }
+        replaceAppointments(getPersonIndex().getAppointmentsWithPatient(patient), appointment ->
+                new Appointment(editedPatient, appointment.getDoctor(),
+                appointment.getAppointmentDate(), appointment.getSession(), appointment.getRemark()));
     }
 
     /**
-     * Iterates though list of {@code Appointments} and update those with {@code doctor} to {@code editedDoctor}
+     * Updates the {@code Appointments} with {@code doctor} to {@code editedDoctor}.
      *
      * @param doctor doctor whose appointments are to be updated
      * @param editedDoctor doctor replacing {@code doctor}
      */
     public void editAppointmentsWithDoctor(Doctor doctor, Doctor editedDoctor) {
-        for (Appointment appointment : internalList) {
-            if (appointment.getDoctor().isSamePerson(doctor)) {
-                Appointment editedAppointment =
-                        new Appointment(appointment.getPatient(), editedDoctor,
-                        appointment.getAppointmentDate(), appointment.getSession(), appointment.getRemark());
-                setAppointment(appointment, editedAppointment);
+        replaceAppointments(getPersonIndex().getAppointmentsWithDoctor(doctor), appointment ->
+                new Appointment(appointment.getPatient(), editedDoctor,
+                appointment.getAppointmentDate(), appointment.getSession(), appointment.getRemark()));
+    }
+
+    /**
+     * Replaces each of {@code targets}, which must exist in the list, with the result of applying {@code edit}
+     * to it, as a single change to the list.
+     * The edited appointments must not be the same as each other, or as any appointment not being replaced.
+     */
+    private void replaceAppointments(List<Appointment> targets, UnaryOperator<Appointment> edit) {
+        Set<AppointmentIdentity> targetIdentities = new HashSet<>();
+        List<Integer> indexes = new ArrayList<>(targets.size());
+        for (Appointment target : targets) {
+            AppointmentIdentity identity = AppointmentIdentity.of(target);
+            targetIdentities.add(identity);
+            indexes.add(indexOf(target));
+        }
+
+        List<Appointment> editedAppointments = new ArrayList<>(targets.size());
+        Set<AppointmentIdentity> editedIdentities = new HashSet<>();
+        for (Appointment target : targets) {
+            Appointment editedAppointment = edit.apply(target);
+            AppointmentIdentity identity = AppointmentIdentity.of(editedAppointment);
+            if (!editedIdentities.add(identity)
+                    || (identities.contains(identity) && !targetIdentities.contains(identity))) {
+                throw new DuplicateAppointmentException();
             }
+            editedAppointments.add(editedAppointment);
+        }
+
+        takeBuiltIndexes();
+        targets.forEach(this::unindex);
+        editedAppointments.forEach(this::index);
+        // The edited appointments start at the same times as the ones they replace, so the list stays sorted
+        internalList.setEach(indexes, editedAppointments);
+    }
+
+    /**
+     * Removes {@code toRemove}, which must exist in the list, as a single change to the list.
+     */
+    private void removeAppointments(List<Appointment> toRemove) {
+        if (toRemove.isEmpty()) {
+            return;
+        }
+
+        takeBuiltIndexes();
+        int[] indexes = new int[toRemove.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            Appointment appointment = toRemove.get(i);
+            indexes[i] = indexOf(appointment);
+            unindex(appointment);
         }
+        Arrays.sort(indexes);
+        internalList.removeEach(indexes);
+    }
+
+    /**
+     * Starts a batch of modifications, which are published to the listeners of the list as a single change
+     * when the batch is committed.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Commits the batch started by the last call to {@link #beginBatch()}.
+     */
+    public void commitBatch() {
+        internalList.commitBatch();
     }
 
+    /**
+     * Starts recording the modifications made to the list from now on.
+     */
+    public void startRecordingEdits() {
+        internalList.startRecordingEdits();
+    }
+
+    /**
+     * Returns the number of modifications made to the list so far, which only changes when its contents do.
+     */
+    public long getEditCount() {
+        return internalList.getEditCount();
+    }
+
+    /**
+     * Returns the modifications made to the list since the last call, in the order they were made.
+     */
+    public List<ListEdit<Appointment>> takeRecordedEdits() {
+        return internalList.takeRecordedEdits();
+    }
+
+    /**
+     * Makes {@code edits}, which must have been recorded by this list or be the inverse of such edits,
+     * as a single change to the list. Such edits keep the list sorted and its appointments unique.
+     */
+    public void applyEdits(List<ListEdit<Appointment>> edits) {
+        takeBuiltIndexes();
+        internalList.applyEdits(edits);
+        for (ListEdit<Appointment> edit : edits) {
+            edit.getRemoved().forEach(this::unindex);
+            edit.getAdded().forEach(this::index);
+        }
+    }
+
+    /**
+     * Returns the position of the appointment equal to {@code target} in the list, or -1 if there is none.
+     */
+    private int indexOf(Appointment target) {
+        for (int i = findFirstNotBefore(target); i < internalList.size(); i++) {
+            Appointment appointment = internalList.get(i);
+            if (appointment.compareTo(target) != 0) {
+                break;
+            }
+            if (appointment.equals(target)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the position of the first appointment in the list that does not start before {@code appointment},
+     * or the size of the list if there is none.
+     */
+    private int findFirstNotBefore(Appointment appointment) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (internalList.get(middle).compareTo(appointment) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the first appointment in the list that starts after {@code appointment},
+     * or the size of the list if there is none.
+     */
+    private int findFirstAfter(Appointment appointment) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (internalList.get(middle).compareTo(appointment) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns true if the list stays sorted when the appointment at {@code index} is replaced by {@code appointment}.
+     */
+    private boolean isInOrderAt(int index, Appointment appointment) {
+        return (index == 0 || internalList.get(index - 1).compareTo(appointment) <= 0)
+                && (index == internalList.size() - 1 || appointment.compareTo(internalList.get(index + 1)) <= 0);
+    }
+
+    /**
+     * Adds {@code appointment}, which has just been added to the list, to the indexes that have been built.
+     */
+    private void index(Appointment appointment) {
+        identities.add(AppointmentIdentity.of(appointment));
+        if (clashIndex != null) {
+            clashIndex.add(appointment);
+        }
+        if (personIndex != null) {
+            personIndex.add(appointment);
+        }
+    }
+
+    /**
+     * Removes {@code appointment}, which has just been removed from the list, from the indexes that have been built.
+     */
+    private void unindex(Appointment appointment) {
+        identities.remove(AppointmentIdentity.of(appointment));
+        if (clashIndex != null) {
+            clashIndex.remove(appointment);
+        }
+        if (personIndex != null) {
+            personIndex.remove(appointment);
+        }
+    }
+
+    /**
+     * Replaces the indexed identities with {@code newIdentities}, the identities of the appointments now in the list,
+     * and starts building the clash and person indexes of the appointments now in the list in the background.
+     */
+    private void resetIndexes(Set<AppointmentIdentity> newIdentities) {
+        identities = newIdentities;
+        if (internalList.isEmpty()) {
+            clashIndex = new AppointmentClashIndex();
+            personIndex = new AppointmentPersonIndex();
+            clashIndexBuild = null;
+            personIndexBuild = null;
+            clashIndexedSnapshot = null;
+            personIndexedSnapshot = null;
+            return;
+        }
+
+        List<Appointment> snapshot = internalList.snapshot();
+        clashIndex = null;
+        personIndex = null;
+        clashIndexBuild = CompletableFuture.supplyAsync(() -> {
+            AppointmentClashIndex index = new AppointmentClashIndex();
+            index.addAll(snapshot);
+            return index;
+        });
+        personIndexBuild = CompletableFuture.supplyAsync(() -> {
+            AppointmentPersonIndex index = new AppointmentPersonIndex();
+            index.addAll(snapshot);
+            return index;
+        });
+        clashIndexedSnapshot = snapshot;
+        personIndexedSnapshot = snapshot;
+    }
+
+    /**
+     * Takes the indexes still being built in the background, before the list is modified, so that the modifications
+     * logged since their snapshot are not kept for an index that is not needed again. Taking them only waits for
+     * the builds if the list is modified right after it is replaced.
+     */
+    private void takeBuiltIndexes() {
+        getClashIndex();
+        getPersonIndex();
+    }
+
+    /**
+     * Returns the clash index, waiting for it to be built if it is still being built in the background.
+     */
+    private AppointmentClashIndex getClashIndex() {
+        if (clashIndex == null) {
+            AppointmentClashIndex builtIndex = clashIndexBuild.join();
+            applyEditsSince(clashIndexedSnapshot, builtIndex::add, builtIndex::remove);
+            clashIndexBuild = null;
+            clashIndexedSnapshot = null;
+            clashIndex = builtIndex;
+        }
+        return clashIndex;
+    }
+
+    /**
+     * Returns the person index, waiting for it to be built if it is still being built in the background.
+     */
+    private AppointmentPersonIndex getPersonIndex() {
+        if (personIndex == null) {
+            AppointmentPersonIndex builtIndex = personIndexBuild.join();
+            applyEditsSince(personIndexedSnapshot, builtIndex::add, builtIndex::remove);
+            personIndexBuild = null;
+            personIndexedSnapshot = null;
+            personIndex = builtIndex;
+        }
+        return personIndex;
+    }
+
+    /**
+     * Applies the modifications made to the list since {@code snapshot}, the snapshot an index was built from,
+     * to the index through its {@code add} and {@code remove} operations.
+     */
+    private void applyEditsSince(List<Appointment> snapshot, Consumer<Appointment> add,
+                                 Consumer<Appointment> remove) {
+        // The snapshot was taken from this list, so the modifications since are always known
+        for (ListEdit<Appointment> edit : internalList.getEditsSince(snapshot).get()) {
+            edit.getRemoved().forEach(remove);
+            edit.getAdded().forEach(add);
+        }
+    }
+
+    /**
+     * Returns an immutable copy of the list, which can be read from any thread.
+     * The copy is only made when the list is next modified, so taking it is cheap.
+     */
+    public List<Appointment> snapshot() {
+        return internalList.snapshot();
+    }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
@@ -222,16 +583,17 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
     }
 
     /**
-     * Returns true if {@code appointments} contains only unique appointments.
+     * Returns the identities of {@code appointments}, which are checked for duplicates as they are collected.
+     *
+     * @throws DuplicateAppointmentException if two of {@code appointments} are the same appointment.
      */
-    private boolean appointmentsAreUnique(List<Appointment> appointments) {
-        for (int i = 0; i < appointments.size() - 1; i++) {
-            for (int j = i + 1; j < appointments.size(); j++) {
-                if (appointments.get(i).isSameAppointment(appointments.get(j))) {
-                    return false;
-                }
+    private static Set<AppointmentIdentity> getUniqueIdentities(List<Appointment> appointments) {
+        Set<AppointmentIdentity> identities = new HashSet<>();
+        for (Appointment appointment : appointments) {
+            if (!identities.add(AppointmentIdentity.of(appointment))) {
+                throw new DuplicateAppointmentException();
             }
         }
-        return true;
+        return identities;
     }
 }
@@ -0,0 +1,11 @@
+package seedu.plannermd.model.appointment.exceptions;
+
+/**
+ * Signals that the archived appointments needed by the operation could not be loaded.
+ */
+public class AppointmentArchiveException extends RuntimeException {
+
+    public AppointmentArchiveException(Throwable cause) {
+        super("Could not load archived appointments: " + cause.getMessage(), cause);
+    }
+}
@@ -51,7 +51,8 @@ public class Address {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        // equality ignores case, so the hash must as well
+        return value.toLowerCase().hashCode();
     }
 
 }
@@ -65,7 +65,8 @@ public class Email {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        // equality ignores case, so the hash must as well
+        return value.toLowerCase().hashCode();
     }
 
 }
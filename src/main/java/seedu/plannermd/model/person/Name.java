@@ -3,6 +3,11 @@ package seedu.plannermd.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.plannermd.commons.util.AppUtil.checkArgument;
 
+import java.util.Collection;
+import java.util.Set;
+
+import seedu.plannermd.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the plannermd.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +25,9 @@ public class Name {
 
     public final String fullName;
 
+    // The case-folded words of the name, so that keywords can be matched without splitting the name each time
+    private final Set<String> caseFoldedWords;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,6 +37,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        caseFoldedWords = StringUtil.getCaseFoldedWords(name);
     }
 
     /**
@@ -39,6 +48,19 @@ public class Name {
     }
 
 
+    /**
+     * Returns true if any of {@code keywords} is a word of the name, ignoring case.
+     * The keywords must be case-folded by {@link StringUtil#caseFoldWord(String)}.
+     */
+    public boolean containsAnyWord(Collection<String> keywords) {
+        for (String keyword : keywords) {
+            if (caseFoldedWords.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -53,7 +75,8 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        // equality ignores case, so the hash must as well
+        return fullName.toLowerCase().hashCode();
     }
 
 }
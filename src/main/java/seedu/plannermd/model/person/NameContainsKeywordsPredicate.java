@@ -2,6 +2,7 @@ package seedu.plannermd.model.person;
 
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.plannermd.commons.util.StringUtil;
 
@@ -10,15 +11,19 @@ import seedu.plannermd.commons.util.StringUtil;
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final List<String> caseFoldedKeywords;
 
+    /**
+     * Creates a NameContainsKeywordsPredicate based on a list of keywords, which must be single words.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.caseFoldedKeywords = keywords.stream().map(StringUtil::caseFoldWord).collect(Collectors.toList());
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        return person.getName().containsAnyWord(caseFoldedKeywords);
     }
 
     @Override
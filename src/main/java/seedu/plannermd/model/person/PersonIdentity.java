@@ -0,0 +1,57 @@
+package seedu.plannermd.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * Represents the identity fields of a {@code Person}, for use as a key in hash-based lookups.
+ * Two {@code PersonIdentity} objects are equal if and only if the persons they were created from
+ * are the same person as defined by {@link Person#isSamePerson(Person)}.
+ */
+public final class PersonIdentity {
+
+    private final Name name;
+    private final Phone phone;
+    private final Email email;
+
+    private PersonIdentity(Name name, Phone phone, Email email) {
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+    }
+
+    /**
+     * Returns the identity of {@code person}.
+     */
+    public static PersonIdentity of(Person person) {
+        requireNonNull(person);
+        return new PersonIdentity(person.getName(), person.getPhone(), person.getEmail());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PersonIdentity)) {
+            return false;
+        }
+
+        PersonIdentity otherIdentity = (PersonIdentity) other;
+        return name.equals(otherIdentity.name)
+                && phone.equals(otherIdentity.phone)
+                && email.equals(otherIdentity.email);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, phone, email);
+    }
+
+    @Override
+    public String toString() {
+        return name + "; Phone: " + phone + "; Email: " + email;
+    }
+}
@@ -3,14 +3,18 @@ package seedu.plannermd.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.plannermd.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.plannermd.model.person.exceptions.DuplicatePersonException;
 import seedu.plannermd.model.person.exceptions.PersonNotFoundException;
+import seedu.plannermd.model.util.BatchObservableList;
+import seedu.plannermd.model.util.ListEdit;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -20,21 +24,26 @@ import seedu.plannermd.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * The position of each person in the list is also indexed by {@code PersonIdentity}, so that checking for and
+ * looking up a person takes constant time.
+ * Modifications made between {@link #beginBatch()} and {@link #commitBatch()} are published to the listeners of
+ * the list as a single change. The modifications can also be recorded, so that they can be reverted later.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList<T extends Person> implements Iterable<T> {
 
-    private final ObservableList<T> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList<T> internalList = new BatchObservableList<>();
     private final ObservableList<T> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private Map<PersonIdentity, Integer> positions = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(T toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions.containsKey(PersonIdentity.of(toCheck));
     }
 
     /**
@@ -43,7 +52,8 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
      */
     public Optional<T> getExactPerson(T target) {
         requireNonNull(target);
-        return internalList.stream().filter(target::equals).findFirst();
+        int index = indexOf(target);
+        return index == -1 ? Optional.empty() : Optional.of(internalList.get(index));
     }
 
 
@@ -56,6 +66,7 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positions.put(PersonIdentity.of(toAdd), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -67,7 +78,7 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
     public void setPerson(T target, T editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -77,6 +88,8 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
         }
 
         internalList.set(index, editedPerson);
+        positions.remove(PersonIdentity.of(target));
+        positions.put(PersonIdentity.of(editedPerson), index);
     }
 
     /**
@@ -85,14 +98,20 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
      */
     public void remove(T toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        internalList.remove(index);
+        positions.remove(PersonIdentity.of(toRemove));
+        reindexFrom(index);
     }
 
     public void setPersons(UniquePersonList<T> replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindexFrom(0);
     }
 
     /**
@@ -101,11 +120,94 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
      */
     public void setPersons(List<T> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        // The persons are checked for duplicates while they are indexed, so that they are only hashed once
+        Map<PersonIdentity, Integer> newPositions = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (newPositions.putIfAbsent(PersonIdentity.of(persons.get(i)), i) != null) {
+                throw new DuplicatePersonException();
+            }
         }
 
         internalList.setAll(persons);
+        positions = newPositions;
+    }
+
+    /**
+     * Starts a batch of modifications, which are published to the listeners of the list as a single change
+     * when the batch is committed.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Commits the batch started by the last call to {@link #beginBatch()}.
+     */
+    public void commitBatch() {
+        internalList.commitBatch();
+    }
+
+    /**
+     * Starts recording the modifications made to the list from now on.
+     */
+    public void startRecordingEdits() {
+        internalList.startRecordingEdits();
+    }
+
+    /**
+     * Returns the number of modifications made to the list so far, which only changes when its contents do.
+     */
+    public long getEditCount() {
+        return internalList.getEditCount();
+    }
+
+    /**
+     * Returns the modifications made to the list since the last call, in the order they were made.
+     */
+    public List<ListEdit<T>> takeRecordedEdits() {
+        return internalList.takeRecordedEdits();
+    }
+
+    /**
+     * Makes {@code edits}, which must have been recorded by this list or be the inverse of such edits,
+     * as a single change to the list.
+     */
+    public void applyEdits(List<ListEdit<T>> edits) {
+        internalList.applyEdits(edits);
+        int start = internalList.size();
+        for (ListEdit<T> edit : edits) {
+            edit.getRemoved().forEach(person -> positions.remove(PersonIdentity.of(person)));
+            start = Math.min(start, edit.getIndex());
+        }
+        reindexFrom(start);
+    }
+
+    /**
+     * Returns the position of the person equal to {@code target} in the list, or -1 if there is none.
+     */
+    private int indexOf(T target) {
+        Integer index = positions.get(PersonIdentity.of(target));
+        return index != null && internalList.get(index).equals(target) ? index : -1;
+    }
+
+    /**
+     * Updates the indexed positions of the persons from {@code start} to the end of the list.
+     */
+    private void reindexFrom(int start) {
+        if (start == 0) {
+            positions.clear();
+        }
+        for (int i = start; i < internalList.size(); i++) {
+            positions.put(PersonIdentity.of(internalList.get(i)), i);
+        }
+    }
+
+    /**
+     * Returns an immutable copy of the list, which can be read from any thread.
+     * The copy is only made when the list is next modified, so taking it is cheap.
+     */
+    public List<T> snapshot() {
+        return internalList.snapshot();
     }
 
     /**
@@ -131,18 +233,4 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code persons} contains only unique persons.
-     */
-    private boolean personsAreUnique(List<T> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
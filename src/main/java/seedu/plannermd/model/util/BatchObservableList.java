@@ -0,0 +1,368 @@
+package seedu.plannermd.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list that can set or remove elements at many positions as a single change, so that
+ * its listeners only have to process the change once.
+ *
+ * Any other modifications can also be published as a single change by making them within a batch, started by
+ * {@link #beginBatch()} and ended by {@link #commitBatch()}. Batches can be nested, in which case the changes
+ * are published when the outermost batch is committed.
+ *
+ * Once {@link #startRecordingEdits()} is called, the list also records each modification as a {@link ListEdit},
+ * so that the modifications can be reverted and made again later by {@link #applyEdits(List)}.
+ *
+ * An immutable copy of the list can be taken by {@link #snapshot()}, which shares the storage of the list until
+ * the list is next modified. The storage is copied only once for all the modifications that follow, so taking
+ * a snapshot after each batch of modifications costs at most one copy of the list per batch.
+ * Every modification is also logged, whether or not edits are recorded, so that the modifications made between
+ * two snapshots can be found by {@link #getEditsBetween(List, List)}. The log is only kept from the earliest
+ * snapshot still in use, as each snapshot refers to the point of the log it was taken at.
+ */
+public class BatchObservableList<E> extends ModifiableObservableListBase<E> {
+
+    // Replaced instead of modified while it is shared with a snapshot
+    private ArrayList<E> elements = new ArrayList<>();
+    // The snapshot sharing the current elements, or null if there is none
+    private List<E> snapshot;
+    // The edits made since they were last taken, or null if edits are not recorded
+    private List<ListEdit<E>> recordedEdits;
+    // The last modification logged, to which later modifications are linked
+    private LoggedEdit<E> lastLogged = new LoggedEdit<>(null);
+    // The number of modifications logged so far
+    private long editCount;
+
+    /**
+     * Returns an immutable copy of the current elements of the list, which can be read from any thread.
+     * The same copy is returned until the list is modified.
+     */
+    public List<E> snapshot() {
+        if (snapshot == null) {
+            snapshot = new Snapshot<>(elements, lastLogged);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the modifications that turned {@code earlier} into {@code later}, in the order they were made,
+     * if both are snapshots of the same list and {@code earlier} was taken first. Only the modifications are
+     * visited, so finding them does not depend on the size of the list.
+     */
+    public static <E> Optional<List<ListEdit<E>>> getEditsBetween(List<E> earlier, List<E> later) {
+        if (!(earlier instanceof Snapshot) || !(later instanceof Snapshot)) {
+            return Optional.empty();
+        }
+        return getLoggedEdits(((Snapshot<E>) earlier).lastLogged, ((Snapshot<E>) later).lastLogged);
+    }
+
+    /**
+     * Returns the modifications that turned {@code earlier} into the current elements of the list, in the order
+     * they were made, if {@code earlier} is a snapshot of this list. Unlike {@link #getEditsBetween(List, List)},
+     * no snapshot of the current elements is taken, so the list is not copied when it is next modified.
+     */
+    public Optional<List<ListEdit<E>>> getEditsSince(List<E> earlier) {
+        if (!(earlier instanceof Snapshot)) {
+            return Optional.empty();
+        }
+        return getLoggedEdits(((Snapshot<E>) earlier).lastLogged, lastLogged);
+    }
+
+    private static <E> Optional<List<ListEdit<E>>> getLoggedEdits(LoggedEdit<E> first, LoggedEdit<E> last) {
+        List<ListEdit<E>> edits = new ArrayList<>();
+        for (LoggedEdit<E> logged = first; logged != last; ) {
+            logged = logged.next;
+            if (logged == null) {
+                // last was not logged after first by the same list
+                return Optional.empty();
+            }
+            edits.add(logged.edit);
+        }
+        return Optional.of(edits);
+    }
+
+    /**
+     * Returns the number of modifications made to the list so far. Replacing elements with equal elements is
+     * not a modification, so the count only changes when the contents of the list do.
+     */
+    public long getEditCount() {
+        return editCount;
+    }
+
+    /**
+     * Starts recording the modifications made to the list from now on.
+     */
+    public void startRecordingEdits() {
+        if (recordedEdits == null) {
+            recordedEdits = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Returns the modifications made to the list since the last call, in the order they were made.
+     *
+     * @throws IllegalStateException if the modifications to the list are not recorded.
+     */
+    public List<ListEdit<E>> takeRecordedEdits() {
+        if (recordedEdits == null) {
+            throw new IllegalStateException("Edits are not recorded");
+        }
+        List<ListEdit<E>> edits = recordedEdits;
+        recordedEdits = new ArrayList<>();
+        return edits;
+    }
+
+    /**
+     * Makes {@code edits} in order, as a single change. The edits are not recorded, so that reverting
+     * recorded edits does not record them again.
+     */
+    public void applyEdits(List<ListEdit<E>> edits) {
+        requireNonNull(edits);
+        List<ListEdit<E>> pausedEdits = recordedEdits;
+        recordedEdits = null;
+        beginChange();
+        try {
+            for (ListEdit<E> edit : edits) {
+                replace(edit.getIndex(), edit.getIndex() + edit.getRemoved().size(), edit.getAdded());
+            }
+        } finally {
+            endChange();
+            recordedEdits = pausedEdits;
+        }
+    }
+
+    /**
+     * Inserts {@code toInsert} at the start of the list as a single change, without recording it.
+     * The edits recorded so far are shifted past the inserted elements, so that they still refer to the elements
+     * they were made to, as if the inserted elements had been in the list all along.
+     */
+    public void insertFirstUnrecorded(List<? extends E> toInsert) {
+        requireNonNull(toInsert);
+        List<ListEdit<E>> pausedEdits = recordedEdits;
+        recordedEdits = null;
+        try {
+            replace(0, 0, toInsert);
+        } finally {
+            recordedEdits = pausedEdits == null ? null : ListEdit.shiftAll(pausedEdits, toInsert.size());
+        }
+    }
+
+    /**
+     * Starts a batch of modifications, which are published to the listeners of the list as a single change
+     * when the batch is committed.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Commits the batch started by the last call to {@link #beginBatch()}.
+     *
+     * @throws IllegalStateException if no batch has been started.
+     */
+    public void commitBatch() {
+        endChange();
+    }
+
+    /**
+     * Replaces the element at each position in {@code indexes} with the element at the same position
+     * in {@code replacements}, as a single change.
+     */
+    public void setEach(List<Integer> indexes, List<? extends E> replacements) {
+        requireNonNull(replacements);
+        if (indexes.size() != replacements.size()) {
+            throw new IllegalArgumentException("Each index must have exactly one replacement");
+        }
+
+        copyIfShared();
+        beginChange();
+        try {
+            for (int i = 0; i < indexes.size(); i++) {
+                int index = indexes.get(i);
+                E replacement = replacements.get(i);
+                E old = elements.set(index, replacement);
+                record(index, Collections.singletonList(old), Collections.singletonList(replacement));
+                nextSet(index, old);
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Removes the elements at {@code sortedIndexes}, which must be in ascending order, as a single change.
+     * The elements after the first removed element are only moved once.
+     */
+    public void removeEach(int[] sortedIndexes) {
+        requireNonNull(sortedIndexes);
+        if (sortedIndexes.length == 0) {
+            return;
+        }
+
+        copyIfShared();
+        beginChange();
+        try {
+            int kept = sortedIndexes[0];
+            int removed = 0;
+            for (int i = sortedIndexes[0]; i < elements.size(); i++) {
+                if (removed < sortedIndexes.length && sortedIndexes[removed] == i) {
+                    // Positions of removed elements are reported as they are after the earlier removals
+                    record(i - removed, Collections.singletonList(elements.get(i)), Collections.emptyList());
+                    nextRemove(i - removed, elements.get(i));
+                    removed++;
+                } else {
+                    elements.set(kept++, elements.get(i));
+                }
+            }
+            if (removed != sortedIndexes.length) {
+                throw new IndexOutOfBoundsException("Indexes must be in ascending order and within the list");
+            }
+            elements.subList(kept, elements.size()).clear();
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Replaces the contents of the list with {@code col} as a single edit, instead of removing and adding
+     * the elements one at a time.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> col) {
+        requireNonNull(col);
+        replace(0, elements.size(), new ArrayList<>(col));
+        return true;
+    }
+
+    /**
+     * Replaces the elements from {@code from} to {@code to} with {@code replacement}, as a single change.
+     */
+    private void replace(int from, int to, List<? extends E> replacement) {
+        if (from == to && replacement.isEmpty()) {
+            return;
+        }
+        copyIfShared();
+        List<E> replaced = elements.subList(from, to);
+        List<E> removed = new ArrayList<>(replaced);
+        record(from, removed, replacement);
+
+        beginChange();
+        try {
+            replaced.clear();
+            replaced.addAll(replacement);
+            if (removed.isEmpty()) {
+                nextAdd(from, from + replacement.size());
+            } else {
+                nextReplace(from, from + replacement.size(), removed);
+            }
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Gives the list its own copy of the elements if they are shared with a snapshot, so that they can be modified.
+     */
+    private void copyIfShared() {
+        if (snapshot != null) {
+            elements = new ArrayList<>(elements);
+            snapshot = null;
+        }
+    }
+
+    private void record(int index, List<? extends E> removed, List<? extends E> added) {
+        if (removed.equals(added)) {
+            // Nothing changed, including when nothing was removed or added
+            return;
+        }
+        editCount++;
+        ListEdit<E> edit = new ListEdit<>(index, removed, added);
+        LoggedEdit<E> logged = new LoggedEdit<>(edit);
+        lastLogged.next = logged;
+        lastLogged = logged;
+        if (recordedEdits != null) {
+            recordedEdits.add(edit);
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        copyIfShared();
+        elements.add(index, element);
+        record(index, Collections.emptyList(), Collections.singletonList(element));
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        copyIfShared();
+        E old = elements.set(index, element);
+        record(index, Collections.singletonList(old), Collections.singletonList(element));
+        return old;
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        copyIfShared();
+        E old = elements.remove(index);
+        record(index, Collections.singletonList(old), Collections.emptyList());
+        return old;
+    }
+
+    /**
+     * A modification in the log of the list, linked to the next modification made.
+     */
+    private static class LoggedEdit<E> {
+        private final ListEdit<E> edit;
+        // Volatile as the log may be read by another thread than the one modifying the list
+        private volatile LoggedEdit<E> next;
+
+        LoggedEdit(ListEdit<E> edit) {
+            this.edit = edit;
+        }
+    }
+
+    /**
+     * An immutable copy of the elements of the list, which knows the point of the log it was taken at.
+     */
+    private static class Snapshot<E> extends AbstractList<E> implements RandomAccess {
+        private final List<E> elements;
+        private final LoggedEdit<E> lastLogged;
+
+        Snapshot(List<E> elements, LoggedEdit<E> lastLogged) {
+            this.elements = elements;
+            this.lastLogged = lastLogged;
+        }
+
+        @Override
+        public E get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.plannermd.model.util;
+
+import static seedu.plannermd.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable record of a modification to a list, which replaced the elements {@code removed} at {@code index}
+ * with the elements {@code added}.
+ * Only the replaced elements are kept, so the size of an edit does not depend on the size of the list.
+ */
+public final class ListEdit<E> {
+
+    private final int index;
+    private final List<E> removed;
+    private final List<E> added;
+
+    /**
+     * Creates an edit that replaced {@code removed} at {@code index} with {@code added}.
+     */
+    public ListEdit(int index, List<? extends E> removed, List<? extends E> added) {
+        requireAllNonNull(removed, added);
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        this.index = index;
+        this.removed = copyOf(removed);
+        this.added = copyOf(added);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public List<E> getRemoved() {
+        return removed;
+    }
+
+    public List<E> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the edit that reverts this edit.
+     */
+    public ListEdit<E> getInverse() {
+        return new ListEdit<>(index, added, removed);
+    }
+
+    /**
+     * Returns the edits that revert {@code edits}, in the order they have to be made.
+     */
+    public static <E> List<ListEdit<E>> inverseOf(List<ListEdit<E>> edits) {
+        List<ListEdit<E>> inverse = new ArrayList<>(edits.size());
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            inverse.add(edits.get(i).getInverse());
+        }
+        return inverse;
+    }
+
+    /**
+     * Returns the same edit made {@code offset} positions further along the list, such as after elements are
+     * inserted before the position of the edit.
+     */
+    public ListEdit<E> shiftedBy(int offset) {
+        return new ListEdit<>(index + offset, removed, added);
+    }
+
+    /**
+     * Returns {@code edits}, each made {@code offset} positions further along the list.
+     */
+    public static <E> List<ListEdit<E>> shiftAll(List<ListEdit<E>> edits, int offset) {
+        List<ListEdit<E>> shifted = new ArrayList<>(edits.size());
+        for (ListEdit<E> edit : edits) {
+            shifted.add(edit.shiftedBy(offset));
+        }
+        return shifted;
+    }
+
+    private static <E> List<E> copyOf(List<? extends E> elements) {
+        switch (elements.size()) {
+        case 0:
+            return Collections.emptyList();
+        case 1:
+            return Collections.singletonList(elements.get(0));
+        default:
+            return Collections.unmodifiableList(new ArrayList<>(elements));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListEdit // instanceof handles nulls
+                && index == ((ListEdit<?>) other).index
+                && removed.equals(((ListEdit<?>) other).removed)
+                && added.equals(((ListEdit<?>) other).added));
+    }
+
+    @Override
+    public int hashCode() {
+        return (index * 31 + removed.hashCode()) * 31 + added.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "at " + index + " removed " + removed + " added " + added;
+    }
+}
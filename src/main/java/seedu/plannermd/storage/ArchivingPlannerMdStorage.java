@@ -0,0 +1,732 @@
+package seedu.plannermd.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.plannermd.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.plannermd.commons.core.LogsCenter;
+import seedu.plannermd.commons.exceptions.DataConversionException;
+import seedu.plannermd.commons.exceptions.IllegalValueException;
+import seedu.plannermd.commons.util.FileUtil;
+import seedu.plannermd.commons.util.JsonUtil;
+import seedu.plannermd.model.AppointmentArchive;
+import seedu.plannermd.model.PlannerMd;
+import seedu.plannermd.model.PlannerMdEdit;
+import seedu.plannermd.model.ReadOnlyPlannerMd;
+import seedu.plannermd.model.appointment.Appointment;
+import seedu.plannermd.model.doctor.Doctor;
+import seedu.plannermd.model.patient.Patient;
+import seedu.plannermd.model.person.Person;
+import seedu.plannermd.model.person.PersonIdentity;
+import seedu.plannermd.model.util.ListEdit;
+
+/**
+ * A class to access PlannerMd data stored in another {@link PlannerMdStorage}, with the appointments dated more
+ * than a number of days before today kept apart in an archive next to the data file.
+ *
+ * The archived appointments are partitioned by month into files of their own
+ * (e.g. {@code plannermd.json.archive-2022-06}), which are listed by an index file
+ * (e.g. {@code plannermd.json.archive}), which also tells which persons have appointments in each partition.
+ * Only the index is read together with the rest of the data. The data read
+ * comes with an {@link AppointmentArchive} instead, from which only the partitions of the archived appointments
+ * that are needed are read, so that only the recent appointments are read at startup and kept in memory otherwise.
+ * While some archived appointments are not loaded into the data, the archive is only trimmed of the appointments
+ * that were loaded. Once all of them are loaded, each save moves the appointments that have become old enough
+ * into the archive, and only rewrites the partitions whose appointments changed. The changed partitions are found
+ * from the modifications made since the last save and the appointments that have become old enough since, so that
+ * a save does not go through all the archived appointments.
+ */
+public class ArchivingPlannerMdStorage implements PlannerMdStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(ArchivingPlannerMdStorage.class);
+
+    private static final String ARCHIVE_SUFFIX = ".archive";
+    private static final String PARTITION_SEPARATOR = "-";
+
+    private final PlannerMdStorage recentStorage;
+    private final int archiveAfterDays;
+    private final PlannerMdCodec codec;
+    private final Clock clock;
+
+    // The archive of the data file as last read or saved, where the date is null if there is no archive
+    private LocalDate savedArchivedBefore;
+    private final TreeSet<YearMonth> savedPartitions = new TreeSet<>();
+    // The keys of the persons of the saved partitions, where those of partitions written by earlier versions are absent
+    private final Map<YearMonth, Set<Integer>> savedPartitionPersons = new HashMap<>();
+    // The appointments of the saved partitions that are known from being written or read in whole
+    private final Map<YearMonth, List<Appointment>> knownPartitions = new HashMap<>();
+    // The partitions of the data file read in whole since the last save, which may be read on another thread
+    private final Map<YearMonth, List<Appointment>> readPartitions = new ConcurrentHashMap<>();
+    // The data last saved to the data file with all its archived appointments loaded, or null if there is none
+    private ReadOnlyPlannerMd savedWithArchive;
+
+    /**
+     * Creates an {@code ArchivingPlannerMdStorage} that keeps the appointments dated more than
+     * {@code archiveAfterDays} days before today apart from the data in {@code recentStorage}.
+     */
+    public ArchivingPlannerMdStorage(PlannerMdStorage recentStorage, int archiveAfterDays) {
+        this(recentStorage, archiveAfterDays, PlannerMdCodec.DEFAULT);
+    }
+
+    /**
+     * Creates an {@code ArchivingPlannerMdStorage} that writes the partitions of the archive with {@code codec}.
+     */
+    public ArchivingPlannerMdStorage(PlannerMdStorage recentStorage, int archiveAfterDays, PlannerMdCodec codec) {
+        this(recentStorage, archiveAfterDays, codec, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates an {@code ArchivingPlannerMdStorage} that tells the date with {@code clock}.
+     */
+    ArchivingPlannerMdStorage(PlannerMdStorage recentStorage, int archiveAfterDays, Clock clock) {
+        this(recentStorage, archiveAfterDays, PlannerMdCodec.DEFAULT, clock);
+    }
+
+    private ArchivingPlannerMdStorage(PlannerMdStorage recentStorage, int archiveAfterDays, PlannerMdCodec codec,
+                                      Clock clock) {
+        requireNonNull(recentStorage);
+        requireNonNull(codec);
+        requireNonNull(clock);
+        checkArgument(archiveAfterDays >= 0, "The number of days must not be negative");
+        this.recentStorage = recentStorage;
+        this.archiveAfterDays = archiveAfterDays;
+        this.codec = codec;
+        this.clock = clock;
+    }
+
+    @Override
+    public Path getPlannerMdFilePath() {
+        return recentStorage.getPlannerMdFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyPlannerMd> readPlannerMd() throws DataConversionException, IOException {
+        return readPlannerMd(getPlannerMdFilePath());
+    }
+
+    /**
+     * Similar to {@link #readPlannerMd()}.
+     * Only the index of the archive is read.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the data file or the index of its archive is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyPlannerMd> readPlannerMd(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        boolean isDataFile = filePath.equals(getPlannerMdFilePath());
+        Optional<ReadOnlyPlannerMd> recentData = recentStorage.readPlannerMd(filePath);
+        Optional<JsonSerializableAppointmentArchive> jsonArchive = recentData.isPresent()
+                ? JsonUtil.readJsonFile(getArchivePath(filePath), JsonSerializableAppointmentArchive.class)
+                : Optional.empty();
+        if (isDataFile) {
+            savedWithArchive = null;
+            savedArchivedBefore = null;
+            savedPartitions.clear();
+            savedPartitionPersons.clear();
+            knownPartitions.clear();
+            readPartitions.clear();
+        }
+        if (!jsonArchive.isPresent()) {
+            return recentData;
+        }
+
+        LocalDate archivedBefore;
+        List<YearMonth> partitions;
+        Map<YearMonth, Set<Integer>> partitionPersons;
+        try {
+            archivedBefore = jsonArchive.get().getArchivedBefore();
+            partitions = jsonArchive.get().getPartitions();
+            partitionPersons = jsonArchive.get().getPartitionPersons();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in the archive of " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        if (isDataFile) {
+            savedArchivedBefore = archivedBefore;
+            savedPartitions.addAll(partitions);
+            savedPartitionPersons.putAll(partitionPersons);
+        }
+
+        List<Appointment> recentAppointments = recentData.get().getAppointmentList();
+        // An appointment is in both files if saving was interrupted after writing one file but not the other,
+        // in which case the recent file, from which its earliest date on is archived, has the latest copy
+        LocalDate recentFrom = recentAppointments.isEmpty() ? null
+                : recentAppointments.get(0).getAppointmentDate().date;
+        AppointmentArchive archive = new FileAppointmentArchive(filePath, archivedBefore, partitions,
+                partitionPersons, recentFrom, isDataFile ? readPartitions : null);
+        if (recentData.get() instanceof PlannerMd) {
+            // The data was read just now, so the archive is attached to it, and the data can be taken over as a whole
+            ((PlannerMd) recentData.get()).addArchivedAppointments(List.of(), archive);
+            return recentData;
+        }
+        return Optional.of(new PlannerMdView(recentData.get(), 0, archive));
+    }
+
+    @Override
+    public void savePlannerMd(ReadOnlyPlannerMd plannerMd) throws IOException {
+        savePlannerMd(plannerMd, getPlannerMdFilePath());
+    }
+
+    /**
+     * Similar to {@link #savePlannerMd(ReadOnlyPlannerMd)}.
+     * If some archived appointments are not loaded into {@code plannerMd}, the archive it was read from is
+     * copied to {@code filePath} if it is not already there.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void savePlannerMd(ReadOnlyPlannerMd plannerMd, Path filePath) throws IOException {
+        requireNonNull(plannerMd);
+        requireNonNull(filePath);
+
+        boolean isDataFile = filePath.equals(getPlannerMdFilePath());
+        if (isDataFile) {
+            for (YearMonth partition : readPartitions.keySet()) {
+                knownPartitions.put(partition, readPartitions.remove(partition));
+            }
+        }
+        // Set again once the data is saved with all its archived appointments loaded
+        ReadOnlyPlannerMd lastSavedWithArchive = savedWithArchive;
+        if (isDataFile) {
+            savedWithArchive = null;
+        }
+
+        Optional<AppointmentArchive> archive = plannerMd.getAppointmentArchive();
+        if (archive.isPresent()) {
+            recentStorage.savePlannerMd(plannerMd, filePath);
+            if (!isDataFile) {
+                copyArchive(archive.get(), filePath);
+            } else if (savedArchivedBefore != null
+                    && archive.get().getArchivedBefore().isBefore(savedArchivedBefore)) {
+                // The loaded appointments are now saved with the rest of the data
+                trimArchive(archive.get().getArchivedBefore(), filePath);
+            }
+            return;
+        }
+
+        LocalDate archivedBefore = LocalDate.now(clock).minusDays(archiveAfterDays);
+        ReadOnlyPlannerMd snapshot = plannerMd.getSnapshot();
+        List<Appointment> appointments = snapshot.getAppointmentList();
+        int recentFrom = findFirstNotBefore(appointments, archivedBefore);
+        ReadOnlyPlannerMd recentData = new PlannerMdView(snapshot, recentFrom, null);
+
+        if (!isDataFile) {
+            Map<YearMonth, List<Appointment>> partitions = partitionByMonth(appointments.subList(0, recentFrom));
+            recentStorage.savePlannerMd(recentData, filePath);
+            Map<YearMonth, Set<Integer>> partitionPersons = new HashMap<>();
+            for (Map.Entry<YearMonth, List<Appointment>> partition : partitions.entrySet()) {
+                writePartition(filePath, partition.getKey(), partition.getValue());
+                partitionPersons.put(partition.getKey(),
+                        JsonSerializableAppointmentArchive.getPersonKeys(partition.getValue()));
+            }
+            writeIndex(filePath, archivedBefore, partitions.keySet(), partitionPersons);
+            return;
+        }
+
+        Optional<Set<YearMonth>> changedMonths = findChangedMonths(lastSavedWithArchive, snapshot, archivedBefore);
+        Set<YearMonth> months;
+        Map<YearMonth, List<Appointment>> partitions;
+        if (changedMonths.isPresent()) {
+            months = changedMonths.get();
+            partitions = partitionMonths(appointments, recentFrom, months);
+        } else {
+            partitions = partitionByMonth(appointments.subList(0, recentFrom));
+            months = new TreeSet<>(savedPartitions);
+            months.addAll(partitions.keySet());
+        }
+
+        // When appointments are moved into the archive, it is written first, and the other way round otherwise,
+        // so that an interrupted save leaves the moved appointments in both files rather than in neither
+        boolean isArchiveFirst = savedArchivedBefore == null || archivedBefore.isAfter(savedArchivedBefore);
+        if (!isArchiveFirst) {
+            recentStorage.savePlannerMd(recentData, filePath);
+        }
+        updateArchive(archivedBefore, months, partitions, filePath);
+        if (isArchiveFirst) {
+            recentStorage.savePlannerMd(recentData, filePath);
+        }
+        savedWithArchive = snapshot;
+    }
+
+    /**
+     * Returns the months whose partitions may have changed since {@code lastSaved}, the data last saved with all its
+     * archived appointments loaded, was saved, if they are known: those of the archived appointments modified since,
+     * and of the appointments that have become old enough to be archived since. Only those appointments are visited.
+     */
+    private Optional<Set<YearMonth>> findChangedMonths(ReadOnlyPlannerMd lastSaved, ReadOnlyPlannerMd snapshot,
+                                                       LocalDate archivedBefore) {
+        if (lastSaved == null || savedArchivedBefore == null || archivedBefore.isBefore(savedArchivedBefore)) {
+            return Optional.empty();
+        }
+        Optional<PlannerMdEdit> edit = snapshot.getEditSince(lastSaved);
+        if (!edit.isPresent()) {
+            return Optional.empty();
+        }
+
+        Set<YearMonth> months = new TreeSet<>();
+        for (ListEdit<Appointment> appointmentEdit : edit.get().getAppointmentEdits()) {
+            addArchivedMonths(months, appointmentEdit.getRemoved(), archivedBefore);
+            addArchivedMonths(months, appointmentEdit.getAdded(), archivedBefore);
+        }
+        List<Appointment> appointments = snapshot.getAppointmentList();
+        int newlyArchivedFrom = findFirstNotBefore(appointments, savedArchivedBefore);
+        int recentFrom = findFirstNotBefore(appointments, archivedBefore);
+        addArchivedMonths(months, appointments.subList(newlyArchivedFrom, recentFrom), archivedBefore);
+        return Optional.of(months);
+    }
+
+    private static void addArchivedMonths(Set<YearMonth> months, List<Appointment> appointments,
+                                          LocalDate archivedBefore) {
+        for (Appointment appointment : appointments) {
+            LocalDate date = appointment.getAppointmentDate().date;
+            if (date.isBefore(archivedBefore)) {
+                months.add(YearMonth.from(date));
+            }
+        }
+    }
+
+    /**
+     * Updates the archive of the data file at {@code filePath} to hold {@code partitions}, the appointments before
+     * {@code archivedBefore} in each of {@code months}, where a month without a partition has no appointments.
+     * The partitions of the other months are kept as they are. Only the partitions whose appointments changed are
+     * written.
+     */
+    private void updateArchive(LocalDate archivedBefore, Set<YearMonth> months,
+                               Map<YearMonth, List<Appointment>> partitions, Path filePath) throws IOException {
+        Set<YearMonth> newPartitions = new TreeSet<>(savedPartitions);
+        boolean isPersonsChanged = false;
+        int writtenPartitions = 0;
+        for (YearMonth month : months) {
+            List<Appointment> appointments = partitions.get(month);
+            if (appointments == null) {
+                newPartitions.remove(month);
+                continue;
+            }
+            newPartitions.add(month);
+            Set<Integer> personKeys = JsonSerializableAppointmentArchive.getPersonKeys(appointments);
+            isPersonsChanged |= !personKeys.equals(savedPartitionPersons.put(month, personKeys));
+            if (savedPartitions.contains(month) && isSameAppointments(knownPartitions.get(month), appointments)) {
+                continue;
+            }
+            writePartition(filePath, month, appointments);
+            knownPartitions.put(month, appointments);
+            writtenPartitions++;
+        }
+
+        boolean isIndexChanged = !newPartitions.equals(savedPartitions) || isPersonsChanged
+                || (savedArchivedBefore != null && !archivedBefore.equals(savedArchivedBefore));
+        if (isIndexChanged) {
+            writeIndex(filePath, archivedBefore, newPartitions, savedPartitionPersons);
+            savedArchivedBefore = archivedBefore;
+        }
+        for (YearMonth month : savedPartitions) {
+            if (!newPartitions.contains(month)) {
+                Files.deleteIfExists(getPartitionPath(filePath, month));
+                knownPartitions.remove(month);
+                savedPartitionPersons.remove(month);
+            }
+        }
+        savedPartitions.clear();
+        savedPartitions.addAll(newPartitions);
+        if (writtenPartitions > 0) {
+            logger.fine("Rewrote " + writtenPartitions + " of " + newPartitions.size() + " archive partitions");
+        }
+    }
+
+    /**
+     * Removes the appointments from {@code archivedBefore} on, which are saved with the rest of the data,
+     * from the archive of the data file at {@code filePath}. Only the partition of {@code archivedBefore} is read.
+     */
+    private void trimArchive(LocalDate archivedBefore, Path filePath) throws IOException {
+        YearMonth splitMonth = YearMonth.from(archivedBefore);
+        Set<YearMonth> keptPartitions = new TreeSet<>(savedPartitions.headSet(splitMonth));
+        if (savedPartitions.contains(splitMonth) && !archivedBefore.equals(splitMonth.atDay(1))) {
+            List<Appointment> keptAppointments = new ArrayList<>();
+            for (Appointment appointment : readPartition(filePath, splitMonth)) {
+                if (appointment.getAppointmentDate().date.isBefore(archivedBefore)) {
+                    keptAppointments.add(appointment);
+                }
+            }
+            if (!keptAppointments.isEmpty()) {
+                writePartition(filePath, splitMonth, keptAppointments);
+                keptPartitions.add(splitMonth);
+                savedPartitionPersons.put(splitMonth, JsonSerializableAppointmentArchive.getPersonKeys(
+                        keptAppointments));
+            }
+        }
+
+        writeIndex(filePath, archivedBefore, keptPartitions, savedPartitionPersons);
+        for (YearMonth month : savedPartitions) {
+            if (!keptPartitions.contains(month)) {
+                Files.deleteIfExists(getPartitionPath(filePath, month));
+            }
+        }
+        savedArchivedBefore = archivedBefore;
+        savedPartitions.retainAll(keptPartitions);
+        savedPartitionPersons.keySet().retainAll(keptPartitions);
+        knownPartitions.keySet().retainAll(keptPartitions);
+        knownPartitions.remove(splitMonth);
+    }
+
+    /**
+     * Copies the partitions of {@code archive} to the archive of the data file at {@code filePath}, if it is the
+     * archive of another data file.
+     */
+    private void copyArchive(AppointmentArchive archive, Path filePath) throws IOException {
+        if (!(archive instanceof FileAppointmentArchive)) {
+            logger.warning("Archived appointments not saved to " + filePath + ", as they are not in a file");
+            return;
+        }
+
+        FileAppointmentArchive fileArchive = (FileAppointmentArchive) archive;
+        if (fileArchive.dataFilePath.equals(filePath)) {
+            return;
+        }
+        for (YearMonth month : fileArchive.partitions) {
+            Path partitionPath = getPartitionPath(fileArchive.dataFilePath, month);
+            if (Files.exists(partitionPath)) {
+                Files.copy(partitionPath, getPartitionPath(filePath, month), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        writeIndex(filePath, fileArchive.archivedBefore, fileArchive.partitions, fileArchive.partitionPersons);
+    }
+
+    private static void writeIndex(Path filePath, LocalDate archivedBefore, Collection<YearMonth> partitions,
+                                   Map<YearMonth, Set<Integer>> partitionPersons) throws IOException {
+        Path indexPath = getArchivePath(filePath);
+        FileUtil.createParentDirsOfFile(indexPath);
+        JsonUtil.saveJsonFile(new JsonSerializableAppointmentArchive(archivedBefore, partitions, partitionPersons),
+                indexPath);
+    }
+
+    private void writePartition(Path filePath, YearMonth month, List<Appointment> appointments) throws IOException {
+        Path partitionPath = getPartitionPath(filePath, month);
+        FileUtil.createParentDirsOfFile(partitionPath);
+        codec.write(JsonSerializableAppointmentArchive.toPartition(appointments), partitionPath, false);
+    }
+
+    /**
+     * Reads the appointments in the partition of {@code month}, which refer to the patients and doctors kept in
+     * the partition.
+     */
+    private static List<Appointment> readPartition(Path filePath, YearMonth month) throws IOException {
+        Path partitionPath = getPartitionPath(filePath, month);
+        try {
+            Optional<JsonSerializablePlannerMd> jsonPartition = PlannerMdCodec.read(
+                    partitionPath, JsonSerializablePlannerMd.class);
+            if (!jsonPartition.isPresent()) {
+                logger.warning("Archive partition " + partitionPath + " not found");
+                return Collections.emptyList();
+            }
+            return jsonPartition.get().toModelType().getAppointmentList();
+        } catch (DataConversionException | IllegalValueException e) {
+            throw new IOException("Archive partition " + partitionPath + " is not in the correct format", e);
+        }
+    }
+
+    /**
+     * Groups {@code appointments}, which are sorted by start time, by the month they are dated in.
+     */
+    private static Map<YearMonth, List<Appointment>> partitionByMonth(List<Appointment> appointments) {
+        Map<YearMonth, List<Appointment>> partitions = new TreeMap<>();
+        for (Appointment appointment : appointments) {
+            partitions.computeIfAbsent(YearMonth.from(appointment.getAppointmentDate().date),
+                    unused -> new ArrayList<>()).add(appointment);
+        }
+        return partitions;
+    }
+
+    /**
+     * Groups the appointments in {@code appointments}, which are sorted by start time, that are dated in
+     * {@code months} and come before {@code recentFrom}, by the month they are dated in. Only the appointments of
+     * those months are visited.
+     */
+    private static Map<YearMonth, List<Appointment>> partitionMonths(List<Appointment> appointments, int recentFrom,
+                                                                     Set<YearMonth> months) {
+        Map<YearMonth, List<Appointment>> partitions = new TreeMap<>();
+        for (YearMonth month : months) {
+            int from = findFirstNotBefore(appointments, month.atDay(1));
+            int to = Math.min(findFirstNotBefore(appointments, month.plusMonths(1).atDay(1)), recentFrom);
+            if (from < to) {
+                partitions.put(month, new ArrayList<>(appointments.subList(from, to)));
+            }
+        }
+        return partitions;
+    }
+
+    /**
+     * Returns the position of the first appointment in {@code appointments}, which are sorted by start time,
+     * that is not dated before {@code date}, or the size of the list if there is none.
+     */
+    private static int findFirstNotBefore(List<Appointment> appointments, LocalDate date) {
+        long epochDay = date.toEpochDay();
+        int low = 0;
+        int high = appointments.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (appointments.get(middle).getAppointmentDate().getEpochDay() < epochDay) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns true if {@code known} holds the same appointment objects as {@code appointments}. The appointments
+     * are immutable, so the same objects are only found if the archived appointments were not modified.
+     */
+    private static boolean isSameAppointments(List<Appointment> known, List<Appointment> appointments) {
+        if (known == null || known.size() != appointments.size()) {
+            return false;
+        }
+        for (int i = 0; i < known.size(); i++) {
+            if (known.get(i) != appointments.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Path getArchivePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ARCHIVE_SUFFIX);
+    }
+
+    private static Path getPartitionPath(Path filePath, YearMonth month) {
+        return filePath.resolveSibling(filePath.getFileName() + ARCHIVE_SUFFIX + PARTITION_SEPARATOR + month);
+    }
+
+    /**
+     * The archive of a data file, holding the appointments before a date in some of its partitions.
+     */
+    private static class FileAppointmentArchive implements AppointmentArchive {
+        private final Path dataFilePath;
+        private final LocalDate archivedBefore;
+        private final List<YearMonth> partitions;
+        // The keys of the persons of each partition whose persons are known
+        private final Map<YearMonth, Set<Integer>> partitionPersons;
+        // The appointments from this date on are in the data file, or null if the data file has no appointments
+        private final LocalDate recentFrom;
+        // Where the partitions read in whole are recorded, or null if they are not recorded
+        private final Map<YearMonth, List<Appointment>> readPartitions;
+
+        FileAppointmentArchive(Path dataFilePath, LocalDate archivedBefore, List<YearMonth> partitions,
+                               Map<YearMonth, Set<Integer>> partitionPersons, LocalDate recentFrom,
+                               Map<YearMonth, List<Appointment>> readPartitions) {
+            this.dataFilePath = dataFilePath;
+            this.archivedBefore = archivedBefore;
+            this.partitions = partitions;
+            this.partitionPersons = partitionPersons;
+            this.recentFrom = recentFrom;
+            this.readPartitions = readPartitions;
+        }
+
+        @Override
+        public LocalDate getArchivedBefore() {
+            return archivedBefore;
+        }
+
+        /**
+         * Returns the first day of the earliest partition that may hold appointments of {@code person}, as told by
+         * the index, without reading any partition.
+         */
+        @Override
+        public LocalDate getFirstDateWith(Person person) {
+            int personKey = JsonSerializableAppointmentArchive.toPersonKey(person);
+            for (YearMonth month : partitions) {
+                Set<Integer> personKeys = partitionPersons.get(month);
+                if (personKeys == null || personKeys.contains(personKey)) {
+                    return month.atDay(1);
+                }
+            }
+            return archivedBefore;
+        }
+
+        /**
+         * Reads the archived appointments from {@code from} on, from the partitions of the months from that of
+         * {@code from} on. The appointments are given the patients and doctors of the same identities in
+         * {@code patients} and {@code doctors}, as the details of the persons in the data file are the latest.
+         * Appointments with persons no longer in the data file were left behind by an interrupted save,
+         * and are left out.
+         */
+        @Override
+        public List<Appointment> readAppointments(LocalDate from, List<Patient> patients, List<Doctor> doctors)
+                throws DataConversionException {
+            Map<PersonIdentity, Patient> patientsByIdentity = getByIdentity(patients);
+            Map<PersonIdentity, Doctor> doctorsByIdentity = getByIdentity(doctors);
+            List<Appointment> linkedAppointments = new ArrayList<>();
+            for (YearMonth month : partitions) {
+                if (month.atEndOfMonth().isBefore(from)) {
+                    continue;
+                }
+
+                List<Appointment> archivedAppointments;
+                try {
+                    archivedAppointments = readPartition(dataFilePath, month);
+                } catch (IOException e) {
+                    logger.info(e.getMessage());
+                    throw new DataConversionException(e);
+                }
+                int linkedBefore = linkedAppointments.size();
+                for (Appointment appointment : archivedAppointments) {
+                    LocalDate date = appointment.getAppointmentDate().date;
+                    if (date.isBefore(from) || !date.isBefore(archivedBefore)
+                            || (recentFrom != null && !date.isBefore(recentFrom))) {
+                        continue;
+                    }
+                    Patient patient = patientsByIdentity.get(PersonIdentity.of(appointment.getPatient()));
+                    Doctor doctor = doctorsByIdentity.get(PersonIdentity.of(appointment.getDoctor()));
+                    if (patient == null || doctor == null) {
+                        logger.warning("Leaving out archived appointment with a deleted person: " + appointment);
+                        continue;
+                    }
+                    linkedAppointments.add(new Appointment(patient, doctor, appointment.getAppointmentDate(),
+                            appointment.getSession(), appointment.getRemark()));
+                }
+
+                // A partition whose appointments are all read is known to be saved with those appointments
+                if (readPartitions != null && linkedAppointments.size() - linkedBefore == archivedAppointments.size()) {
+                    readPartitions.put(month, new ArrayList<>(
+                            linkedAppointments.subList(linkedBefore, linkedAppointments.size())));
+                }
+            }
+            return linkedAppointments;
+        }
+
+        @Override
+        public Optional<AppointmentArchive> before(LocalDate date) {
+            LocalDate remainingBefore = date.isBefore(archivedBefore) ? date : archivedBefore;
+            List<YearMonth> remainingPartitions = new ArrayList<>();
+            for (YearMonth month : partitions) {
+                if (month.atDay(1).isBefore(remainingBefore)) {
+                    remainingPartitions.add(month);
+                }
+            }
+            return remainingPartitions.isEmpty() ? Optional.empty() : Optional.of(new FileAppointmentArchive(
+                    dataFilePath, remainingBefore, remainingPartitions, partitionPersons, recentFrom,
+                    readPartitions));
+        }
+
+        private static <T extends Person> Map<PersonIdentity, T> getByIdentity(List<T> persons) {
+            Map<PersonIdentity, T> byIdentity = new HashMap<>();
+            for (T person : persons) {
+                byIdentity.put(PersonIdentity.of(person), person);
+            }
+            return byIdentity;
+        }
+    }
+
+    /**
+     * A view of the lists of some data with the appointments from a position on, and the given archive instead of
+     * its own.
+     */
+    private static class PlannerMdView implements ReadOnlyPlannerMd {
+        private final ReadOnlyPlannerMd data;
+        private final int appointmentsFrom;
+        private final ObservableList<Appointment> appointments;
+        private final AppointmentArchive archive;
+
+        PlannerMdView(ReadOnlyPlannerMd data, int appointmentsFrom, AppointmentArchive archive) {
+            List<Appointment> dataAppointments = data.getAppointmentList();
+            this.data = data;
+            this.appointmentsFrom = appointmentsFrom;
+            this.appointments = FXCollections.unmodifiableObservableList(FXCollections.observableList(
+                    dataAppointments.subList(appointmentsFrom, dataAppointments.size())));
+            this.archive = archive;
+        }
+
+        @Override
+        public ObservableList<Patient> getPatientList() {
+            return data.getPatientList();
+        }
+
+        @Override
+        public ObservableList<Doctor> getDoctorList() {
+            return data.getDoctorList();
+        }
+
+        @Override
+        public ObservableList<Appointment> getAppointmentList() {
+            return appointments;
+        }
+
+        @Override
+        public long getVersion() {
+            return data.getVersion();
+        }
+
+        @Override
+        public Optional<AppointmentArchive> getAppointmentArchive() {
+            return Optional.ofNullable(archive);
+        }
+
+        @Override
+        public ReadOnlyPlannerMd getSnapshot() {
+            ReadOnlyPlannerMd snapshot = data.getSnapshot();
+            return snapshot == data ? this : new PlannerMdView(snapshot, appointmentsFrom, archive);
+        }
+
+        /**
+         * Returns the modifications that turned {@code earlier} into this view, which are known if the data of
+         * both views are snapshots of the same data. The modifications of the appointments before the view are
+         * left out, and the appointments that left the view at its start are removed.
+         */
+        @Override
+        public Optional<PlannerMdEdit> getEditSince(ReadOnlyPlannerMd earlier) {
+            ReadOnlyPlannerMd earlierData = earlier instanceof PlannerMdView ? ((PlannerMdView) earlier).data : earlier;
+            int from = earlier instanceof PlannerMdView ? ((PlannerMdView) earlier).appointmentsFrom : 0;
+            Optional<PlannerMdEdit> edit = data.getEditSince(earlierData);
+            if (!edit.isPresent()) {
+                return Optional.empty();
+            }
+
+            List<ListEdit<Appointment>> viewEdits = new ArrayList<>();
+            for (ListEdit<Appointment> appointmentEdit : edit.get().getAppointmentEdits()) {
+                int index = appointmentEdit.getIndex();
+                int sizeChange = appointmentEdit.getAdded().size() - appointmentEdit.getRemoved().size();
+                if (index >= from) {
+                    viewEdits.add(appointmentEdit.shiftedBy(-from));
+                } else if (index + appointmentEdit.getRemoved().size() <= from) {
+                    from += sizeChange;
+                } else {
+                    // The edit spans the start of the view
+                    return Optional.empty();
+                }
+            }
+            if (from > appointmentsFrom) {
+                return Optional.empty();
+            }
+            if (from < appointmentsFrom) {
+                // The earliest appointments in view have been archived since
+                List<Appointment> archived = data.getAppointmentList().subList(from, appointmentsFrom);
+                viewEdits.add(new ListEdit<>(0, archived, List.of()));
+            }
+            return Optional.of(new PlannerMdEdit(edit.get().getPatientEdits(), edit.get().getDoctorEdits(),
+                    viewEdits));
+        }
+    }
+}
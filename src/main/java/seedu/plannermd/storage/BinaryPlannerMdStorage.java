@@ -0,0 +1,413 @@
+package seedu.plannermd.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.plannermd.commons.core.LogsCenter;
+import seedu.plannermd.commons.exceptions.DataConversionException;
+import seedu.plannermd.commons.exceptions.IllegalValueException;
+import seedu.plannermd.commons.util.FileUtil;
+import seedu.plannermd.model.ReadOnlyPlannerMd;
+import seedu.plannermd.model.appointment.Appointment;
+import seedu.plannermd.model.appointment.AppointmentDate;
+import seedu.plannermd.model.appointment.Duration;
+import seedu.plannermd.model.appointment.Session;
+import seedu.plannermd.model.doctor.Doctor;
+import seedu.plannermd.model.patient.Patient;
+import seedu.plannermd.model.person.Person;
+import seedu.plannermd.model.person.PersonIdentity;
+import seedu.plannermd.model.tag.Tag;
+
+/**
+ * A class to access PlannerMd data stored as a binary file on the hard disk, which is read by mapping it into
+ * memory instead of parsing it.
+ *
+ * The file starts with a header holding the format version and a directory of the offsets of its sections.
+ * Every string is stored once in a string table, and patients, doctors and appointments are stored as records
+ * of a fixed width that refer to their strings by position in the table, so that each record is read straight
+ * from its offset. The records are read into the same adapted records as a json data file, and are validated
+ * in the same way, except that appointment dates and times are stored as numbers and are checked as numbers
+ * instead of being formatted into text and parsed again. Each string is only decoded when a record uses it.
+ */
+public class BinaryPlannerMdStorage implements PlannerMdStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data file version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary data file is cut off or corrupted.";
+
+    public static final int CURRENT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryPlannerMdStorage.class);
+
+    // "PMDB" in ASCII, which no json file starts with
+    private static final int MAGIC = 0x504D4442;
+    private static final int HEADER_BYTES = 52;
+    private static final int PERSON_RECORD_BYTES = 8 * Integer.BYTES;
+    private static final int PATIENT_RECORD_BYTES = PERSON_RECORD_BYTES + Integer.BYTES;
+    private static final int APPOINTMENT_RECORD_BYTES = 4 * Integer.BYTES + 2 * Short.BYTES;
+    private static final int NO_PERSON = -1;
+    private static final long NO_JOURNAL_SEQUENCE = -1;
+
+    private final Path filePath;
+
+    public BinaryPlannerMdStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getPlannerMdFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyPlannerMd> readPlannerMd() throws DataConversionException {
+        return readPlannerMd(filePath);
+    }
+
+    /**
+     * Similar to {@link #readPlannerMd()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyPlannerMd> readPlannerMd(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        Optional<JsonSerializablePlannerMd> plannerMd = readFile(filePath);
+        if (!plannerMd.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(plannerMd.get().toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void savePlannerMd(ReadOnlyPlannerMd plannerMd) throws IOException {
+        savePlannerMd(plannerMd, filePath);
+    }
+
+    /**
+     * Similar to {@link #savePlannerMd(ReadOnlyPlannerMd)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void savePlannerMd(ReadOnlyPlannerMd plannerMd, Path filePath) throws IOException {
+        requireNonNull(plannerMd);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        writeFile(plannerMd.getPatientList(), plannerMd.getDoctorList(), plannerMd.getAppointmentList(), null,
+                filePath);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and is a binary data file, rather than a json one.
+     */
+    static boolean isBinaryFile(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+            while (magic.hasRemaining() && channel.read(magic) >= 0) {
+                // Reads until the magic number is read or the file ends
+            }
+            return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+        }
+    }
+
+    /**
+     * Reads the binary data file at {@code filePath} into the same adapted records as a json data file.
+     * Returns an empty {@code Optional} if there is no file at {@code filePath}.
+     *
+     * @throws DataConversionException if the file cannot be read or is not in the correct format.
+     */
+    static Optional<JsonSerializablePlannerMd> readFile(Path filePath) throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Binary data file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.of(new Reader(buffer).read());
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading from binary data file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException
+                | IllegalArgumentException e) {
+            logger.warning("Error reading from binary data file " + filePath + ": " + e);
+            throw new DataConversionException(new IllegalValueException(MESSAGE_CORRUPTED_FILE));
+        }
+    }
+
+    /**
+     * Writes the given lists of a PlannerMd to a binary data file at {@code filePath}, stamped with the sequence
+     * number of the last journal record that they include, if they are a snapshot of a
+     * {@link JournalPlannerMdStorage}. The file is replaced atomically.
+     *
+     * @param journalSequence null if the lists are not a snapshot of a {@code JournalPlannerMdStorage}.
+     */
+    static void writeFile(List<Patient> patients, List<Doctor> doctors, List<Appointment> appointments,
+                          Long journalSequence, Path filePath) throws IOException {
+        FileUtil.writeToFile(filePath, out -> write(patients, doctors, appointments, journalSequence, out));
+    }
+
+    /**
+     * Writes the given lists of a PlannerMd to {@code out} in the binary format, in the same way as
+     * {@link #writeFile}.
+     */
+    static void write(List<Patient> patients, List<Doctor> doctors, List<Appointment> appointments,
+                      Long journalSequence, OutputStream out) throws IOException {
+        ByteBuffer buffer = new Writer(patients, doctors, appointments, journalSequence).write();
+        out.write(buffer.array(), 0, buffer.limit());
+    }
+
+    /**
+     * Lays out the lists of a PlannerMd in the binary format.
+     */
+    private static class Writer {
+        private final List<Patient> patients;
+        private final List<Doctor> doctors;
+        private final List<Appointment> appointments;
+        private final Long journalSequence;
+        private final Map<String, Integer> stringIds = new LinkedHashMap<>();
+        private final List<Integer> tagIds = new ArrayList<>();
+
+        Writer(List<Patient> patients, List<Doctor> doctors, List<Appointment> appointments, Long journalSequence) {
+            this.patients = patients;
+            this.doctors = doctors;
+            this.appointments = appointments;
+            this.journalSequence = journalSequence;
+        }
+
+        ByteBuffer write() {
+            ByteBuffer patientRecords = ByteBuffer.allocate(patients.size() * PATIENT_RECORD_BYTES);
+            for (Patient patient : patients) {
+                putPerson(patientRecords, patient);
+                patientRecords.putInt(getStringId(patient.getRisk().toString()));
+            }
+            ByteBuffer doctorRecords = ByteBuffer.allocate(doctors.size() * PERSON_RECORD_BYTES);
+            for (Doctor doctor : doctors) {
+                putPerson(doctorRecords, doctor);
+            }
+
+            Map<PersonIdentity, Integer> patientIds = JsonSerializablePlannerMd.getIds(patients);
+            Map<PersonIdentity, Integer> doctorIds = JsonSerializablePlannerMd.getIds(doctors);
+            ByteBuffer appointmentRecords = ByteBuffer.allocate(appointments.size() * APPOINTMENT_RECORD_BYTES);
+            for (Appointment appointment : appointments) {
+                // An appointment whose patient or doctor is not in the lists is reported as invalid when read back
+                Integer patientId = JsonSerializablePlannerMd.getId(patientIds, patients, appointment.getPatient());
+                Integer doctorId = JsonSerializablePlannerMd.getId(doctorIds, doctors, appointment.getDoctor());
+                appointmentRecords.putInt(patientId == null ? NO_PERSON : patientId);
+                appointmentRecords.putInt(doctorId == null ? NO_PERSON : doctorId);
+                appointmentRecords.putInt(Math.toIntExact(appointment.getAppointmentDate().getEpochDay()));
+                appointmentRecords.putShort((short) appointment.getSession().getStartMinute());
+                appointmentRecords.putShort((short) appointment.getSession().getMinutes().intValue());
+                appointmentRecords.putInt(getStringId(appointment.getRemark().value));
+            }
+
+            List<byte[]> strings = new ArrayList<>(stringIds.size());
+            int stringBytes = 0;
+            for (String string : stringIds.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                strings.add(bytes);
+                stringBytes += bytes.length;
+            }
+
+            int stringsOffset = HEADER_BYTES;
+            int tagsOffset = stringsOffset + (strings.size() + 1) * Integer.BYTES + stringBytes;
+            int patientsOffset = tagsOffset + tagIds.size() * Integer.BYTES;
+            int doctorsOffset = patientsOffset + patientRecords.capacity();
+            int appointmentsOffset = doctorsOffset + doctorRecords.capacity();
+            ByteBuffer buffer = ByteBuffer.allocate(appointmentsOffset + appointmentRecords.capacity());
+
+            buffer.putInt(MAGIC).putInt(CURRENT_VERSION)
+                    .putLong(journalSequence == null ? NO_JOURNAL_SEQUENCE : journalSequence)
+                    .putInt(strings.size()).putInt(stringsOffset)
+                    .putInt(tagsOffset)
+                    .putInt(patients.size()).putInt(patientsOffset)
+                    .putInt(doctors.size()).putInt(doctorsOffset)
+                    .putInt(appointments.size()).putInt(appointmentsOffset);
+
+            // The string table is the end offset of each string, followed by the strings laid end to end
+            int stringEnd = 0;
+            buffer.putInt(stringEnd);
+            for (byte[] bytes : strings) {
+                stringEnd += bytes.length;
+                buffer.putInt(stringEnd);
+            }
+            strings.forEach(buffer::put);
+            tagIds.forEach(buffer::putInt);
+            buffer.put(patientRecords.array()).put(doctorRecords.array()).put(appointmentRecords.array());
+            buffer.flip();
+            return buffer;
+        }
+
+        private void putPerson(ByteBuffer records, Person person) {
+            records.putInt(getStringId(person.getName().fullName));
+            records.putInt(getStringId(person.getPhone().value));
+            records.putInt(getStringId(person.getEmail().value));
+            records.putInt(getStringId(person.getAddress().value));
+            records.putInt(getStringId(person.getBirthDate().toString()));
+            records.putInt(getStringId(person.getRemark().value));
+            records.putInt(tagIds.size());
+            records.putInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                tagIds.add(getStringId(tag.tagName));
+            }
+        }
+
+        private int getStringId(String string) {
+            return stringIds.computeIfAbsent(string, unused -> stringIds.size());
+        }
+    }
+
+    /**
+     * Reads the lists of a PlannerMd from a buffer in the binary format.
+     */
+    private static class Reader {
+        private final ByteBuffer buffer;
+        // The decoded strings, which are null until a record uses them
+        private String[] strings;
+        private int stringsOffset;
+        private int tagsOffset;
+
+        Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        JsonSerializablePlannerMd read() throws IllegalValueException {
+            if (buffer.limit() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            int version = buffer.getInt(4);
+            if (version > CURRENT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            long journalSequence = buffer.getLong(8);
+            int stringCount = buffer.getInt(16);
+            stringsOffset = buffer.getInt(20);
+            tagsOffset = buffer.getInt(24);
+            int patientCount = buffer.getInt(28);
+            int patientsOffset = buffer.getInt(32);
+            int doctorCount = buffer.getInt(36);
+            int doctorsOffset = buffer.getInt(40);
+            int appointmentCount = buffer.getInt(44);
+            int appointmentsOffset = buffer.getInt(48);
+
+            strings = new String[stringCount];
+
+            List<JsonAdaptedPatient> patients = new ArrayList<>(patientCount);
+            for (int i = 0; i < patientCount; i++) {
+                int offset = patientsOffset + i * PATIENT_RECORD_BYTES;
+                patients.add(new JsonAdaptedPatient(getString(offset), getString(offset + 4),
+                        getString(offset + 8), getString(offset + 12), getString(offset + 16),
+                        getString(offset + 20), getTags(offset + 24), getString(offset + PERSON_RECORD_BYTES)));
+            }
+            List<JsonAdaptedDoctor> doctors = new ArrayList<>(doctorCount);
+            for (int i = 0; i < doctorCount; i++) {
+                int offset = doctorsOffset + i * PERSON_RECORD_BYTES;
+                doctors.add(new JsonAdaptedDoctor(getString(offset), getString(offset + 4),
+                        getString(offset + 8), getString(offset + 12), getString(offset + 16),
+                        getString(offset + 20), getTags(offset + 24)));
+            }
+            List<JsonAdaptedAppointment> appointments = new ArrayList<>(appointmentCount);
+            for (int i = 0; i < appointmentCount; i++) {
+                int offset = appointmentsOffset + i * APPOINTMENT_RECORD_BYTES;
+                appointments.add(new MappedAppointment(buffer.getInt(offset), buffer.getInt(offset + 4),
+                        buffer.getInt(offset + 8), buffer.getShort(offset + 12), buffer.getShort(offset + 14),
+                        getString(offset + 16)));
+            }
+
+            return new JsonSerializablePlannerMd(JsonSerializablePlannerMd.CURRENT_VERSION, patients, doctors,
+                    appointments, journalSequence == NO_JOURNAL_SEQUENCE ? null : journalSequence);
+        }
+
+        private String getString(int offset) {
+            return getStringById(buffer.getInt(offset));
+        }
+
+        private String getStringById(int id) {
+            if (strings[id] == null) {
+                int start = buffer.getInt(stringsOffset + id * Integer.BYTES);
+                int end = buffer.getInt(stringsOffset + (id + 1) * Integer.BYTES);
+                byte[] bytes = new byte[end - start];
+                int bytesOffset = stringsOffset + (strings.length + 1) * Integer.BYTES;
+                ((ByteBuffer) buffer.duplicate().position(bytesOffset + start)).get(bytes);
+                strings[id] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return strings[id];
+        }
+
+        private List<JsonAdaptedTag> getTags(int offset) {
+            int start = buffer.getInt(offset);
+            JsonAdaptedTag[] tags = new JsonAdaptedTag[buffer.getInt(offset + 4)];
+            for (int i = 0; i < tags.length; i++) {
+                tags[i] = new JsonAdaptedTag(getStringById(buffer.getInt(tagsOffset + (start + i) * Integer.BYTES)));
+            }
+            return Arrays.asList(tags);
+        }
+    }
+
+    /**
+     * An appointment record read from a binary data file, whose date and session are built straight from the
+     * numbers stored in the record.
+     */
+    private static class MappedAppointment extends JsonAdaptedAppointment {
+        private final int epochDay;
+        private final int startMinute;
+        private final int minutes;
+
+        MappedAppointment(int patientId, int doctorId, int epochDay, int startMinute, int minutes, String remark) {
+            super(null, null, patientId, doctorId, null, null, remark);
+            this.epochDay = epochDay;
+            this.startMinute = startMinute;
+            this.minutes = minutes;
+        }
+
+        @Override
+        AppointmentDate toModelDate() throws IllegalValueException {
+            if (!AppointmentDate.isValidEpochDay(epochDay)) {
+                throw new IllegalValueException(AppointmentDate.MESSAGE_CONSTRAINTS);
+            }
+            return new AppointmentDate(epochDay);
+        }
+
+        @Override
+        Session toModelSession() throws IllegalValueException {
+            if (!Session.isValidStartMinute(startMinute)) {
+                throw new IllegalValueException(Session.MESSAGE_CONSTRAINTS);
+            }
+            if (!Duration.isValidDuration(minutes)) {
+                throw new IllegalValueException(Duration.MESSAGE_CONSTRAINTS);
+            }
+            return new Session(startMinute, new Duration(minutes));
+        }
+    }
+}
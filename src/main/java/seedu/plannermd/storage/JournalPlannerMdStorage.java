@@ -0,0 +1,572 @@
+package seedu.plannermd.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.plannermd.commons.core.LogsCenter;
+import seedu.plannermd.commons.exceptions.DataConversionException;
+import seedu.plannermd.commons.exceptions.IllegalValueException;
+import seedu.plannermd.commons.util.FileUtil;
+import seedu.plannermd.commons.util.JsonUtil;
+import seedu.plannermd.model.PlannerMd;
+import seedu.plannermd.model.PlannerMdEdit;
+import seedu.plannermd.model.ReadOnlyPlannerMd;
+import seedu.plannermd.model.appointment.Appointment;
+import seedu.plannermd.model.doctor.Doctor;
+import seedu.plannermd.model.patient.Patient;
+import seedu.plannermd.model.person.Person;
+import seedu.plannermd.model.person.PersonIdentity;
+import seedu.plannermd.model.util.ListEdit;
+
+/**
+ * A class to access PlannerMd data stored as a json snapshot file on the hard disk, together with a journal of
+ * the changes made since the snapshot was written.
+ *
+ * Each save only appends a single line with the changes since the previous save to the journal, or does nothing
+ * if there are no changes. The changes are the modifications logged by the lists of the data between the snapshot
+ * of the data last saved and the snapshot being saved, so a save only costs as much as the modifications it writes.
+ * Data whose modifications are not known, such as a copy of the data last saved, is written as a new snapshot.
+ * Once enough changes have been appended, the journal is compacted in the background by writing a new snapshot.
+ * The snapshot holds the same records as the file of a {@link JsonPlannerMdStorage},
+ * written with a {@link PlannerMdCodec}, or is in the format of a {@link BinaryPlannerMdStorage} if its file name
+ * ends with {@link BinaryPlannerMdStorage#FILE_EXTENSION}. It records the sequence number of the last journal record
+ * it includes, so that a journal left behind by an interrupted compaction is never applied twice. Snapshots in
+ * any format are read whatever their file name and the codec of the storage, so that a data file is converted by
+ * the next snapshot written.
+ *
+ * Digests of the snapshot and of each journal are kept next to the snapshot, and updated whenever this storage
+ * writes them or reads them and finds them valid. Data files that still match their digests when read hold data
+ * that is known to be valid, so their records are not checked against each other again. The snapshot is digested
+ * as it is written, and the digests of the journals are kept running as records are appended, so that keeping the
+ * digests up to date never reads the files back.
+ */
+public class JournalPlannerMdStorage implements PlannerMdStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalPlannerMdStorage.class);
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String COMPACTING_JOURNAL_SUFFIX = ".journal.compacting";
+    private static final String DIGEST_SUFFIX = ".digest";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int DIGEST_BUFFER_BYTES = 64 * 1024;
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final boolean isPrettyPrinted;
+    private final PlannerMdCodec codec;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "PlannerMd journal compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Future<?> compaction = CompletableFuture.completedFuture(null);
+    // The digests of the snapshot and journals of filePath as last written or read, or null if they are unknown.
+    // Guarded by this, as the snapshot and compacting journal are also replaced by the journal compactor.
+    private String snapshotDigest;
+    private MessageDigest compactingJournalDigest;
+    private MessageDigest journalDigest;
+
+    // A snapshot of the data as of the last read or save of filePath, or null if it is unknown,
+    // and the ids of its patients and doctors
+    private ReadOnlyPlannerMd saved;
+    private Map<PersonIdentity, Integer> savedPatientIds;
+    private Map<PersonIdentity, Integer> savedDoctorIds;
+    private long sequence;
+    private int recordsSinceCompaction;
+
+    public JournalPlannerMdStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalPlannerMdStorage} that compacts the journal after every
+     * {@code compactionThreshold} records.
+     */
+    public JournalPlannerMdStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, true);
+    }
+
+    /**
+     * Creates a {@code JournalPlannerMdStorage} that compacts the journal after every
+     * {@code compactionThreshold} records, and writes snapshots laid out over indented lines if
+     * {@code isPrettyPrinted}, or on a single line otherwise.
+     */
+    public JournalPlannerMdStorage(Path filePath, int compactionThreshold, boolean isPrettyPrinted) {
+        this(filePath, compactionThreshold, isPrettyPrinted, PlannerMdCodec.DEFAULT);
+    }
+
+    /**
+     * Creates a {@code JournalPlannerMdStorage} that compacts the journal after every
+     * {@code compactionThreshold} records, and writes snapshots with {@code codec}, laid out over indented lines
+     * if {@code isPrettyPrinted} and the snapshots are json.
+     */
+    public JournalPlannerMdStorage(Path filePath, int compactionThreshold, boolean isPrettyPrinted,
+                                   PlannerMdCodec codec) {
+        requireNonNull(codec);
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.codec = codec;
+    }
+
+    @Override
+    public Path getPlannerMdFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyPlannerMd> readPlannerMd() throws DataConversionException {
+        return readPlannerMd(filePath);
+    }
+
+    /**
+     * Similar to {@link #readPlannerMd()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file or its journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyPlannerMd> readPlannerMd(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        awaitCompaction();
+
+        Optional<JsonSerializablePlannerMd> jsonPlannerMd = readSnapshot(filePath);
+        if (!jsonPlannerMd.isPresent()) {
+            return Optional.empty();
+        }
+        String fileDigest;
+        MessageDigest fileCompactingJournalDigest;
+        MessageDigest fileJournalDigest;
+        try {
+            fileDigest = toHexString(getDigest(filePath));
+            fileCompactingJournalDigest = getDigest(getCompactingJournalPath(filePath));
+            fileJournalDigest = getDigest(getJournalPath(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + " or its journal: " + e);
+            throw new DataConversionException(e);
+        }
+        boolean isTrusted = List.of(fileDigest, toHexString(fileCompactingJournalDigest),
+                toHexString(fileJournalDigest)).equals(readDigests(filePath));
+
+        ReadOnlyPlannerMd plannerMd;
+        long lastSequence = jsonPlannerMd.get().getJournalSequence();
+        int records;
+        boolean isJournalComplete;
+        try {
+            plannerMd = isTrusted ? jsonPlannerMd.get().toTrustedModelType() : jsonPlannerMd.get().toModelType();
+            List<Patient> patients = new ArrayList<>(plannerMd.getPatientList());
+            List<Doctor> doctors = new ArrayList<>(plannerMd.getDoctorList());
+            List<Appointment> appointments = new ArrayList<>(plannerMd.getAppointmentList());
+
+            List<JsonAdaptedPlannerMdChange> changes = new ArrayList<>();
+            isJournalComplete = readJournal(getCompactingJournalPath(filePath), changes)
+                    & readJournal(getJournalPath(filePath), changes);
+            records = 0;
+            for (JsonAdaptedPlannerMdChange change : changes) {
+                if (change.getSequence() > lastSequence) {
+                    change.applyTo(patients, doctors, appointments);
+                    lastSequence = change.getSequence();
+                    records++;
+                }
+            }
+            if (records > 0 && isTrusted) {
+                plannerMd = toPlannerMd(patients, doctors, appointments);
+            } else if (records > 0) {
+                // Validates the data after the changes as a whole, in the same way as the data file
+                plannerMd = new JsonSerializablePlannerMd(patients, doctors, appointments, null).toModelType();
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            // Only written if the data has now been validated in full, as the digests already match otherwise
+            setDigests(fileDigest, fileCompactingJournalDigest, fileJournalDigest, !isTrusted);
+        }
+
+        // Records cannot be appended after an incomplete record, so the next save writes a new snapshot instead
+        if (filePath.equals(this.filePath) && isJournalComplete) {
+            setSaved(plannerMd.getSnapshot());
+            sequence = lastSequence;
+            recordsSinceCompaction = records;
+        }
+        return Optional.of(plannerMd);
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath}, in whichever format it is in.
+     */
+    private static Optional<JsonSerializablePlannerMd> readSnapshot(Path filePath) throws DataConversionException {
+        boolean isBinaryFile;
+        try {
+            isBinaryFile = BinaryPlannerMdStorage.isBinaryFile(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+        return isBinaryFile
+                ? BinaryPlannerMdStorage.readFile(filePath)
+                : PlannerMdCodec.read(filePath, JsonSerializablePlannerMd.class);
+    }
+
+    /**
+     * Returns a {@code PlannerMd} with the given lists, which are known to hold valid data.
+     */
+    private static PlannerMd toPlannerMd(List<Patient> patients, List<Doctor> doctors,
+                                         List<Appointment> appointments) {
+        PlannerMd plannerMd = new PlannerMd();
+        plannerMd.setPatients(patients);
+        plannerMd.setDoctors(doctors);
+        plannerMd.setAppointments(appointments);
+        return plannerMd;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is supported by every Java platform", e);
+        }
+    }
+
+    /**
+     * Returns a digest updated with the contents of {@code filePath}. A missing file is empty.
+     */
+    private static MessageDigest getDigest(Path filePath) throws IOException {
+        MessageDigest messageDigest = newDigest();
+        if (!Files.exists(filePath)) {
+            return messageDigest;
+        }
+        byte[] buffer = new byte[DIGEST_BUFFER_BYTES];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            for (int count = in.read(buffer); count >= 0; count = in.read(buffer)) {
+                messageDigest.update(buffer, 0, count);
+            }
+        }
+        return messageDigest;
+    }
+
+    /**
+     * Returns the digest of the contents {@code messageDigest} has been updated with so far, leaving
+     * {@code messageDigest} to be updated further.
+     */
+    private static String toHexString(MessageDigest messageDigest) {
+        try {
+            return new BigInteger(1, ((MessageDigest) messageDigest.clone()).digest()).toString(16);
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " digests can be cloned on every Java platform", e);
+        }
+    }
+
+    /**
+     * Returns the digests of the snapshot at {@code filePath} and of its journals kept next to the snapshot,
+     * or an empty list if there are none.
+     */
+    private static List<String> readDigests(Path filePath) {
+        Path digestPath = getDigestPath(filePath);
+        try {
+            return Files.exists(digestPath) ? Files.readAllLines(digestPath, StandardCharsets.UTF_8) : List.of();
+        } catch (IOException e) {
+            logger.warning("Error reading digests of " + filePath + ", so its data will be validated in full: " + e);
+            return List.of();
+        }
+    }
+
+    /**
+     * Sets the digests of the snapshot and journals of this storage, and writes them next to the snapshot if
+     * {@code isWritten}.
+     */
+    private synchronized void setDigests(String snapshotDigest, MessageDigest compactingJournalDigest,
+                                         MessageDigest journalDigest, boolean isWritten) {
+        this.snapshotDigest = snapshotDigest;
+        this.compactingJournalDigest = compactingJournalDigest;
+        this.journalDigest = journalDigest;
+        if (isWritten) {
+            writeDigests();
+        }
+    }
+
+    /**
+     * Updates the digest of the journal of this storage with {@code record}, which has just been appended to it.
+     */
+    private synchronized void updateJournalDigest(byte[] record) {
+        if (journalDigest != null) {
+            journalDigest.update(record);
+            writeDigests();
+        }
+    }
+
+    /**
+     * Updates the digests of this storage after its journal became the compacting journal.
+     */
+    private synchronized void startCompactingJournalDigest() {
+        compactingJournalDigest = journalDigest;
+        journalDigest = journalDigest == null ? null : newDigest();
+    }
+
+    /**
+     * Updates the digests of this storage after the journal compactor replaced its snapshot with one whose digest
+     * is {@code snapshotDigest}, and removed its compacting journal.
+     */
+    private synchronized void finishCompactingJournalDigest(String snapshotDigest) {
+        this.snapshotDigest = snapshotDigest;
+        compactingJournalDigest = newDigest();
+        writeDigests();
+    }
+
+    /**
+     * Writes the digests of the snapshot and journals of this storage next to the snapshot, after this storage
+     * has written them or validated them in full, so that they only match data that is known to be valid.
+     * The digests only save validating the data when it is next read, so failing to write them is not an error.
+     */
+    private synchronized void writeDigests() {
+        if (snapshotDigest == null || compactingJournalDigest == null || journalDigest == null) {
+            return;
+        }
+        try {
+            FileUtil.writeToFile(getDigestPath(filePath), snapshotDigest + System.lineSeparator()
+                    + toHexString(compactingJournalDigest) + System.lineSeparator() + toHexString(journalDigest));
+        } catch (IOException e) {
+            logger.warning("Error updating digests of " + filePath + ": " + e);
+        }
+    }
+
+    /**
+     * Adds the records in the journal at {@code journalPath}, if there is one, to {@code changes}.
+     * A last record that cannot be read is assumed to have been cut off while being written, and is left out.
+     *
+     * @return false if the last record was left out.
+     */
+    private static boolean readJournal(Path journalPath, List<JsonAdaptedPlannerMdChange> changes)
+            throws DataConversionException {
+        if (!Files.exists(journalPath)) {
+            return true;
+        }
+
+        try {
+            List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+            for (int i = 0; i < lines.size(); i++) {
+                try {
+                    changes.add(JsonUtil.fromJsonString(lines.get(i), JsonAdaptedPlannerMdChange.class));
+                } catch (IOException e) {
+                    if (i < lines.size() - 1) {
+                        throw e;
+                    }
+                    logger.warning("Ignoring incomplete last record of journal " + journalPath + ": " + e);
+                    return false;
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal " + journalPath + ": " + e);
+            throw new DataConversionException(e);
+        }
+        return true;
+    }
+
+    @Override
+    public void savePlannerMd(ReadOnlyPlannerMd plannerMd) throws IOException {
+        savePlannerMd(plannerMd, filePath);
+    }
+
+    /**
+     * Similar to {@link #savePlannerMd(ReadOnlyPlannerMd)}.
+     * Only appends the changes to the journal if {@code filePath} is the file of this storage, and
+     * {@code plannerMd} was modified from the data last read from or saved to the file, so that its modifications
+     * since are known. Otherwise, a new snapshot is written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void savePlannerMd(ReadOnlyPlannerMd plannerMd, Path filePath) throws IOException {
+        requireNonNull(plannerMd);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeNewSnapshot(plannerMd.getPatientList(), plannerMd.getDoctorList(), plannerMd.getAppointmentList(),
+                    null, filePath);
+            return;
+        }
+
+        ReadOnlyPlannerMd snapshot = plannerMd.getSnapshot();
+        Optional<PlannerMdEdit> edit = saved == null ? Optional.empty() : snapshot.getEditSince(saved);
+        if (!edit.isPresent()) {
+            awaitCompaction();
+            sequence++;
+            String snapshotDigest = writeNewSnapshot(snapshot.getPatientList(), snapshot.getDoctorList(),
+                    snapshot.getAppointmentList(), sequence, filePath);
+            setDigests(snapshotDigest, newDigest(), newDigest(), true);
+            setSaved(snapshot);
+            recordsSinceCompaction = 0;
+            return;
+        }
+        if (edit.get().isEmpty()) {
+            return;
+        }
+
+        updateIds(savedPatientIds, edit.get().getPatientEdits(), snapshot.getPatientList());
+        updateIds(savedDoctorIds, edit.get().getDoctorEdits(), snapshot.getDoctorList());
+        JsonAdaptedPlannerMdChange change = JsonAdaptedPlannerMdChange.of(sequence + 1, edit.get(),
+                snapshot.getPatientList(), savedPatientIds, snapshot.getDoctorList(), savedDoctorIds);
+        byte[] record = (JsonUtil.toCompactJsonString(change) + System.lineSeparator())
+                .getBytes(StandardCharsets.UTF_8);
+        try {
+            Files.write(getJournalPath(filePath), record, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            // The modifications are only known from the data last saved, so the next save writes a new snapshot
+            saved = null;
+            setDigests(null, null, null, false);
+            throw e;
+        }
+        saved = snapshot;
+        updateJournalDigest(record);
+        sequence++;
+        recordsSinceCompaction++;
+
+        if (recordsSinceCompaction >= compactionThreshold && compaction.isDone()) {
+            startCompaction();
+        }
+    }
+
+    /**
+     * Writes a snapshot of the data as of the last save in the background, after which the journal
+     * records up to the last save are no longer needed.
+     */
+    private void startCompaction() throws IOException {
+        Path compactingJournalPath = getCompactingJournalPath(filePath);
+        // A compacting journal is only left behind if the previous compaction failed, in which case the
+        // new snapshot will include it as well
+        if (!Files.exists(compactingJournalPath)) {
+            Files.move(getJournalPath(filePath), compactingJournalPath, StandardCopyOption.ATOMIC_MOVE);
+            startCompactingJournalDigest();
+        }
+        recordsSinceCompaction = 0;
+
+        List<Patient> patients = saved.getPatientList();
+        List<Doctor> doctors = saved.getDoctorList();
+        List<Appointment> appointments = saved.getAppointmentList();
+        long snapshotSequence = sequence;
+        compaction = compactor.submit(() -> {
+            try {
+                String snapshotDigest = writeSnapshot(patients, doctors, appointments, snapshotSequence, filePath);
+                Files.deleteIfExists(compactingJournalPath);
+                finishCompactingJournalDigest(snapshotDigest);
+            } catch (IOException ioe) {
+                logger.warning("Error compacting journal of " + filePath + ": " + ioe);
+            }
+        });
+    }
+
+    /**
+     * Waits for the compaction in progress, if any, to finish.
+     */
+    void awaitCompaction() {
+        try {
+            compaction.get();
+        } catch (Exception e) {
+            logger.warning("Error waiting for journal compaction of " + filePath + ": " + e);
+        }
+    }
+
+    /**
+     * Replaces the snapshot at {@code filePath} with a snapshot of the given lists, which does not build on
+     * the data in {@code filePath}, so the journals of {@code filePath} are removed first.
+     *
+     * @return the digest of the snapshot written.
+     */
+    private String writeNewSnapshot(List<Patient> patients, List<Doctor> doctors, List<Appointment> appointments,
+                                    Long snapshotSequence, Path filePath) throws IOException {
+        Files.deleteIfExists(getJournalPath(filePath));
+        Files.deleteIfExists(getCompactingJournalPath(filePath));
+        return writeSnapshot(patients, doctors, appointments, snapshotSequence, filePath);
+    }
+
+    /**
+     * Replaces the snapshot at {@code filePath} with a snapshot of the given lists atomically, stamped with
+     * {@code snapshotSequence}. The snapshot is digested as it is written.
+     *
+     * @param snapshotSequence null if the snapshot is not of this storage's data file.
+     * @return the digest of the snapshot written.
+     */
+    private String writeSnapshot(List<Patient> patients, List<Doctor> doctors, List<Appointment> appointments,
+                                 Long snapshotSequence, Path filePath) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        MessageDigest messageDigest = newDigest();
+        boolean isBinary = filePath.getFileName().toString().endsWith(BinaryPlannerMdStorage.FILE_EXTENSION);
+        FileUtil.writeToFile(filePath, out -> {
+            OutputStream digestOut = new DigestOutputStream(out, messageDigest);
+            if (isBinary) {
+                BinaryPlannerMdStorage.write(patients, doctors, appointments, snapshotSequence, digestOut);
+            } else {
+                codec.write(new JsonSerializablePlannerMd(patients, doctors, appointments, snapshotSequence),
+                        digestOut, isPrettyPrinted);
+            }
+        });
+        return toHexString(messageDigest);
+    }
+
+    /**
+     * Sets {@code snapshot} as the data last saved, whose patients and doctors are then given ids afresh.
+     */
+    private void setSaved(ReadOnlyPlannerMd snapshot) {
+        saved = snapshot;
+        savedPatientIds = JsonSerializablePlannerMd.getIds(snapshot.getPatientList());
+        savedDoctorIds = JsonSerializablePlannerMd.getIds(snapshot.getDoctorList());
+    }
+
+    /**
+     * Updates {@code ids}, the ids of the persons in a list, after {@code edits} turned the list into {@code persons}.
+     * Only the edited persons, and the persons moved by an edit that changed the size of the list, get new ids.
+     */
+    private static <T extends Person> void updateIds(Map<PersonIdentity, Integer> ids, List<ListEdit<T>> edits,
+                                                     List<T> persons) {
+        int movedFrom = persons.size();
+        for (ListEdit<T> edit : edits) {
+            edit.getRemoved().forEach(person -> ids.remove(PersonIdentity.of(person)));
+            for (int i = 0; i < edit.getAdded().size(); i++) {
+                ids.put(PersonIdentity.of(edit.getAdded().get(i)), edit.getIndex() + i);
+            }
+            if (edit.getAdded().size() != edit.getRemoved().size()) {
+                movedFrom = Math.min(movedFrom, edit.getIndex());
+            }
+        }
+        for (int i = movedFrom; i < persons.size(); i++) {
+            ids.put(PersonIdentity.of(persons.get(i)), i);
+        }
+    }
+
+    private static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    private static Path getCompactingJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTING_JOURNAL_SUFFIX);
+    }
+
+    private static Path getDigestPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + DIGEST_SUFFIX);
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.plannermd.storage;
 
+import java.util.List;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.plannermd.commons.exceptions.IllegalValueException;
@@ -13,15 +16,22 @@ import seedu.plannermd.model.person.Remark;
 
 /**
  * Jackson-friendly version of {@link Appointment}.
+ * The patient and doctor are stored as ids, which are their positions in the patients and doctors lists of the
+ * data file. Appointments in data files from before ids were introduced store full copies of the patient and
+ * doctor instead, which are still read.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class JsonAdaptedAppointment {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Appointment's %s field is missing!";
+    public static final String INVALID_ID_MESSAGE_FORMAT = "Appointment's %s id does not refer to any %s!";
 
     public static final String IDENTIFIER_DATE = "date";
 
     private final JsonAdaptedPatient patient;
     private final JsonAdaptedDoctor doctor;
+    private final Integer patientId;
+    private final Integer doctorId;
     private final String date;
     private final JsonAdaptedSession session;
     private final String remark;
@@ -32,22 +42,52 @@ public class JsonAdaptedAppointment {
     @JsonCreator
     public JsonAdaptedAppointment(@JsonProperty("patient") JsonAdaptedPatient patient,
                                   @JsonProperty("doctor") JsonAdaptedDoctor doctor,
+                                  @JsonProperty("patientId") Integer patientId,
+                                  @JsonProperty("doctorId") Integer doctorId,
                                   @JsonProperty("date") String date,
                                   @JsonProperty("session") JsonAdaptedSession session,
                                   @JsonProperty("remark") String remark) {
         this.patient = patient;
         this.doctor = doctor;
+        this.patientId = patientId;
+        this.doctorId = doctorId;
         this.date = date;
         this.session = session;
         this.remark = remark;
     }
 
     /**
-     * Converts a given {@code Appointment} into this class for Jackson use.
+     * Constructs a {@code JsonAdaptedAppointment} with the given appointment details and full copies of
+     * the patient and doctor.
+     */
+    public JsonAdaptedAppointment(JsonAdaptedPatient patient, JsonAdaptedDoctor doctor, String date,
+                                  JsonAdaptedSession session, String remark) {
+        this(patient, doctor, null, null, date, session, remark);
+    }
+
+    /**
+     * Converts a given {@code Appointment} into this class for Jackson use, with full copies of
+     * the patient and doctor.
      */
     public JsonAdaptedAppointment(Appointment source) {
-        this.patient = new JsonAdaptedPatient(source.getPatient());
-        this.doctor = new JsonAdaptedDoctor(source.getDoctor());
+        this(new JsonAdaptedPatient(source.getPatient()), new JsonAdaptedDoctor(source.getDoctor()),
+                null, null, source);
+    }
+
+    /**
+     * Converts a given {@code Appointment} into this class for Jackson use, with the patient and doctor
+     * stored as the given ids.
+     */
+    public JsonAdaptedAppointment(Appointment source, int patientId, int doctorId) {
+        this(null, null, patientId, doctorId, source);
+    }
+
+    private JsonAdaptedAppointment(JsonAdaptedPatient patient, JsonAdaptedDoctor doctor, Integer patientId,
+                                   Integer doctorId, Appointment source) {
+        this.patient = patient;
+        this.doctor = doctor;
+        this.patientId = patientId;
+        this.doctorId = doctorId;
         this.date = source.getAppointmentDate().toInputStringFormat();
         this.session = new JsonAdaptedSession(source.getSession());
         this.remark = source.getRemark().value;
@@ -55,41 +95,77 @@ public class JsonAdaptedAppointment {
 
     /**
      * Converts this Jackson-friendly adapted appointment object into the model's
-     * {@code Appointment} object.
+     * {@code Appointment} object. The appointment must store full copies of its patient and doctor.
      *
      * @throws IllegalValueException if there were any data constraints violated in
      *                               the adapted appointment.
      */
     public Appointment toModelType() throws IllegalValueException {
-        if (patient == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Patient.class.getSimpleName()));
-        }
-        Patient modelPatient = patient.toModelType();
+        return toModelType(List.of(), List.of());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted appointment object into the model's
+     * {@code Appointment} object. Patient and doctor ids are looked up in {@code patients} and {@code doctors}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in
+     *                               the adapted appointment.
+     */
+    public Appointment toModelType(List<Patient> patients, List<Doctor> doctors) throws IllegalValueException {
+        Patient modelPatient = toModelPerson(patient, patientId, patients, Patient.class);
+        Doctor modelDoctor = toModelPerson(doctor, doctorId, doctors, Doctor.class);
 
-        if (doctor == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Doctor.class.getSimpleName()));
+        final AppointmentDate modelAppointmentDate = toModelDate();
+        final Session modelSession = toModelSession();
+
+        if (remark == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Remark.class.getSimpleName()));
         }
-        Doctor modelDoctor = doctor.toModelType();
+        final Remark modelRemark = new Remark(remark);
 
+        return new Appointment(modelPatient, modelDoctor, modelAppointmentDate, modelSession, modelRemark);
+    }
+
+    /**
+     * Converts the date of this adapted appointment into the model's {@code AppointmentDate} object.
+     *
+     * @throws IllegalValueException if the date is missing or invalid.
+     */
+    AppointmentDate toModelDate() throws IllegalValueException {
         if (date == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, IDENTIFIER_DATE));
         }
         if (!AppointmentDate.isValidAppointmentDate(date)) {
             throw new IllegalValueException(AppointmentDate.MESSAGE_CONSTRAINTS);
         }
-        final AppointmentDate modelAppointmentDate = new AppointmentDate(date);
+        return new AppointmentDate(date);
+    }
 
+    /**
+     * Converts the session of this adapted appointment into the model's {@code Session} object.
+     *
+     * @throws IllegalValueException if the session is missing or invalid.
+     */
+    Session toModelSession() throws IllegalValueException {
         if (session == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Session.class.getSimpleName()));
         }
-        Session modelSession = session.toModelType();
+        return session.toModelType();
+    }
 
-        if (remark == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Remark.class.getSimpleName()));
+    private static <T> T toModelPerson(JsonAdaptedPerson person, Integer id, List<T> persons, Class<T> personClass)
+            throws IllegalValueException {
+        if (id != null) {
+            if (id < 0 || id >= persons.size()) {
+                throw new IllegalValueException(String.format(INVALID_ID_MESSAGE_FORMAT,
+                        personClass.getSimpleName(), personClass.getSimpleName().toLowerCase()));
+            }
+            return persons.get(id);
         }
-        final Remark modelRemark = new Remark(remark);
 
-        return new Appointment(modelPatient, modelDoctor, modelAppointmentDate, modelSession, modelRemark);
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, personClass.getSimpleName()));
+        }
+        return personClass.cast(person.toModelType());
     }
-
 }
@@ -0,0 +1,81 @@
+package seedu.plannermd.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.plannermd.commons.exceptions.IllegalValueException;
+import seedu.plannermd.model.util.ListEdit;
+
+/**
+ * Jackson-friendly version of a change to a list, which replaces a range of the list with new elements.
+ *
+ * @param <T> the Jackson-friendly type of the elements of the list.
+ */
+class JsonAdaptedListChange<T> {
+
+    public static final String MESSAGE_INVALID_RANGE = "Journal record does not match the data it is applied to.";
+
+    private final int from;
+    private final int removed;
+    private final List<T> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedListChange} that replaces the {@code removed} elements starting at
+     * index {@code from} with {@code added}.
+     */
+    @JsonCreator
+    public JsonAdaptedListChange(@JsonProperty("from") int from, @JsonProperty("removed") int removed,
+                                 @JsonProperty("added") List<T> added) {
+        this.from = from;
+        this.removed = removed;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts the given {@code ListEdit} into this class for Jackson use.
+     *
+     * @param adapter converts each element added by {@code edit} for Jackson use.
+     */
+    public static <E, T> JsonAdaptedListChange<T> of(ListEdit<E> edit, Function<E, T> adapter) {
+        List<T> added = new ArrayList<>(edit.getAdded().size());
+        for (E element : edit.getAdded()) {
+            added.add(adapter.apply(element));
+        }
+        return new JsonAdaptedListChange<>(edit.getIndex(), edit.getRemoved().size(), added);
+    }
+
+    /**
+     * Applies this change to {@code list}.
+     *
+     * @param converter converts each added element into the model's type.
+     * @throws IllegalValueException if the change does not fit {@code list}, or if there were any data
+     *                               constraints violated in the added elements.
+     */
+    public <E> void applyTo(List<E> list, Converter<T, E> converter) throws IllegalValueException {
+        if (from < 0 || removed < 0 || from + removed > list.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_RANGE);
+        }
+
+        List<E> modelAdded = new ArrayList<>();
+        for (T element : added) {
+            modelAdded.add(converter.convert(element));
+        }
+        List<E> range = list.subList(from, from + removed);
+        range.clear();
+        range.addAll(modelAdded);
+    }
+
+    /**
+     * Converts a Jackson-friendly element into the model's type.
+     */
+    @FunctionalInterface
+    interface Converter<T, E> {
+        E convert(T element) throws IllegalValueException;
+    }
+}
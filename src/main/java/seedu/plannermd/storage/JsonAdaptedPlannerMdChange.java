@@ -0,0 +1,125 @@
+package seedu.plannermd.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.plannermd.commons.exceptions.IllegalValueException;
+import seedu.plannermd.model.PlannerMdEdit;
+import seedu.plannermd.model.appointment.Appointment;
+import seedu.plannermd.model.doctor.Doctor;
+import seedu.plannermd.model.patient.Patient;
+import seedu.plannermd.model.person.PersonIdentity;
+import seedu.plannermd.model.util.ListEdit;
+
+/**
+ * Jackson-friendly version of the changes made to a PlannerMd between two saves, as a record in the journal
+ * of a {@link JournalPlannerMdStorage}.
+ * The changes to each list are applied in order. Appointments refer to their patient and doctor by their position
+ * in the patients and doctors lists after the patient and doctor changes of the same record are applied.
+ * Records written before the changes to a list were kept in order hold a single change for each list, which is
+ * read as a list of one change.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedPlannerMdChange {
+
+    private final long sequence;
+    @JsonFormat(with = JsonFormat.Feature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
+    private final List<JsonAdaptedListChange<JsonAdaptedPatient>> patients;
+    @JsonFormat(with = JsonFormat.Feature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
+    private final List<JsonAdaptedListChange<JsonAdaptedDoctor>> doctors;
+    @JsonFormat(with = JsonFormat.Feature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
+    private final List<JsonAdaptedListChange<JsonAdaptedAppointment>> appointments;
+
+    /**
+     * Constructs a {@code JsonAdaptedPlannerMdChange} with the given changes.
+     * A list that did not change has null changes.
+     */
+    @JsonCreator
+    public JsonAdaptedPlannerMdChange(@JsonProperty("sequence") long sequence,
+            @JsonProperty("patients") List<JsonAdaptedListChange<JsonAdaptedPatient>> patients,
+            @JsonProperty("doctors") List<JsonAdaptedListChange<JsonAdaptedDoctor>> doctors,
+            @JsonProperty("appointments") List<JsonAdaptedListChange<JsonAdaptedAppointment>> appointments) {
+        this.sequence = sequence;
+        this.patients = patients;
+        this.doctors = doctors;
+        this.appointments = appointments;
+    }
+
+    /**
+     * Converts the given {@code PlannerMdEdit}, which turned the last saved data into the data with
+     * {@code patients} and {@code doctors}, into this class for Jackson use.
+     * The patients and doctors of the appointments are looked up in {@code patientIds} and {@code doctorIds},
+     * the ids of {@code patients} and {@code doctors}, so that only the changed appointments are visited.
+     */
+    public static JsonAdaptedPlannerMdChange of(long sequence, PlannerMdEdit edit,
+            List<Patient> patients, Map<PersonIdentity, Integer> patientIds,
+            List<Doctor> doctors, Map<PersonIdentity, Integer> doctorIds) {
+        return new JsonAdaptedPlannerMdChange(sequence,
+                adaptEdits(edit.getPatientEdits(), JsonAdaptedPatient::new),
+                adaptEdits(edit.getDoctorEdits(), JsonAdaptedDoctor::new),
+                adaptEdits(edit.getAppointmentEdits(), appointment -> {
+                    Integer patientId = JsonSerializablePlannerMd.getId(patientIds, patients,
+                            appointment.getPatient());
+                    Integer doctorId = JsonSerializablePlannerMd.getId(doctorIds, doctors, appointment.getDoctor());
+                    // As in the data file, an appointment whose patient or doctor is not in the lists,
+                    // such as one removed again by a later edit of the same record, keeps full copies of them
+                    return patientId == null || doctorId == null
+                            ? new JsonAdaptedAppointment(appointment)
+                            : new JsonAdaptedAppointment(appointment, patientId, doctorId);
+                }));
+    }
+
+    /**
+     * Returns {@code edits} converted for Jackson use, or null if there are none.
+     */
+    private static <E, T> List<JsonAdaptedListChange<T>> adaptEdits(List<ListEdit<E>> edits,
+                                                                  Function<E, T> adapter) {
+        if (edits.isEmpty()) {
+            return null;
+        }
+        List<JsonAdaptedListChange<T>> changes = new ArrayList<>(edits.size());
+        for (ListEdit<E> edit : edits) {
+            changes.add(JsonAdaptedListChange.of(edit, adapter));
+        }
+        return changes;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Applies these changes to the given lists of a PlannerMd.
+     *
+     * @throws IllegalValueException if the changes do not fit the lists, or if there were any data constraints
+     *                               violated in the changes.
+     */
+    public void applyTo(List<Patient> modelPatients, List<Doctor> modelDoctors, List<Appointment> modelAppointments)
+            throws IllegalValueException {
+        applyChanges(patients, modelPatients, JsonAdaptedPatient::toModelType);
+        applyChanges(doctors, modelDoctors, JsonAdaptedDoctor::toModelType);
+        applyChanges(appointments, modelAppointments, appointment ->
+                appointment.toModelType(modelPatients, modelDoctors));
+    }
+
+    private static <T, E> void applyChanges(List<JsonAdaptedListChange<T>> changes, List<E> list,
+                                            JsonAdaptedListChange.Converter<T, E> converter)
+            throws IllegalValueException {
+        if (changes == null) {
+            return;
+        }
+        for (JsonAdaptedListChange<T> change : changes) {
+            if (change == null) {
+                throw new IllegalValueException(JsonAdaptedListChange.MESSAGE_INVALID_RANGE);
+            }
+            change.applyTo(list, converter);
+        }
+    }
+}
@@ -22,9 +22,19 @@ public class JsonPlannerMdStorage implements PlannerMdStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonPlannerMdStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonPlannerMdStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonPlannerMdStorage} that writes the json laid out over indented lines if
+     * {@code isPrettyPrinted}, or on a single line otherwise.
+     */
+    public JsonPlannerMdStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getPlannerMdFilePath() {
@@ -74,7 +84,7 @@ public class JsonPlannerMdStorage implements PlannerMdStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializablePlannerMd(plannerMd), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializablePlannerMd(plannerMd), filePath, isPrettyPrinted);
     }
 
 }
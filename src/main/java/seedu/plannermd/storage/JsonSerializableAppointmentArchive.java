@@ -0,0 +1,173 @@
+package seedu.plannermd.storage;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.plannermd.commons.exceptions.IllegalValueException;
+import seedu.plannermd.model.appointment.Appointment;
+import seedu.plannermd.model.doctor.Doctor;
+import seedu.plannermd.model.patient.Patient;
+import seedu.plannermd.model.person.Person;
+import seedu.plannermd.model.person.PersonIdentity;
+
+/**
+ * An Immutable index of an archive of appointments that is serializable to JSON format.
+ * The archived appointments are partitioned by month, and the appointments of each month are kept in a file of
+ * their own, as a plannermd together with the patients and doctors they refer to, so that each partition is
+ * validated in the same way as a data file. The index lists the months that have archived appointments, and the keys
+ * of the persons with appointments in each of them, so that the archived appointments of a person can be found
+ * without reading the partitions. A key is the hash of the role and identity of a person, so different persons may
+ * share a key, which only makes more partitions seem to hold the appointments of a person.
+ */
+class JsonSerializableAppointmentArchive {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Appointment archive's %s field is missing!";
+    public static final String MESSAGE_INVALID_ARCHIVED_BEFORE = "Appointment archive's date is not a valid date.";
+    public static final String MESSAGE_INVALID_PARTITION = "Appointment archive's months are not valid months.";
+
+    private static final String PATIENT_ROLE = "patient";
+    private static final String DOCTOR_ROLE = "doctor";
+
+    private final String archivedBefore;
+    private final List<String> partitions = new ArrayList<>();
+    private final Map<String, List<Integer>> persons = new TreeMap<>();
+
+    /**
+     * Constructs a {@code JsonSerializableAppointmentArchive} with the given archive details.
+     */
+    @JsonCreator
+    public JsonSerializableAppointmentArchive(@JsonProperty("archivedBefore") String archivedBefore,
+                                              @JsonProperty("partitions") List<String> partitions,
+                                              @JsonProperty("persons") Map<String, List<Integer>> persons) {
+        this.archivedBefore = archivedBefore;
+        if (partitions != null) {
+            this.partitions.addAll(partitions);
+        }
+        if (persons != null) {
+            this.persons.putAll(persons);
+        }
+    }
+
+    /**
+     * Converts the index of an archive of the appointments before {@code archivedBefore}, with archived appointments
+     * in each of {@code partitions}, into this class for Jackson use. The keys of the persons of the partitions are
+     * taken from {@code partitionPersons}, where those of some partitions may be unknown.
+     */
+    public JsonSerializableAppointmentArchive(LocalDate archivedBefore, Collection<YearMonth> partitions,
+                                              Map<YearMonth, Set<Integer>> partitionPersons) {
+        this.archivedBefore = archivedBefore.toString();
+        for (YearMonth partition : partitions) {
+            this.partitions.add(partition.toString());
+            Set<Integer> personKeys = partitionPersons.get(partition);
+            if (personKeys != null) {
+                List<Integer> sortedKeys = new ArrayList<>(personKeys);
+                sortedKeys.sort(null);
+                persons.put(partition.toString(), sortedKeys);
+            }
+        }
+    }
+
+    /**
+     * Returns the date before which the appointments are archived.
+     *
+     * @throws IllegalValueException if the date is missing or invalid.
+     */
+    public LocalDate getArchivedBefore() throws IllegalValueException {
+        if (archivedBefore == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "archivedBefore"));
+        }
+        try {
+            return LocalDate.parse(archivedBefore);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_ARCHIVED_BEFORE);
+        }
+    }
+
+    /**
+     * Returns the months that have archived appointments, in order.
+     *
+     * @throws IllegalValueException if a month is invalid.
+     */
+    public List<YearMonth> getPartitions() throws IllegalValueException {
+        List<YearMonth> months = new ArrayList<>(partitions.size());
+        try {
+            for (String partition : partitions) {
+                months.add(YearMonth.parse(partition));
+            }
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_PARTITION);
+        }
+        months.sort(null);
+        return months;
+    }
+
+    /**
+     * Returns the keys of the persons with appointments in each partition whose persons are known.
+     * The persons of the partitions of an index written before the keys were kept are not known.
+     *
+     * @throws IllegalValueException if a month is invalid.
+     */
+    public Map<YearMonth, Set<Integer>> getPartitionPersons() throws IllegalValueException {
+        Map<YearMonth, Set<Integer>> partitionPersons = new HashMap<>();
+        try {
+            for (Map.Entry<String, List<Integer>> partition : persons.entrySet()) {
+                if (partition.getValue() == null) {
+                    continue;
+                }
+                partitionPersons.put(YearMonth.parse(partition.getKey()), new HashSet<>(partition.getValue()));
+            }
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_PARTITION);
+        }
+        return partitionPersons;
+    }
+
+    /**
+     * Returns the key by which {@code person} is listed in the index.
+     */
+    public static int toPersonKey(Person person) {
+        // A patient and a doctor of the same identity are different persons to their appointments
+        return Objects.hash(person instanceof Doctor ? DOCTOR_ROLE : PATIENT_ROLE, PersonIdentity.of(person));
+    }
+
+    /**
+     * Returns the keys of the patients and doctors of {@code appointments}.
+     */
+    public static Set<Integer> getPersonKeys(List<Appointment> appointments) {
+        Set<Integer> personKeys = new HashSet<>();
+        for (Appointment appointment : appointments) {
+            personKeys.add(toPersonKey(appointment.getPatient()));
+            personKeys.add(toPersonKey(appointment.getDoctor()));
+        }
+        return personKeys;
+    }
+
+    /**
+     * Converts {@code appointments}, the archived appointments of a month, into the Jackson-friendly partition
+     * that holds them. Only the patients and doctors of the appointments are kept with them.
+     */
+    public static JsonSerializablePlannerMd toPartition(List<Appointment> appointments) {
+        Map<PersonIdentity, Patient> patients = new LinkedHashMap<>();
+        Map<PersonIdentity, Doctor> doctors = new LinkedHashMap<>();
+        for (Appointment appointment : appointments) {
+            patients.putIfAbsent(PersonIdentity.of(appointment.getPatient()), appointment.getPatient());
+            doctors.putIfAbsent(PersonIdentity.of(appointment.getDoctor()), appointment.getDoctor());
+        }
+        return new JsonSerializablePlannerMd(new ArrayList<>(patients.values()), new ArrayList<>(doctors.values()),
+                appointments, null);
+    }
+}
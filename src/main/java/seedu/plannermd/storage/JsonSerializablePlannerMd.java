@@ -1,11 +1,21 @@
 package seedu.plannermd.storage;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
@@ -13,11 +23,17 @@ import seedu.plannermd.commons.exceptions.IllegalValueException;
 import seedu.plannermd.model.PlannerMd;
 import seedu.plannermd.model.ReadOnlyPlannerMd;
 import seedu.plannermd.model.appointment.Appointment;
+import seedu.plannermd.model.appointment.AppointmentDate;
+import seedu.plannermd.model.appointment.AppointmentIdentity;
 import seedu.plannermd.model.doctor.Doctor;
 import seedu.plannermd.model.patient.Patient;
+import seedu.plannermd.model.person.Person;
+import seedu.plannermd.model.person.PersonIdentity;
 
 /**
  * An Immutable PlannerMd that is serializable to JSON format.
+ * Appointments refer to their patient and doctor by id since version 2 of the format, and data files of
+ * version 1, in which appointments hold full copies of their patient and doctor, are migrated when read.
  */
 @JsonRootName(value = "plannermd")
 class JsonSerializablePlannerMd {
@@ -30,18 +46,33 @@ class JsonSerializablePlannerMd {
             "Appointments list contains patient(s) which do not exist.";
     public static final String MESSAGE_MISSING_DOCTOR_APPOINTMENT =
             "Appointments list contains doctor(s) which do not exist.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file version %d is not supported.";
 
+    public static final int LEGACY_VERSION = 1;
+    public static final int CURRENT_VERSION = 2;
+
+    // Fewer records are converted on the calling thread, as splitting them up costs more than it saves
+    private static final int MIN_RECORDS_TO_CONVERT_IN_PARALLEL = 256;
+
+    private final int version;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long journalSequence;
     private final List<JsonAdaptedPatient> patients = new ArrayList<>();
     private final List<JsonAdaptedDoctor> doctors = new ArrayList<>();
     private final List<JsonAdaptedAppointment> appointments = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializablePlannerMd} with the given persons.
+     * Data files without a version are of {@link #LEGACY_VERSION}.
      */
     @JsonCreator
-    public JsonSerializablePlannerMd(@JsonProperty("patients") List<JsonAdaptedPatient> patients,
+    public JsonSerializablePlannerMd(@JsonProperty("version") Integer version,
+                                     @JsonProperty("patients") List<JsonAdaptedPatient> patients,
                                      @JsonProperty("doctors") List<JsonAdaptedDoctor> doctors,
-                                     @JsonProperty("appointments") List<JsonAdaptedAppointment> appointments) {
+                                     @JsonProperty("appointments") List<JsonAdaptedAppointment> appointments,
+                                     @JsonProperty("journalSequence") Long journalSequence) {
+        this.version = version == null ? LEGACY_VERSION : version;
+        this.journalSequence = journalSequence;
         this.patients.addAll(patients);
         this.doctors.addAll(doctors);
         this.appointments.addAll(appointments);
@@ -53,63 +84,312 @@ class JsonSerializablePlannerMd {
      * @param source future changes to this will not affect the created {@code JsonSerializablePlannerMd}.
      */
     public JsonSerializablePlannerMd(ReadOnlyPlannerMd source) {
-        patients.addAll(source.getPatientList().stream().map(JsonAdaptedPatient::new).collect(Collectors.toList()));
-        doctors.addAll(source.getDoctorList().stream().map(JsonAdaptedDoctor::new).collect(Collectors.toList()));
-        appointments.addAll(source.getAppointmentList().stream().map(JsonAdaptedAppointment::new)
-                .collect(Collectors.toList()));
+        this(source.getPatientList(), source.getDoctorList(), source.getAppointmentList(), null);
+    }
+
+    /**
+     * Converts the given lists of a PlannerMd into this class for Jackson use, stamped with the sequence number
+     * of the last journal record that they include, if they are a snapshot of a {@link JournalPlannerMdStorage}.
+     *
+     * @param journalSequence null if the lists are not a snapshot of a {@code JournalPlannerMdStorage}.
+     */
+    public JsonSerializablePlannerMd(List<Patient> sourcePatients, List<Doctor> sourceDoctors,
+                                     List<Appointment> sourceAppointments, Long journalSequence) {
+        version = CURRENT_VERSION;
+        this.journalSequence = journalSequence;
+        patients.addAll(sourcePatients.stream().map(JsonAdaptedPatient::new).collect(Collectors.toList()));
+        doctors.addAll(sourceDoctors.stream().map(JsonAdaptedDoctor::new).collect(Collectors.toList()));
+
+        Map<PersonIdentity, Integer> patientIds = getIds(sourcePatients);
+        Map<PersonIdentity, Integer> doctorIds = getIds(sourceDoctors);
+        for (Appointment appointment : sourceAppointments) {
+            Integer patientId = getId(patientIds, sourcePatients, appointment.getPatient());
+            Integer doctorId = getId(doctorIds, sourceDoctors, appointment.getDoctor());
+            // An appointment whose patient or doctor is not in the lists keeps full copies of them,
+            // so that it is reported as invalid when read back, instead of being linked to someone else.
+            appointments.add(patientId == null || doctorId == null
+                    ? new JsonAdaptedAppointment(appointment)
+                    : new JsonAdaptedAppointment(appointment, patientId, doctorId));
+        }
+    }
+
+    /**
+     * Returns the ids of {@code persons}, which are their positions in the list, by their identities.
+     */
+    static Map<PersonIdentity, Integer> getIds(List<? extends Person> persons) {
+        Map<PersonIdentity, Integer> ids = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            ids.put(PersonIdentity.of(persons.get(i)), i);
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the id of {@code person} in {@code persons}, or null if it is not in the list.
+     */
+    static Integer getId(Map<PersonIdentity, Integer> ids, List<? extends Person> persons, Person person) {
+        Integer id = ids.get(PersonIdentity.of(person));
+        return id == null || !persons.get(id).equals(person) ? null : id;
+    }
+
+    /**
+     * Returns the sequence number of the last {@link JournalPlannerMdStorage} journal record included in this
+     * plannermd, or 0 if it does not include any journal records.
+     */
+    public long getJournalSequence() {
+        return journalSequence == null ? 0 : journalSequence;
     }
 
     /**
      * Converts this plannermd into the model's {@code PlannerMd} object.
+     * The records are converted and validated in parallel, as each record is converted independently of the others.
+     * The converted records are then checked against each other in the order they are in, with hashed lookups,
+     * and set into the {@code PlannerMd} at once, so that loading takes time roughly linear in the number of
+     * records. The validation reports the same error as adding the records one at a time would.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public PlannerMd toModelType() throws IllegalValueException {
-        PlannerMd plannerMd = new PlannerMd();
-        for (JsonAdaptedPatient jsonAdaptedPatient : patients) {
-            Patient patient = jsonAdaptedPatient.toModelType();
-            if (plannerMd.hasPatient(patient)) {
+        if (version > CURRENT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        List<Converted<Patient>> convertedPatients = convertAll(patients, JsonAdaptedPatient::toModelType);
+        List<Converted<Doctor>> convertedDoctors = convertAll(doctors, JsonAdaptedDoctor::toModelType);
+
+        Map<PersonIdentity, Patient> modelPatients = new LinkedHashMap<>();
+        for (Converted<Patient> convertedPatient : convertedPatients) {
+            Patient patient = convertedPatient.get();
+            if (modelPatients.putIfAbsent(PersonIdentity.of(patient), patient) != null) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PATIENT);
             }
-            plannerMd.addPatient(patient);
         }
-        for (JsonAdaptedDoctor jsonAdaptedDoctor : doctors) {
-            Doctor doctor = jsonAdaptedDoctor.toModelType();
-            if (plannerMd.hasDoctor(doctor)) {
+        Map<PersonIdentity, Doctor> modelDoctors = new LinkedHashMap<>();
+        for (Converted<Doctor> convertedDoctor : convertedDoctors) {
+            Doctor doctor = convertedDoctor.get();
+            if (modelDoctors.putIfAbsent(PersonIdentity.of(doctor), doctor) != null) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_DOCTOR);
             }
-            plannerMd.addDoctor(doctor);
         }
-        for (JsonAdaptedAppointment jsonAdaptedAppointment : appointments) {
-            Appointment appointment = jsonAdaptedAppointment.toModelType();
-            if (plannerMd.hasAppointment(appointment)) {
+
+        // An invalid appointment is only reported if the appointments before it are all valid,
+        // so only the appointments before the first invalid appointment are checked further.
+        List<Patient> patientList = new ArrayList<>(modelPatients.values());
+        List<Doctor> doctorList = new ArrayList<>(modelDoctors.values());
+        List<Converted<Appointment>> convertedAppointments = convertAll(appointments,
+                jsonAdaptedAppointment -> jsonAdaptedAppointment.toModelType(patientList, doctorList));
+        List<Appointment> modelAppointments = new ArrayList<>();
+        IllegalValueException invalidAppointmentException = null;
+        for (Converted<Appointment> convertedAppointment : convertedAppointments) {
+            try {
+                modelAppointments.add(convertedAppointment.get());
+            } catch (IllegalValueException ive) {
+                invalidAppointmentException = ive;
+                break;
+            }
+        }
+
+        int firstClashIndex = findFirstClashIndex(modelAppointments);
+        Set<AppointmentIdentity> appointmentIdentities = new HashSet<>();
+        List<Appointment> linkedAppointments = new ArrayList<>();
+        for (int i = 0; i < modelAppointments.size(); i++) {
+            Appointment appointment = modelAppointments.get(i);
+            if (!appointmentIdentities.add(AppointmentIdentity.of(appointment))) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_APPOINTMENTS);
             }
-            if (plannerMd.isClashAppointment(appointment)) {
+            if (i == firstClashIndex) {
                 throw new IllegalValueException(MESSAGE_CLASHING_APPOINTMENTS);
             }
 
             // To be defensive here, we ensure that the exact patients and doctors specified
             // in the appointment does exist in PlannerMD
-            Optional<Patient> appointmentPatient = plannerMd.getExactPatient(appointment.getPatient());
-            if (appointmentPatient.isEmpty()) {
+            Patient appointmentPatient = modelPatients.get(PersonIdentity.of(appointment.getPatient()));
+            if (appointmentPatient == null || !appointmentPatient.equals(appointment.getPatient())) {
                 throw new IllegalValueException(MESSAGE_MISSING_PATIENT_APPOINTMENT);
             }
-            Optional<Doctor> appointmentDoctor = plannerMd.getExactDoctor(appointment.getDoctor());
-            if (appointmentDoctor.isEmpty()) {
+            Doctor appointmentDoctor = modelDoctors.get(PersonIdentity.of(appointment.getDoctor()));
+            if (appointmentDoctor == null || !appointmentDoctor.equals(appointment.getDoctor())) {
                 throw new IllegalValueException(MESSAGE_MISSING_DOCTOR_APPOINTMENT);
             }
 
             // Create a new Appointment with the exact Patient and Doctor objects in PlannerMd
             // This Appointment will then be added into PlannerMd
-            Appointment linkedAppointment = new Appointment(appointmentPatient.get(), appointmentDoctor.get(),
+            linkedAppointments.add(new Appointment(appointmentPatient, appointmentDoctor,
                     appointment.getAppointmentDate(), appointment.getSession(),
-                    appointment.getRemark());
+                    appointment.getRemark()));
+        }
+        if (invalidAppointmentException != null) {
+            throw invalidAppointmentException;
+        }
+
+        PlannerMd plannerMd = new PlannerMd();
+        plannerMd.setPatients(patientList);
+        plannerMd.setDoctors(doctorList);
+        plannerMd.setAppointments(linkedAppointments);
+        return plannerMd;
+    }
 
-            plannerMd.addAppointment(linkedAppointment);
+    /**
+     * Converts this plannermd, which PlannerMD wrote from its own valid data and which has not been changed since,
+     * into the model's {@code PlannerMd} object. Each record is still converted and checked on its own, but the
+     * records are not checked against each other for duplicates, clashes or missing patients and doctors.
+     * Plannermds of an older version are converted by {@link #toModelType()} instead, as their appointments hold
+     * copies of their patients and doctors, which have to be matched against the patients and doctors lists.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public PlannerMd toTrustedModelType() throws IllegalValueException {
+        if (version != CURRENT_VERSION) {
+            return toModelType();
         }
 
+        List<Patient> patientList = getAll(convertAll(patients, JsonAdaptedPatient::toModelType));
+        List<Doctor> doctorList = getAll(convertAll(doctors, JsonAdaptedDoctor::toModelType));
+        // Appointments that refer to their patient and doctor by id are linked to the exact objects in the lists
+        List<Appointment> appointmentList = getAll(convertAll(appointments,
+                jsonAdaptedAppointment -> jsonAdaptedAppointment.toModelType(patientList, doctorList)));
+
+        PlannerMd plannerMd = new PlannerMd();
+        plannerMd.setPatients(patientList);
+        plannerMd.setDoctors(doctorList);
+        plannerMd.setAppointments(appointmentList);
         return plannerMd;
     }
-}
 
+    /**
+     * Returns the records in {@code converted}, in order.
+     *
+     * @throws IllegalValueException if any of the records is invalid.
+     */
+    private static <T> List<T> getAll(List<Converted<T>> converted) throws IllegalValueException {
+        List<T> records = new ArrayList<>(converted.size());
+        for (Converted<T> convertedRecord : converted) {
+            records.add(convertedRecord.get());
+        }
+        return records;
+    }
+
+    /**
+     * Converts each of {@code adaptedRecords} with {@code converter}, on the common fork-join pool if there are
+     * many of them. The results are in the same order as {@code adaptedRecords}.
+     */
+    private static <A, T> List<Converted<T>> convertAll(List<A> adaptedRecords, RecordConverter<A, T> converter) {
+        List<Converted<T>> converted = new ArrayList<>(adaptedRecords.size());
+        for (int i = 0; i < adaptedRecords.size(); i++) {
+            converted.add(null);
+        }
+
+        IntStream indexes = IntStream.range(0, adaptedRecords.size());
+        if (adaptedRecords.size() >= MIN_RECORDS_TO_CONVERT_IN_PARALLEL) {
+            indexes = indexes.parallel();
+        }
+        // Each index is only written by one task, and the stream completes before the results are read
+        indexes.forEach(i -> converted.set(i, Converted.of(adaptedRecords.get(i), converter)));
+        return converted;
+    }
+
+    /**
+     * Returns the index of the first appointment in {@code appointments} that clashes with an appointment before it,
+     * or -1 if no appointments clash. This is the appointment that would be rejected if the appointments were added
+     * one at a time.
+     *
+     * The appointments of each patient and each doctor on each date are sorted by start time and swept in order,
+     * keeping track of the sessions that have not ended yet. Each session clashes with exactly the unfinished
+     * sessions, of which only the one earliest in {@code appointments} matters.
+     */
+    private static int findFirstClashIndex(List<Appointment> appointments) {
+        List<List<Integer>> groups = new ArrayList<>();
+        groups.addAll(groupByPersonAndDate(appointments, Appointment::getPatient));
+        groups.addAll(groupByPersonAndDate(appointments, Appointment::getDoctor));
+
+        int firstClashIndex = -1;
+        for (List<Integer> group : groups) {
+            group.sort(Comparator.comparing(i -> getStartMinute(appointments.get(i))));
+
+            PriorityQueue<Integer> unfinished = new PriorityQueue<>(
+                    Comparator.comparing(i -> getEndMinute(appointments.get(i))));
+            TreeSet<Integer> unfinishedIndexes = new TreeSet<>();
+            for (int index : group) {
+                int start = getStartMinute(appointments.get(index));
+                while (!unfinished.isEmpty() && getEndMinute(appointments.get(unfinished.peek())) <= start) {
+                    unfinishedIndexes.remove(unfinished.poll());
+                }
+                if (!unfinishedIndexes.isEmpty()) {
+                    int clashIndex = Math.max(index, unfinishedIndexes.first());
+                    firstClashIndex = firstClashIndex == -1 ? clashIndex : Math.min(firstClashIndex, clashIndex);
+                }
+                unfinished.add(index);
+                unfinishedIndexes.add(index);
+            }
+        }
+        return firstClashIndex;
+    }
+
+    /**
+     * Groups the indexes of {@code appointments} by the person given by {@code getPerson} and by date,
+     * leaving out groups of a single appointment, which cannot clash.
+     */
+    private static List<List<Integer>> groupByPersonAndDate(List<Appointment> appointments,
+                                                            Function<Appointment, Person> getPerson) {
+        Map<PersonIdentity, Map<AppointmentDate, List<Integer>>> groups = new HashMap<>();
+        for (int i = 0; i < appointments.size(); i++) {
+            Appointment appointment = appointments.get(i);
+            groups.computeIfAbsent(PersonIdentity.of(getPerson.apply(appointment)), unused -> new HashMap<>())
+                    .computeIfAbsent(appointment.getAppointmentDate(), unused -> new ArrayList<>())
+                    .add(i);
+        }
+        return groups.values().stream()
+                .flatMap(groupsByDate -> groupsByDate.values().stream())
+                .filter(group -> group.size() > 1)
+                .collect(Collectors.toList());
+    }
+
+    private static int getStartMinute(Appointment appointment) {
+        return appointment.getSession().getStartMinute();
+    }
+
+    private static int getEndMinute(Appointment appointment) {
+        return getStartMinute(appointment) + appointment.getSession().getMinutes();
+    }
+
+    /**
+     * Converts a Jackson-friendly adapted record into the model's object.
+     */
+    @FunctionalInterface
+    private interface RecordConverter<A, T> {
+        T convert(A adaptedRecord) throws IllegalValueException;
+    }
+
+    /**
+     * The result of converting a record, which is either the converted record or the reason it is invalid.
+     */
+    private static class Converted<T> {
+        private final T value;
+        private final IllegalValueException invalidValueException;
+
+        private Converted(T value, IllegalValueException invalidValueException) {
+            this.value = value;
+            this.invalidValueException = invalidValueException;
+        }
+
+        static <A, T> Converted<T> of(A adaptedRecord, RecordConverter<A, T> converter) {
+            try {
+                return new Converted<>(converter.convert(adaptedRecord), null);
+            } catch (IllegalValueException ive) {
+                return new Converted<>(null, ive);
+            }
+        }
+
+        /**
+         * Returns the converted record.
+         *
+         * @throws IllegalValueException if the record is invalid.
+         */
+        T get() throws IllegalValueException {
+            if (invalidValueException != null) {
+                throw invalidValueException;
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package seedu.plannermd.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import seedu.plannermd.commons.core.LogsCenter;
+import seedu.plannermd.commons.exceptions.DataConversionException;
+import seedu.plannermd.commons.util.FileUtil;
+import seedu.plannermd.commons.util.JsonUtil;
+
+/**
+ * The encoding in which PlannerMd data files are written: json, or one of the compact binary formats Smile and CBOR,
+ * which hold the same records as json, optionally compressed with gzip.
+ * Data files are read in whichever of these encodings they are in, so the encoding can be changed at any time.
+ */
+public class PlannerMdCodec {
+
+    public static final PlannerMdCodec DEFAULT = new PlannerMdCodec(Format.JSON, false);
+
+    public static final String MESSAGE_UNKNOWN_FORMAT = "Data file format should be one of json, smile or cbor.";
+
+    private static final Logger logger = LogsCenter.getLogger(PlannerMdCodec.class);
+
+    // The first two bytes of every gzip stream
+    private static final byte[] GZIP_MAGIC = { (byte) 0x1f, (byte) 0x8b };
+    // The length of the longest header of a format
+    private static final int HEADER_BYTES = 3;
+
+    /**
+     * The data formats in which the records of a data file can be written.
+     */
+    public enum Format {
+        JSON(new JsonFactory()),
+        // Smile files start with the header ":)\n"
+        SMILE(new SmileFactory(), (byte) ':', (byte) ')', (byte) '\n'),
+        // CBOR files start with the tag marking them as CBOR, which is written as the header
+        CBOR(new CBORFactory().configure(CBORGenerator.Feature.WRITE_TYPE_HEADER, true),
+                (byte) 0xd9, (byte) 0xd9, (byte) 0xf7);
+
+        private final ObjectMapper objectMapper;
+        private final byte[] header;
+
+        Format(JsonFactory factory, byte... header) {
+            this.objectMapper = JsonUtil.createObjectMapper(factory);
+            this.header = header;
+        }
+
+        /**
+         * Returns the format of the data that starts with {@code firstBytes}. Data in no other format is json.
+         */
+        private static Format of(byte[] firstBytes) {
+            for (Format format : values()) {
+                if (format.header.length > 0 && Arrays.equals(format.header,
+                        Arrays.copyOf(firstBytes, format.header.length))) {
+                    return format;
+                }
+            }
+            return JSON;
+        }
+    }
+
+    private final Format format;
+    private final boolean isCompressed;
+
+    /**
+     * Creates a {@code PlannerMdCodec} that writes data files in {@code format}, compressed with gzip if
+     * {@code isCompressed}.
+     */
+    public PlannerMdCodec(Format format, boolean isCompressed) {
+        requireNonNull(format);
+        this.format = format;
+        this.isCompressed = isCompressed;
+    }
+
+    /**
+     * Returns the {@code PlannerMdCodec} that writes data files in the format named {@code formatName},
+     * ignoring case, compressed with gzip if {@code isCompressed}.
+     *
+     * @throws IllegalArgumentException if there is no format named {@code formatName}.
+     */
+    public static PlannerMdCodec of(String formatName, boolean isCompressed) {
+        requireNonNull(formatName);
+        for (Format format : Format.values()) {
+            if (format.name().equalsIgnoreCase(formatName)) {
+                return new PlannerMdCodec(format, isCompressed);
+            }
+        }
+        throw new IllegalArgumentException(MESSAGE_UNKNOWN_FORMAT);
+    }
+
+    /**
+     * Writes {@code value} to the file at {@code filePath} in this encoding, replacing the file atomically.
+     * Json is laid out over indented lines if {@code isPrettyPrinted}.
+     */
+    <T> void write(T value, Path filePath, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(value);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFile(filePath, out -> write(value, out, isPrettyPrinted));
+    }
+
+    /**
+     * Writes {@code value} to {@code out} in this encoding, and closes {@code out}.
+     * Json is laid out over indented lines if {@code isPrettyPrinted}.
+     */
+    <T> void write(T value, OutputStream out, boolean isPrettyPrinted) throws IOException {
+        ObjectMapper objectMapper = format.objectMapper;
+        OutputStream encodedOut = isCompressed ? new GZIPOutputStream(out) : out;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(encodedOut, JsonEncoding.UTF8)) {
+            if (isPrettyPrinted && format == Format.JSON) {
+                generator.useDefaultPrettyPrinter();
+            }
+            objectMapper.writeValue(generator, value);
+        }
+    }
+
+    /**
+     * Reads the file at {@code filePath}, in whichever encoding it is in, into an instance of {@code valueClass}.
+     * Returns an empty {@code Optional} if there is no file at {@code filePath}.
+     *
+     * @throws DataConversionException if the file cannot be read or is not in the expected format.
+     */
+    static <T> Optional<T> read(Path filePath, Class<T> valueClass) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Data file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (BufferedInputStream in = new BufferedInputStream(
+                decompressIfCompressed(new BufferedInputStream(Files.newInputStream(filePath))))) {
+            ObjectMapper objectMapper = Format.of(peek(in, HEADER_BYTES)).objectMapper;
+            try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+                return Optional.of(objectMapper.readValue(parser, valueClass));
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns a stream of the decompressed content of {@code in} if it is compressed with gzip,
+     * or {@code in} itself otherwise.
+     */
+    private static InputStream decompressIfCompressed(BufferedInputStream in) throws IOException {
+        byte[] firstBytes = peek(in, GZIP_MAGIC.length);
+        return Arrays.equals(firstBytes, GZIP_MAGIC) ? new GZIPInputStream(in) : in;
+    }
+
+    /**
+     * Returns the next {@code length} bytes of {@code in} without consuming them, padded with zeros if
+     * {@code in} ends before them.
+     */
+    private static byte[] peek(BufferedInputStream in, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        in.mark(length);
+        int read = 0;
+        while (read < length) {
+            int count = in.read(bytes, read, length - read);
+            if (count < 0) {
+                break;
+            }
+            read += count;
+        }
+        in.reset();
+        return bytes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PlannerMdCodec // instanceof handles nulls
+                && format == ((PlannerMdCodec) other).format
+                && isCompressed == ((PlannerMdCodec) other).isCompressed);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(format, isCompressed);
+    }
+
+    @Override
+    public String toString() {
+        return format.name().toLowerCase() + (isCompressed ? " (gzip)" : "");
+    }
+}
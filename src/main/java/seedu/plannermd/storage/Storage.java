@@ -3,6 +3,7 @@ package seedu.plannermd.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.plannermd.commons.exceptions.DataConversionException;
 import seedu.plannermd.model.ReadOnlyPlannerMd;
@@ -26,7 +27,31 @@ public interface Storage extends PlannerMdStorage, UserPrefsStorage {
     @Override
     Optional<ReadOnlyPlannerMd> readPlannerMd() throws DataConversionException, IOException;
 
+    /**
+     * Saves the given PlannerMd data. The data may be written to storage after this method returns, in which case
+     * a failure to write it is reported to the handler set by {@link #setPlannerMdWriteFailureHandler(Consumer)},
+     * or otherwise thrown by the next save.
+     * @throws IOException if there was any problem writing to the file that was not reported to the handler.
+     */
     @Override
     void savePlannerMd(ReadOnlyPlannerMd plannerMd) throws IOException;
 
+    /**
+     * Waits for the PlannerMd data saved so far to be written to storage.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushPlannerMd() throws IOException;
+
+    /**
+     * Sets the handler of failures to write saved PlannerMd data to storage. The handler is called as soon as a write
+     * fails, possibly from another thread, and the data is written again by the next save.
+     */
+    void setPlannerMdWriteFailureHandler(Consumer<IOException> handler);
+
+    /**
+     * Returns the number of saves of PlannerMd data that were skipped because the data was not modified
+     * since it was last saved.
+     */
+    long getSkippedPlannerMdSaveCount();
+
 }
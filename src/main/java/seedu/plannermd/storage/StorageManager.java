@@ -3,6 +3,8 @@ package seedu.plannermd.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.plannermd.commons.core.LogsCenter;
@@ -13,20 +15,51 @@ import seedu.plannermd.model.UserPrefs;
 
 /**
  * Manages storage of PlannerMd data in local storage.
+ *
+ * PlannerMd data is written to the data file by a writer {@code Executor}, which is given a snapshot of the data
+ * to write from {@link ReadOnlyPlannerMd#getSnapshot()}. If the data is saved again before the writer has started
+ * writing the previous snapshot, only the latest snapshot is written. A failure to write the data file is reported
+ * to the write failure handler as soon as it happens, if there is one, and otherwise by the next save. Either way, the
+ * data is written again by the next save, and a failure of the last write is also reported by
+ * {@link #flushPlannerMd()}.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private PlannerMdStorage plannerMdStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final Executor plannerMdWriter;
+
+    // The data last saved to the PlannerMd data file, and its version at the time
+    private ReadOnlyPlannerMd savedPlannerMd;
+    private long savedVersion;
+    private long skippedSaveCount;
+
+    // Shared with the writer, and guarded by this
+    private ReadOnlyPlannerMd pendingPlannerMd;
+    private boolean isWriteScheduled;
+    private IOException writeFailure;
+    private boolean isWriteFailureReported;
+    private Consumer<IOException> writeFailureHandler;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code PlannerMdStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code PlannerMdStorage} and {@code UserPrefStorage},
+     * which writes the PlannerMd data file before returning from each save.
      */
     public StorageManager(PlannerMdStorage plannerMdStorage, UserPrefsStorage userPrefsStorage) {
+        this(plannerMdStorage, userPrefsStorage, Runnable::run);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code PlannerMdStorage} and {@code UserPrefStorage},
+     * which writes the PlannerMd data file using {@code plannerMdWriter}.
+     */
+    public StorageManager(PlannerMdStorage plannerMdStorage, UserPrefsStorage userPrefsStorage,
+                          Executor plannerMdWriter) {
         super();
         this.plannerMdStorage = plannerMdStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.plannerMdWriter = plannerMdWriter;
     }
 
     // ================ UserPrefs methods ==============================
@@ -61,6 +94,7 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyPlannerMd> readPlannerMd(Path filePath) throws DataConversionException, IOException {
+        awaitWrites();
         logger.fine("Attempting to read data from file: " + filePath);
         return plannerMdStorage.readPlannerMd(filePath);
     }
@@ -70,10 +104,146 @@ public class StorageManager implements Storage {
         savePlannerMd(plannerMd, plannerMdStorage.getPlannerMdFilePath());
     }
 
+    /**
+     * Saves the given {@link ReadOnlyPlannerMd} to the data file, unless it is the data last saved to the data file,
+     * has not been modified since, and was written without failure. Data is only written by the writer if
+     * {@code filePath} is the data file.
+     *
+     * @throws IOException if there was any problem writing to the file, including while writing data saved earlier,
+     *     that was not already reported to the write failure handler.
+     */
     @Override
     public void savePlannerMd(ReadOnlyPlannerMd plannerMd, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        plannerMdStorage.savePlannerMd(plannerMd, filePath);
+        if (!filePath.equals(plannerMdStorage.getPlannerMdFilePath())) {
+            logger.fine("Attempting to write to data file: " + filePath);
+            plannerMdStorage.savePlannerMd(plannerMd, filePath);
+            return;
+        }
+
+        IOException failure = takeUnreportedWriteFailure();
+        if (failure == null && !hasWriteFailed() && plannerMd == savedPlannerMd
+                && plannerMd.getVersion() == savedVersion) {
+            skippedSaveCount++;
+            logger.fine("Skipping write of unmodified data to data file: " + filePath);
+            return;
+        }
+
+        savedPlannerMd = plannerMd;
+        savedVersion = plannerMd.getVersion();
+        scheduleWrite(plannerMd.getSnapshot());
+
+        if (failure == null) {
+            failure = takeUnreportedWriteFailure();
+        }
+        if (failure != null) {
+            // The data is written again on the next save, even if it is not modified
+            savedPlannerMd = null;
+            throw failure;
+        }
+    }
+
+    @Override
+    public void flushPlannerMd() throws IOException {
+        awaitWrites();
+        IOException failure;
+        synchronized (this) {
+            failure = writeFailure;
+            writeFailure = null;
+        }
+        if (failure != null) {
+            savedPlannerMd = null;
+            throw failure;
+        }
+    }
+
+    @Override
+    public synchronized void setPlannerMdWriteFailureHandler(Consumer<IOException> handler) {
+        writeFailureHandler = handler;
+    }
+
+    @Override
+    public long getSkippedPlannerMdSaveCount() {
+        return skippedSaveCount;
+    }
+
+    private void scheduleWrite(ReadOnlyPlannerMd snapshot) {
+        synchronized (this) {
+            pendingPlannerMd = snapshot;
+            if (isWriteScheduled) {
+                return;
+            }
+            isWriteScheduled = true;
+        }
+        plannerMdWriter.execute(this::writePendingPlannerMd);
+    }
+
+    /**
+     * Writes the pending snapshots to the data file until there are none left.
+     */
+    private void writePendingPlannerMd() {
+        while (true) {
+            ReadOnlyPlannerMd snapshot;
+            synchronized (this) {
+                snapshot = pendingPlannerMd;
+                pendingPlannerMd = null;
+                if (snapshot == null) {
+                    isWriteScheduled = false;
+                    notifyAll();
+                    return;
+                }
+            }
+
+            Path filePath = plannerMdStorage.getPlannerMdFilePath();
+            logger.fine("Attempting to write to data file: " + filePath);
+            IOException failure = null;
+            try {
+                plannerMdStorage.savePlannerMd(snapshot, filePath);
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to write to data file: " + filePath + ": " + e);
+                failure = e instanceof IOException ? (IOException) e : new IOException(e);
+            }
+
+            Consumer<IOException> handler;
+            synchronized (this) {
+                // Only the failure of the last write matters, as each write replaces the data written before it
+                writeFailure = failure;
+                handler = failure == null ? null : writeFailureHandler;
+                isWriteFailureReported = handler != null;
+            }
+            if (handler != null) {
+                handler.accept(failure);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the last write failed, whether or not the failure was reported.
+     */
+    private synchronized boolean hasWriteFailed() {
+        return writeFailure != null;
+    }
+
+    /**
+     * Returns the failure of the last write if it was not reported to the write failure handler, and forgets it.
+     * A reported failure is kept until the next write, so that the next save writes the data again.
+     */
+    private synchronized IOException takeUnreportedWriteFailure() {
+        if (isWriteFailureReported) {
+            return null;
+        }
+        IOException failure = writeFailure;
+        writeFailure = null;
+        return failure;
     }
 
+    private synchronized void awaitWrites() throws IOException {
+        try {
+            while (isWriteScheduled) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data file to be written", e);
+        }
+    }
 }
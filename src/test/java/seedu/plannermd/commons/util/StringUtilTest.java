@@ -1,10 +1,13 @@
 package seedu.plannermd.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.plannermd.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +126,29 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for getCaseFoldedWords and caseFoldWord --------------------------------------
+
+    @Test
+    public void getCaseFoldedWords_validInput_correctResult() {
+        assertEquals(new HashSet<>(Arrays.asList("", "aaa", "bbb", "ccc@1")),
+                StringUtil.getCaseFoldedWords("  AAA   bBb ccc@1 bbb  "));
+    }
+
+    @Test
+    public void caseFoldWord_invalidWord_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.caseFoldWord(null));
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", ()
+            -> StringUtil.caseFoldWord("  "));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.caseFoldWord("aaa BBB"));
+    }
+
+    @Test
+    public void caseFoldWord_validWord_matchesCaseFoldedWords() {
+        assertEquals("bbb", StringUtil.caseFoldWord("  bBB  "));
+        assertTrue(StringUtil.getCaseFoldedWords("aaa BbB").contains(StringUtil.caseFoldWord("bbB")));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
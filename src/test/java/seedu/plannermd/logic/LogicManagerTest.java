@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.plannermd.logic.commands.CommandResult;
+import seedu.plannermd.logic.commands.UndoCommand;
 import seedu.plannermd.logic.commands.addcommand.AddPatientCommand;
 import seedu.plannermd.logic.commands.exceptions.CommandException;
 import seedu.plannermd.logic.commands.listcommand.ListPatientCommand;
@@ -69,6 +70,14 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListPatientCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_undoAfterCommand_revertsCommand() throws Exception {
+        String addCommand = AddPatientCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + BIRTH_DATE_DESC_AMY + RISK_DESC_AMY;
+        logic.execute(addCommand);
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, new ModelManager());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonPlannerMdIoExceptionThrowingStub
@@ -0,0 +1,42 @@
+package seedu.plannermd.logic.commands;
+
+import static seedu.plannermd.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.plannermd.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.plannermd.testutil.TypicalPlannerMd.getTypicalPlannerMd;
+import static seedu.plannermd.testutil.patient.TypicalPatients.ALICE;
+import static seedu.plannermd.testutil.patient.TypicalPatients.HOON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.plannermd.model.Model;
+import seedu.plannermd.model.ModelManager;
+import seedu.plannermd.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalPlannerMd(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalPlannerMd(), new UserPrefs());
+
+    @Test
+    public void execute_noUndoneState_failure() {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_undoneStates_success() {
+        model.addPatient(HOON);
+        model.commitPlannerMd();
+        model.deletePatient(ALICE);
+        model.commitPlannerMd();
+        model.undoPlannerMd();
+        model.undoPlannerMd();
+        expectedModel.addPatient(HOON);
+
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        expectedModel.deletePatient(ALICE);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.plannermd.logic.commands;
+
+import static seedu.plannermd.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.plannermd.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.plannermd.testutil.TypicalPlannerMd.getTypicalPlannerMd;
+import static seedu.plannermd.testutil.patient.TypicalPatients.ALICE;
+import static seedu.plannermd.testutil.patient.TypicalPatients.HOON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.plannermd.model.Model;
+import seedu.plannermd.model.ModelManager;
+import seedu.plannermd.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalPlannerMd(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalPlannerMd(), new UserPrefs());
+
+    @Test
+    public void execute_noPreviousState_failure() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_previousStates_success() {
+        model.addPatient(HOON);
+        model.commitPlannerMd();
+        model.deletePatient(ALICE);
+        model.commitPlannerMd();
+        expectedModel.addPatient(HOON);
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        expectedModel.deletePatient(HOON);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+}
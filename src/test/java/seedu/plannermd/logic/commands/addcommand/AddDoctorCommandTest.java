@@ -144,6 +144,46 @@ public class AddDoctorCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoPlannerMd() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoPlannerMd() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoPlannerMd() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoPlannerMd() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitPlannerMd() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackPlannerMd() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPatient(Patient patient) {
             throw new AssertionError("This method should not be called.");
@@ -13,6 +13,7 @@ import static seedu.plannermd.testutil.appointment.TypicalAppointments.TWO_HOUR_
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -29,6 +30,7 @@ import seedu.plannermd.model.ReadOnlyPlannerMd;
 import seedu.plannermd.model.ReadOnlyUserPrefs;
 import seedu.plannermd.model.appointment.Appointment;
 import seedu.plannermd.model.appointment.AppointmentDate;
+import seedu.plannermd.model.appointment.AppointmentIsWithinRangePredicate;
 import seedu.plannermd.model.appointment.UniqueAppointmentList;
 import seedu.plannermd.model.doctor.Doctor;
 import seedu.plannermd.model.patient.Patient;
@@ -109,6 +111,11 @@ public class AddAppointmentCommandTest {
 
         assertThrows(CommandException.class,
                 AddAppointmentCommand.MESSAGE_DUPLICATE_APPOINTMENT, () -> addAppointmentCommand.execute(modelStub));
+
+        // The duplicate is shown with a range starting on its date, so that the older archive is not loaded
+        AppointmentIsWithinRangePredicate shown = (AppointmentIsWithinRangePredicate) modelStub.appointmentPredicate;
+        assertEquals(Optional.of(validAppointment.getAppointmentDate().date.atStartOfDay()), shown.getRangeStart());
+        assertTrue(shown.test(validAppointment));
     }
 
     @Test
@@ -211,6 +218,46 @@ public class AddAppointmentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoPlannerMd() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoPlannerMd() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoPlannerMd() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoPlannerMd() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitPlannerMd() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackPlannerMd() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPatient(Patient patient) {
             throw new AssertionError("This method should not be called.");
@@ -322,6 +369,7 @@ public class AddAppointmentCommandTest {
      */
     private class ModelStubWithAppointment extends AddAppointmentCommandTest.ModelStub {
         private final Appointment appointment;
+        private Predicate<? super Appointment> appointmentPredicate;
 
         ModelStubWithAppointment(Appointment appointment) {
             requireNonNull(appointment);
@@ -370,6 +418,7 @@ public class AddAppointmentCommandTest {
         @Override
         public void updateFilteredAppointmentList(Predicate<? super Appointment> predicate) {
             requireNonNull(predicate);
+            appointmentPredicate = predicate;
         }
     }
 
@@ -7,25 +7,43 @@ import static seedu.plannermd.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.plannermd.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.plannermd.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.plannermd.testutil.Assert.assertThrows;
+import static seedu.plannermd.testutil.TypicalPlannerMd.getTypicalPlannerMd;
+import static seedu.plannermd.testutil.appointment.TypicalAppointments.ANOTHER_FIVE_MIN_APPOINTMENT;
+import static seedu.plannermd.testutil.appointment.TypicalAppointments.ANOTHER_THIRTY_MIN_APPOINTMENT;
 import static seedu.plannermd.testutil.appointment.TypicalAppointments.ANOTHER_TWO_HOUR_APPOINTMENT;
+import static seedu.plannermd.testutil.appointment.TypicalAppointments.FIVE_MIN_APPOINTMENT;
+import static seedu.plannermd.testutil.appointment.TypicalAppointments.THIRTY_MIN_APPOINTMENT;
 import static seedu.plannermd.testutil.appointment.TypicalAppointments.TWO_HOUR_APPOINTMENT;
 import static seedu.plannermd.testutil.doctor.TypicalDoctors.DR_ALICE;
 import static seedu.plannermd.testutil.doctor.TypicalDoctors.DR_BENSON;
 import static seedu.plannermd.testutil.patient.TypicalPatients.ALICE;
 import static seedu.plannermd.testutil.patient.TypicalPatients.BENSON;
+import static seedu.plannermd.testutil.patient.TypicalPatients.CARL;
+import static seedu.plannermd.testutil.patient.TypicalPatients.GEORGE;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.plannermd.commons.core.GuiSettings;
+import seedu.plannermd.commons.exceptions.DataConversionException;
 import seedu.plannermd.model.Model.State;
 import seedu.plannermd.model.appointment.Appointment;
+import seedu.plannermd.model.appointment.AppointmentIsAfterPredicate;
+import seedu.plannermd.model.appointment.AppointmentIsBeforePredicate;
+import seedu.plannermd.model.appointment.AppointmentIsWithinRangePredicate;
+import seedu.plannermd.model.appointment.exceptions.AppointmentArchiveException;
 import seedu.plannermd.model.doctor.Doctor;
 import seedu.plannermd.model.patient.Patient;
 import seedu.plannermd.model.person.NameContainsKeywordsPredicate;
+import seedu.plannermd.model.person.Person;
 import seedu.plannermd.testutil.PlannerMdBuilder;
 import seedu.plannermd.testutil.appointment.AppointmentBuilder;
 import seedu.plannermd.testutil.doctor.DoctorBuilder;
@@ -33,6 +51,10 @@ import seedu.plannermd.testutil.patient.PatientBuilder;
 
 public class ModelManagerTest {
 
+    private static final LocalDate ARCHIVED_BEFORE = LocalDate.of(2023, 1, 1);
+    private static final List<Appointment> ARCHIVED_APPOINTMENTS = Arrays.asList(TWO_HOUR_APPOINTMENT,
+            FIVE_MIN_APPOINTMENT, THIRTY_MIN_APPOINTMENT);
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -43,6 +65,20 @@ public class ModelManagerTest {
         assertEquals(new PlannerMd(), new PlannerMd(modelManager.getPlannerMd()));
     }
 
+    @Test
+    public void takeOver_plannerMd_listsTakenOver() {
+        PlannerMd plannerMd = getTypicalPlannerMd();
+        ModelManager takenOverModelManager = ModelManager.takeOver(plannerMd, new UserPrefs());
+        assertEquals(new ModelManager(getTypicalPlannerMd(), new UserPrefs()), takenOverModelManager);
+
+        // The model modifies the lists it took over, and can undo the modification
+        takenOverModelManager.deletePatient(ALICE);
+        assertFalse(plannerMd.hasPatient(ALICE));
+        takenOverModelManager.commitPlannerMd();
+        takenOverModelManager.undoPlannerMd();
+        assertTrue(plannerMd.hasPatient(ALICE));
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -136,6 +172,40 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredAppointmentList().remove(0));
     }
 
+    @Test
+    public void updateFilteredAppointmentList_rangePredicate_appointmentsWithinRangeFiltered() {
+        modelManager.addAppointment(TWO_HOUR_APPOINTMENT);
+        modelManager.addAppointment(ANOTHER_TWO_HOUR_APPOINTMENT);
+
+        // range including only the first appointment
+        AppointmentIsWithinRangePredicate predicate = new AppointmentIsWithinRangePredicate(
+                new AppointmentIsAfterPredicate(LocalDate.of(2022, 6, 6)),
+                new AppointmentIsBeforePredicate(LocalDate.of(2022, 6, 6)), unused -> true);
+        modelManager.updateFilteredAppointmentList(predicate);
+        assertEquals(Arrays.asList(TWO_HOUR_APPOINTMENT), modelManager.getFilteredAppointmentList());
+
+        // appointments added within the range are filtered, those outside are not
+        Appointment appointmentWithinRange = new AppointmentBuilder(TWO_HOUR_APPOINTMENT).withPatient(BENSON)
+                .withDoctor(DR_BENSON).withSession("08:00", 60).build();
+        Appointment appointmentAfterRange = new AppointmentBuilder(appointmentWithinRange).withDate("7/6/2022")
+                .build();
+        modelManager.addAppointment(appointmentAfterRange);
+        modelManager.addAppointment(appointmentWithinRange);
+        assertEquals(Arrays.asList(appointmentWithinRange, TWO_HOUR_APPOINTMENT),
+                modelManager.getFilteredAppointmentList());
+
+        // other filters are only applied within the range
+        modelManager.updateFilteredAppointmentList(new AppointmentIsWithinRangePredicate(
+                new AppointmentIsAfterPredicate(LocalDate.of(2022, 6, 6)), null,
+                appointment -> appointment.getPatient().equals(BENSON)));
+        assertEquals(Arrays.asList(appointmentWithinRange, appointmentAfterRange),
+                modelManager.getFilteredAppointmentList());
+
+        // predicate without range -> all appointments tested
+        modelManager.updateFilteredAppointmentList(appointment -> appointment.getPatient().equals(ALICE));
+        assertEquals(Arrays.asList(TWO_HOUR_APPOINTMENT), modelManager.getFilteredAppointmentList());
+    }
+
     @Test
     public void deleteAppointmentsWithPerson_deletePerson_appointmentsDeleted() {
         modelManager.addAppointment(TWO_HOUR_APPOINTMENT);
@@ -174,6 +244,78 @@ public class ModelManagerTest {
         assertFalse(modelManager.hasAppointment(ANOTHER_TWO_HOUR_APPOINTMENT));
     }
 
+    @Test
+    public void updateFilteredAppointmentList_archivedAppointments_loadedOnlyWhenInRange() {
+        AppointmentArchiveStub archive = new AppointmentArchiveStub(true);
+        modelManager = new ModelManager(getTypicalPlannerMdWithArchive(archive), new UserPrefs());
+
+        // range after the archived date -> archive not read
+        modelManager.updateFilteredAppointmentList(new AppointmentIsWithinRangePredicate(
+                new AppointmentIsAfterPredicate(ARCHIVED_BEFORE), null, unused -> true));
+        assertFalse(archive.isRead);
+        assertEquals(Arrays.asList(ANOTHER_TWO_HOUR_APPOINTMENT, ANOTHER_FIVE_MIN_APPOINTMENT,
+                ANOTHER_THIRTY_MIN_APPOINTMENT), modelManager.getFilteredAppointmentList());
+
+        // range from before the archived date -> archived appointments loaded
+        modelManager.updateFilteredAppointmentList(new AppointmentIsWithinRangePredicate(
+                new AppointmentIsAfterPredicate(LocalDate.of(2022, 10, 10)), null, unused -> true));
+        assertTrue(archive.isRead);
+        assertEquals(Arrays.asList(THIRTY_MIN_APPOINTMENT, ANOTHER_TWO_HOUR_APPOINTMENT,
+                ANOTHER_FIVE_MIN_APPOINTMENT, ANOTHER_THIRTY_MIN_APPOINTMENT),
+                modelManager.getFilteredAppointmentList());
+
+        // only the archived appointments in range loaded -> earlier appointments left in the archive
+        assertEquals(LocalDate.of(2022, 10, 10),
+                modelManager.getPlannerMd().getAppointmentArchive().get().getArchivedBefore());
+        assertEquals(4, modelManager.getPlannerMd().getAppointmentList().size());
+
+        // range with no start -> all archived appointments loaded
+        modelManager.updateFilteredAppointmentList(new AppointmentIsWithinRangePredicate(
+                null, new AppointmentIsBeforePredicate(ARCHIVED_BEFORE), unused -> true));
+        assertFalse(modelManager.getPlannerMd().getAppointmentArchive().isPresent());
+        assertEquals(getTypicalPlannerMd(), modelManager.getPlannerMd());
+    }
+
+    @Test
+    public void deletePatient_archivedAppointments_archivedAppointmentsDeleted() {
+        AppointmentArchiveStub archive = new AppointmentArchiveStub(true);
+        modelManager = new ModelManager(getTypicalPlannerMdWithArchive(archive), new UserPrefs());
+
+        modelManager.deletePatient(ALICE);
+        modelManager.deleteAppointmentsWithPerson(ALICE);
+        assertTrue(archive.isRead);
+        assertFalse(modelManager.hasAppointment(TWO_HOUR_APPOINTMENT));
+        assertTrue(modelManager.hasAppointment(FIVE_MIN_APPOINTMENT));
+    }
+
+    @Test
+    public void deletePatient_archivedAppointmentsFromLaterDate_archiveOnlyLoadedFromTheirDate() {
+        AppointmentArchiveStub archive = new AppointmentArchiveStub(true);
+        modelManager = new ModelManager(getTypicalPlannerMdWithArchive(archive), new UserPrefs());
+
+        // patient without archived appointments -> archive not read
+        modelManager.deleteAppointmentsWithPerson(GEORGE);
+        modelManager.deletePatient(GEORGE);
+        assertFalse(archive.isRead);
+
+        // patient with archived appointments -> archive loaded from the first of them
+        modelManager.deleteAppointmentsWithPerson(CARL);
+        modelManager.deletePatient(CARL);
+        assertTrue(archive.isRead);
+        assertEquals(THIRTY_MIN_APPOINTMENT.getAppointmentDate().date,
+                modelManager.getPlannerMd().getAppointmentArchive().get().getArchivedBefore());
+        assertFalse(modelManager.getPlannerMd().getAppointmentList().contains(THIRTY_MIN_APPOINTMENT));
+    }
+
+    @Test
+    public void deletePatient_unreadableArchive_throwsAppointmentArchiveException() {
+        modelManager = new ModelManager(getTypicalPlannerMdWithArchive(new AppointmentArchiveStub(false)),
+                new UserPrefs());
+
+        assertThrows(AppointmentArchiveException.class, () -> modelManager.deletePatient(ALICE));
+        assertTrue(modelManager.hasPatient(ALICE));
+    }
+
     @Test
     public void equals() {
         PlannerMd plannerMd = new PlannerMdBuilder()
@@ -221,4 +363,72 @@ public class ModelManagerTest {
         differentUserPrefs.setPlannerMdFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(plannerMd, differentUserPrefs)));
     }
+
+    /**
+     * Returns the typical PlannerMD with the appointments dated before {@code ARCHIVED_BEFORE} left out
+     * into {@code archive}.
+     */
+    private static ReadOnlyPlannerMd getTypicalPlannerMdWithArchive(AppointmentArchive archive) {
+        PlannerMd plannerMd = getTypicalPlannerMd();
+        ARCHIVED_APPOINTMENTS.forEach(plannerMd::removeAppointment);
+        return new PlannerMdSnapshot(plannerMd.getPatientList(), plannerMd.getDoctorList(),
+                plannerMd.getAppointmentList(), plannerMd.getVersion(), archive);
+    }
+
+    /**
+     * An archive of the typical appointments dated before {@code ARCHIVED_BEFORE}, or an earlier date.
+     */
+    private static class AppointmentArchiveStub implements AppointmentArchive {
+        private final boolean isReadable;
+        private final LocalDate archivedBefore;
+        private boolean isRead;
+
+        AppointmentArchiveStub(boolean isReadable) {
+            this(isReadable, ARCHIVED_BEFORE);
+        }
+
+        AppointmentArchiveStub(boolean isReadable, LocalDate archivedBefore) {
+            this.isReadable = isReadable;
+            this.archivedBefore = archivedBefore;
+        }
+
+        @Override
+        public LocalDate getArchivedBefore() {
+            return archivedBefore;
+        }
+
+        @Override
+        public List<Appointment> readAppointments(LocalDate from, List<Patient> patients, List<Doctor> doctors)
+                throws DataConversionException {
+            isRead = true;
+            if (!isReadable) {
+                throw new DataConversionException(new IOException("dummy exception"));
+            }
+            return ARCHIVED_APPOINTMENTS.stream()
+                    .filter(appointment -> !appointment.getAppointmentDate().date.isBefore(from)
+                            && appointment.getAppointmentDate().date.isBefore(archivedBefore))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public LocalDate getFirstDateWith(Person person) {
+            return ARCHIVED_APPOINTMENTS.stream()
+                    .filter(appointment -> appointment.getAppointmentDate().date.isBefore(archivedBefore)
+                            && (person instanceof Patient ? appointment.getPatient() : appointment.getDoctor())
+                            .isSamePerson(person))
+                    .map(appointment -> appointment.getAppointmentDate().date)
+                    .findFirst()
+                    .orElse(archivedBefore);
+        }
+
+        @Override
+        public Optional<AppointmentArchive> before(LocalDate date) {
+            boolean hasRemaining = ARCHIVED_APPOINTMENTS.stream()
+                    .anyMatch(appointment -> appointment.getAppointmentDate().date.isBefore(date));
+            return hasRemaining
+                    ? Optional.of(new AppointmentArchiveStub(isReadable, date.isBefore(archivedBefore)
+                            ? date : archivedBefore))
+                    : Optional.empty();
+        }
+    }
 }
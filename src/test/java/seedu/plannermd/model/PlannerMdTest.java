@@ -12,6 +12,7 @@ import static seedu.plannermd.testutil.appointment.TypicalAppointments.TWO_HOUR_
 import static seedu.plannermd.testutil.doctor.TypicalDoctors.DR_ALICE;
 import static seedu.plannermd.testutil.patient.TypicalPatients.ALICE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -20,6 +21,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.plannermd.model.appointment.Appointment;
 import seedu.plannermd.model.doctor.Doctor;
@@ -109,6 +111,36 @@ public class PlannerMdTest {
         assertTrue(plannerMd.hasDoctor(editedDoctor));
     }
 
+    @Test
+    public void getVersion_dataModified_versionChanged() {
+        long version = plannerMd.getVersion();
+        plannerMd.addPatient(ALICE);
+        assertTrue(plannerMd.getVersion() != version);
+
+        version = plannerMd.getVersion();
+        plannerMd.removePatient(ALICE);
+        assertTrue(plannerMd.getVersion() != version);
+    }
+
+    @Test
+    public void getVersion_modificationsChangingNothing_versionUnchanged() {
+        plannerMd.addPatient(ALICE);
+        long version = plannerMd.getVersion();
+        plannerMd.deleteAppointmentsWithPerson(ALICE);
+        plannerMd.setPatient(ALICE, new PatientBuilder(ALICE).build());
+        assertEquals(version, plannerMd.getVersion());
+    }
+
+    @Test
+    public void getVersion_dataNotModified_versionUnchanged() {
+        plannerMd.addPatient(ALICE);
+        long version = plannerMd.getVersion();
+        plannerMd.hasPatient(ALICE);
+        plannerMd.isClashAppointment(TWO_HOUR_APPOINTMENT);
+        assertThrows(DuplicatePersonException.class, () -> plannerMd.addPatient(ALICE));
+        assertEquals(version, plannerMd.getVersion());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> plannerMd.getPatientList().remove(0));
@@ -189,6 +221,45 @@ public class PlannerMdTest {
         assertTrue(plannerMd.getExactDoctor(editedDoctor).isEmpty());
     }
 
+    @Test
+    public void commitBatch_modificationsInBatch_listenersSeeAllModifications() {
+        List<Integer> patientCounts = new ArrayList<>();
+        plannerMd.getAppointmentList().addListener((ListChangeListener<Appointment>) change ->
+                patientCounts.add(plannerMd.getPatientList().size()));
+
+        plannerMd.beginBatch();
+        plannerMd.addAppointment(TWO_HOUR_APPOINTMENT);
+        plannerMd.addAppointment(ANOTHER_TWO_HOUR_APPOINTMENT);
+        plannerMd.addPatient(ALICE);
+        assertEquals(Collections.emptyList(), patientCounts);
+        plannerMd.commitBatch();
+
+        assertEquals(Collections.singletonList(1), patientCounts);
+    }
+
+    @Test
+    public void getSnapshot_modifiedAfterSnapshot_snapshotUnchanged() {
+        plannerMd.addPatient(ALICE);
+        plannerMd.addAppointment(TWO_HOUR_APPOINTMENT);
+        ReadOnlyPlannerMd snapshot = plannerMd.getSnapshot();
+
+        plannerMd.removePatient(ALICE);
+        plannerMd.addAppointment(ANOTHER_TWO_HOUR_APPOINTMENT);
+
+        assertEquals(Collections.singletonList(ALICE), snapshot.getPatientList());
+        assertEquals(Collections.singletonList(TWO_HOUR_APPOINTMENT), snapshot.getAppointmentList());
+        assertEquals(Collections.emptyList(), plannerMd.getPatientList());
+        assertEquals(Arrays.asList(TWO_HOUR_APPOINTMENT, ANOTHER_TWO_HOUR_APPOINTMENT),
+                plannerMd.getAppointmentList());
+        assertTrue(snapshot.getVersion() < plannerMd.getVersion());
+    }
+
+    @Test
+    public void getSnapshot_modifySnapshot_throwsUnsupportedOperationException() {
+        ReadOnlyPlannerMd snapshot = plannerMd.getSnapshot();
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPatientList().add(ALICE));
+    }
+
     /**
      * A stub ReadOnlyPlannerMd whose persons list can violate interface constraints.
      */
@@ -232,5 +303,10 @@ public class PlannerMdTest {
         public ObservableList<Appointment> getAppointmentList() {
             return appointments;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 }
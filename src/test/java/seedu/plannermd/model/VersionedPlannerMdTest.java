@@ -0,0 +1,186 @@
+package seedu.plannermd.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.plannermd.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.plannermd.testutil.Assert.assertThrows;
+import static seedu.plannermd.testutil.TypicalPlannerMd.getTypicalPlannerMd;
+import static seedu.plannermd.testutil.appointment.TypicalAppointments.ANOTHER_TWO_HOUR_APPOINTMENT;
+import static seedu.plannermd.testutil.appointment.TypicalAppointments.TWO_HOUR_APPOINTMENT;
+import static seedu.plannermd.testutil.doctor.TypicalDoctors.DR_GEORGE;
+import static seedu.plannermd.testutil.patient.TypicalPatients.ALICE;
+import static seedu.plannermd.testutil.patient.TypicalPatients.HOON;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.plannermd.model.appointment.Appointment;
+import seedu.plannermd.model.patient.Patient;
+import seedu.plannermd.testutil.appointment.AppointmentBuilder;
+import seedu.plannermd.testutil.patient.PatientBuilder;
+
+public class VersionedPlannerMdTest {
+
+    private final VersionedPlannerMd versionedPlannerMd = new VersionedPlannerMd(getTypicalPlannerMd());
+
+    @Test
+    public void constructor_initialState_cannotUndoOrRedo() {
+        assertEquals(getTypicalPlannerMd(), versionedPlannerMd);
+        assertFalse(versionedPlannerMd.canUndo());
+        assertFalse(versionedPlannerMd.canRedo());
+    }
+
+    @Test
+    public void commit_noModifications_cannotUndo() {
+        versionedPlannerMd.commit();
+        assertFalse(versionedPlannerMd.canUndo());
+    }
+
+    @Test
+    public void undo_noPreviousState_throwsNoUndoableStateException() {
+        assertThrows(VersionedPlannerMd.NoUndoableStateException.class, versionedPlannerMd::undo);
+    }
+
+    @Test
+    public void redo_noUndoneState_throwsNoRedoableStateException() {
+        versionedPlannerMd.addPatient(HOON);
+        versionedPlannerMd.commit();
+        assertThrows(VersionedPlannerMd.NoRedoableStateException.class, versionedPlannerMd::redo);
+    }
+
+    @Test
+    public void undo_multipleStates_restoresEachState() {
+        PlannerMd expectedInitialState = getTypicalPlannerMd();
+        versionedPlannerMd.addPatient(HOON);
+        versionedPlannerMd.commit();
+        PlannerMd expectedSecondState = new PlannerMd(versionedPlannerMd);
+        versionedPlannerMd.removePatient(ALICE);
+        versionedPlannerMd.deleteAppointmentsWithPerson(ALICE);
+        versionedPlannerMd.commit();
+
+        versionedPlannerMd.undo();
+        assertEquals(expectedSecondState, versionedPlannerMd);
+        versionedPlannerMd.undo();
+        assertEquals(expectedInitialState, versionedPlannerMd);
+        assertFalse(versionedPlannerMd.canUndo());
+        assertTrue(versionedPlannerMd.canRedo());
+    }
+
+    @Test
+    public void redo_afterUndo_restoresUndoneState() {
+        Patient editedAlice = new PatientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        versionedPlannerMd.setPatient(ALICE, editedAlice);
+        versionedPlannerMd.editAppointmentsWithPerson(ALICE, editedAlice);
+        versionedPlannerMd.commit();
+        PlannerMd expectedState = new PlannerMd(versionedPlannerMd);
+
+        versionedPlannerMd.undo();
+        versionedPlannerMd.redo();
+        assertEquals(expectedState, versionedPlannerMd);
+        assertTrue(versionedPlannerMd.canUndo());
+        assertFalse(versionedPlannerMd.canRedo());
+    }
+
+    @Test
+    public void undo_resetData_restoresPreviousData() {
+        versionedPlannerMd.resetData(new PlannerMd());
+        versionedPlannerMd.commit();
+
+        versionedPlannerMd.undo();
+        assertEquals(getTypicalPlannerMd(), versionedPlannerMd);
+    }
+
+    @Test
+    public void undo_uncommittedModifications_commitsThenRestoresPreviousState() {
+        versionedPlannerMd.addPatient(HOON);
+
+        versionedPlannerMd.undo();
+        assertEquals(getTypicalPlannerMd(), versionedPlannerMd);
+        assertTrue(versionedPlannerMd.canRedo());
+    }
+
+    @Test
+    public void rollback_uncommittedModifications_restoresLastCommittedState() {
+        versionedPlannerMd.addPatient(HOON);
+        versionedPlannerMd.commit();
+        PlannerMd expectedState = new PlannerMd(versionedPlannerMd);
+        versionedPlannerMd.removePatient(ALICE);
+        versionedPlannerMd.deleteAppointmentsWithPerson(ALICE);
+
+        versionedPlannerMd.rollback();
+        assertEquals(expectedState, versionedPlannerMd);
+        assertTrue(versionedPlannerMd.hasPatient(ALICE));
+        versionedPlannerMd.undo();
+        assertEquals(getTypicalPlannerMd(), versionedPlannerMd);
+        assertFalse(versionedPlannerMd.canUndo());
+    }
+
+    @Test
+    public void commit_moreThanMaxStates_oldestStatesRemoved() {
+        for (int i = 0; i <= VersionedPlannerMd.MAX_UNDOABLE_STATES; i++) {
+            versionedPlannerMd.addPatient(HOON);
+            versionedPlannerMd.commit();
+            versionedPlannerMd.removePatient(HOON);
+            versionedPlannerMd.commit();
+        }
+
+        for (int i = 0; i < VersionedPlannerMd.MAX_UNDOABLE_STATES; i++) {
+            versionedPlannerMd.undo();
+        }
+        assertFalse(versionedPlannerMd.canUndo());
+    }
+
+    @Test
+    public void commit_afterUndo_removesUndoneStates() {
+        versionedPlannerMd.addPatient(HOON);
+        versionedPlannerMd.commit();
+        versionedPlannerMd.undo();
+
+        versionedPlannerMd.removePatient(ALICE);
+        versionedPlannerMd.commit();
+        assertFalse(versionedPlannerMd.canRedo());
+    }
+
+    @Test
+    public void undo_removedAppointment_restoresAppointmentIndexes() {
+        versionedPlannerMd.removeAppointment(TWO_HOUR_APPOINTMENT);
+        versionedPlannerMd.commit();
+        versionedPlannerMd.undo();
+
+        assertTrue(versionedPlannerMd.hasAppointment(TWO_HOUR_APPOINTMENT));
+        Appointment clashingAppointment = new AppointmentBuilder(TWO_HOUR_APPOINTMENT).withPatient(HOON)
+                .withDoctor(DR_GEORGE).build();
+        assertTrue(versionedPlannerMd.isClashAppointment(clashingAppointment));
+        versionedPlannerMd.deleteAppointmentsWithPerson(ALICE);
+        assertFalse(versionedPlannerMd.hasAppointment(TWO_HOUR_APPOINTMENT));
+    }
+
+    @Test
+    public void undo_removedPatient_restoresPatientPositions() {
+        versionedPlannerMd.removePatient(ALICE);
+        versionedPlannerMd.commit();
+        versionedPlannerMd.undo();
+
+        assertTrue(versionedPlannerMd.hasPatient(ALICE));
+        versionedPlannerMd.removePatient(ALICE);
+        assertFalse(versionedPlannerMd.hasPatient(ALICE));
+    }
+
+    @Test
+    public void undo_afterArchivedAppointmentsAdded_restoresPreviousState() {
+        PlannerMd plannerMdWithoutArchive = getTypicalPlannerMd();
+        plannerMdWithoutArchive.removeAppointment(TWO_HOUR_APPOINTMENT);
+        VersionedPlannerMd versionedPlannerMd = new VersionedPlannerMd(plannerMdWithoutArchive);
+        versionedPlannerMd.removeAppointment(ANOTHER_TWO_HOUR_APPOINTMENT);
+        versionedPlannerMd.commit();
+
+        versionedPlannerMd.addArchivedAppointments(Collections.singletonList(TWO_HOUR_APPOINTMENT), null);
+        versionedPlannerMd.undo();
+        assertEquals(getTypicalPlannerMd(), versionedPlannerMd);
+        versionedPlannerMd.redo();
+        assertFalse(versionedPlannerMd.hasAppointment(ANOTHER_TWO_HOUR_APPOINTMENT));
+        assertTrue(versionedPlannerMd.hasAppointment(TWO_HOUR_APPOINTMENT));
+    }
+}
@@ -25,6 +25,13 @@ class AppointmentDateTest {
         assertThrows(IllegalArgumentException.class, () -> new AppointmentDate(invalidDate));
     }
 
+    @Test
+    public void constructor_epochDay_sameAsDate() {
+        AppointmentDate date = new AppointmentDate(validDate);
+        assertEquals(date, new AppointmentDate(date.getEpochDay()));
+        assertThrows(IllegalArgumentException.class, () -> new AppointmentDate(Long.MAX_VALUE));
+    }
+
     @Test
     public void isValidAppointmentDate_validDate_success() {
         assertTrue(AppointmentDate.isValidAppointmentDate(validDate));
@@ -0,0 +1,70 @@
+package seedu.plannermd.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.plannermd.testutil.appointment.AppointmentBuilder;
+
+public class AppointmentIsWithinRangePredicateTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2021, 10, 20);
+    private static final LocalDate END_DATE = LocalDate.of(2021, 10, 22);
+
+    @Test
+    public void constructor_nullOtherFilters_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AppointmentIsWithinRangePredicate(null, null, null));
+    }
+
+    @Test
+    public void getRange() {
+        AppointmentIsWithinRangePredicate predicate = new AppointmentIsWithinRangePredicate(
+                new AppointmentIsAfterPredicate(START_DATE), new AppointmentIsBeforePredicate(END_DATE),
+                unused -> true);
+        assertEquals(Optional.of(START_DATE.atStartOfDay()), predicate.getRangeStart());
+        assertEquals(Optional.of(new AppointmentIsBeforePredicate(END_DATE).getFilterEndDateTime()),
+                predicate.getRangeEnd());
+
+        // unbounded range
+        AppointmentIsWithinRangePredicate unboundedPredicate = new AppointmentIsWithinRangePredicate(null, null,
+                unused -> true);
+        assertEquals(Optional.empty(), unboundedPredicate.getRangeStart());
+        assertEquals(Optional.empty(), unboundedPredicate.getRangeEnd());
+    }
+
+    @Test
+    public void test_appointmentWithinRangeAndFilters_returnsTrue() {
+        AppointmentIsWithinRangePredicate predicate = new AppointmentIsWithinRangePredicate(
+                new AppointmentIsAfterPredicate(START_DATE), new AppointmentIsBeforePredicate(END_DATE),
+                appointment -> appointment.getSession().getMinutes() == 30);
+
+        // Appointment on the start date, end date and in between -> returns true
+        assertTrue(predicate.test(new AppointmentBuilder().withDate("20/10/2021").withSession("00:00", 30).build()));
+        assertTrue(predicate.test(new AppointmentBuilder().withDate("21/10/2021").withSession("12:00", 30).build()));
+        assertTrue(predicate.test(new AppointmentBuilder().withDate("22/10/2021").withSession("23:00", 30).build()));
+
+        // Unbounded range -> returns true
+        assertTrue(new AppointmentIsWithinRangePredicate(null, null, unused -> true)
+                .test(new AppointmentBuilder().build()));
+    }
+
+    @Test
+    public void test_appointmentOutsideRangeOrFilters_returnsFalse() {
+        AppointmentIsWithinRangePredicate predicate = new AppointmentIsWithinRangePredicate(
+                new AppointmentIsAfterPredicate(START_DATE), new AppointmentIsBeforePredicate(END_DATE),
+                appointment -> appointment.getSession().getMinutes() == 30);
+
+        // Appointment before and after the range -> returns false
+        assertFalse(predicate.test(new AppointmentBuilder().withDate("19/10/2021").withSession("23:59", 30).build()));
+        assertFalse(predicate.test(new AppointmentBuilder().withDate("23/10/2021").withSession("00:00", 30).build()));
+
+        // Appointment within the range that does not pass the other filters -> returns false
+        assertFalse(predicate.test(new AppointmentBuilder().withDate("21/10/2021").withSession("12:00", 60).build()));
+    }
+}
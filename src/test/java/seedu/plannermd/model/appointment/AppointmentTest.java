@@ -16,6 +16,8 @@ import static seedu.plannermd.testutil.patient.TypicalPatients.ALICE;
 import static seedu.plannermd.testutil.patient.TypicalPatients.BENSON;
 import static seedu.plannermd.testutil.patient.TypicalPatients.BOB;
 
+import java.time.LocalDateTime;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.plannermd.testutil.appointment.AppointmentBuilder;
@@ -106,6 +108,36 @@ public class AppointmentTest {
         assertTrue(APPT_ALICE_GEORGE.compareTo(earlyDate) > 0);
     }
 
+    @Test
+    public void compareStartTo() {
+        // later date and time -> < 0
+        assertTrue(APPT_ALICE_GEORGE.compareStartTo(LocalDateTime.of(2022, 6, 6, 18, 1)) < 0);
+        assertTrue(APPT_ALICE_GEORGE.compareStartTo(LocalDateTime.of(2022, 6, 7, 0, 0)) < 0);
+
+        // same date and time -> == 0
+        assertEquals(0, APPT_ALICE_GEORGE.compareStartTo(LocalDateTime.of(2022, 6, 6, 18, 0)));
+
+        // earlier date and time -> > 0
+        assertTrue(APPT_ALICE_GEORGE.compareStartTo(LocalDateTime.of(2022, 6, 6, 17, 59)) > 0);
+        assertTrue(APPT_ALICE_GEORGE.compareStartTo(LocalDateTime.of(2022, 6, 5, 23, 59)) > 0);
+
+        // within the minute before or at the start -> compared exactly
+        assertTrue(APPT_ALICE_GEORGE.compareStartTo(LocalDateTime.of(2022, 6, 6, 17, 59, 30)) > 0);
+        assertTrue(APPT_ALICE_GEORGE.compareStartTo(LocalDateTime.of(2022, 6, 6, 18, 0, 0, 1)) < 0);
+    }
+
+    @Test
+    public void toStartEpochMinute() {
+        assertEquals(APPT_ALICE_GEORGE.getStartEpochMinute(),
+                Appointment.toStartEpochMinute(LocalDateTime.of(2022, 6, 6, 18, 0)));
+
+        // within a minute -> rounded up to the next minute
+        assertEquals(APPT_ALICE_GEORGE.getStartEpochMinute(),
+                Appointment.toStartEpochMinute(LocalDateTime.of(2022, 6, 6, 17, 59, 59)));
+        assertEquals(APPT_ALICE_GEORGE.getStartEpochMinute() + 1,
+                Appointment.toStartEpochMinute(LocalDateTime.of(2022, 6, 6, 18, 0, 1)));
+    }
+
     @Test
     public void equals() {
         Appointment thirtyMinApptCopy = new AppointmentBuilder(THIRTY_MIN_APPOINTMENT).build();
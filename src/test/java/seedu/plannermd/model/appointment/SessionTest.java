@@ -30,6 +30,13 @@ class SessionTest {
         assertThrows(IllegalArgumentException.class, () -> new Session(invalidTime, duration));
     }
 
+    @Test
+    public void constructor_startMinute_sameAsStartTime() {
+        assertEquals(new Session(validTime2, duration), new Session(20 * 60 + 30, duration));
+        assertThrows(IllegalArgumentException.class, () -> new Session(-1, duration));
+        assertThrows(IllegalArgumentException.class, () -> new Session(Session.MINUTES_PER_DAY, duration));
+    }
+
     @Test
     public void isValidTime_validStartTime_success() {
         assertTrue(Session.isValidTime(validTime));
@@ -92,6 +99,18 @@ class SessionTest {
         assertEquals("10:15", new Session(validTime, duration).getFormattedEndTime());
     }
 
+    @Test
+    public void getStartMinuteAndEndMinute() {
+        Session session = new Session(validTime, duration);
+        assertEquals(600, session.getStartMinute());
+        assertEquals(615, session.getEndMinute());
+
+        // end wraps around to the next day
+        Session lateSession = new Session("23:30", new Duration(60));
+        assertEquals(1410, lateSession.getStartMinute());
+        assertEquals(30, lateSession.getEndMinute());
+    }
+
     @Test
     public void equals() {
         final Session session = new Session(validTime, duration);
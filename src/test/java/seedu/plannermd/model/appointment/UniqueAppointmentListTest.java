@@ -2,20 +2,29 @@ package seedu.plannermd.model.appointment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.plannermd.testutil.Assert.assertThrows;
 import static seedu.plannermd.testutil.appointment.TypicalAppointments.FIVE_MIN_APPOINTMENT;
 import static seedu.plannermd.testutil.appointment.TypicalAppointments.TWO_HOUR_APPOINTMENT;
+import static seedu.plannermd.testutil.doctor.TypicalDoctors.DR_GEORGE;
+import static seedu.plannermd.testutil.patient.TypicalPatients.ALICE;
+import static seedu.plannermd.testutil.patient.TypicalPatients.BENSON;
 
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import javafx.collections.ListChangeListener;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.plannermd.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.plannermd.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.plannermd.model.doctor.Doctor;
 import seedu.plannermd.testutil.appointment.AppointmentBuilder;
+import seedu.plannermd.testutil.doctor.DoctorBuilder;
 
 class UniqueAppointmentListTest {
 
@@ -75,6 +84,70 @@ class UniqueAppointmentListTest {
         assertTrue(uniqueAppointmentList.isClash(clashAppointment));
     }
 
+    @Test
+    public void isClash_adjacentSessions_returnsFalse() {
+        uniqueAppointmentList.add(TWO_HOUR_APPOINTMENT);
+        Appointment beforeAppointment = new AppointmentBuilder(TWO_HOUR_APPOINTMENT)
+                .withSession("16:00", 120).build();
+        Appointment afterAppointment = new AppointmentBuilder(TWO_HOUR_APPOINTMENT)
+                .withSession("20:00", 30).build();
+        assertFalse(uniqueAppointmentList.isClash(beforeAppointment));
+        assertFalse(uniqueAppointmentList.isClash(afterAppointment));
+    }
+
+    @Test
+    public void isClash_overlappingEarlierSession_returnsTrue() {
+        uniqueAppointmentList.add(TWO_HOUR_APPOINTMENT);
+        Appointment clashAppointment = new AppointmentBuilder(FIVE_MIN_APPOINTMENT)
+                .withDoctor(TWO_HOUR_APPOINTMENT.getDoctor())
+                .withDate(TWO_HOUR_APPOINTMENT.getAppointmentDate().toInputStringFormat())
+                .withSession("19:59", 5).build();
+        assertTrue(uniqueAppointmentList.isClash(clashAppointment));
+    }
+
+    @Test
+    public void isClash_removedAppointment_returnsFalse() {
+        uniqueAppointmentList.add(TWO_HOUR_APPOINTMENT);
+        uniqueAppointmentList.remove(TWO_HOUR_APPOINTMENT);
+        assertFalse(uniqueAppointmentList.isClash(TWO_HOUR_APPOINTMENT));
+
+        uniqueAppointmentList.add(TWO_HOUR_APPOINTMENT);
+        uniqueAppointmentList.setAppointment(TWO_HOUR_APPOINTMENT, FIVE_MIN_APPOINTMENT);
+        assertFalse(uniqueAppointmentList.isClash(TWO_HOUR_APPOINTMENT));
+        assertTrue(uniqueAppointmentList.isClash(FIVE_MIN_APPOINTMENT));
+    }
+
+    @Test
+    public void isClash_modifiedAfterSetAppointments_returnsClashesWithCurrentAppointments() {
+        uniqueAppointmentList.setAppointments(Collections.singletonList(TWO_HOUR_APPOINTMENT));
+        uniqueAppointmentList.remove(TWO_HOUR_APPOINTMENT);
+        uniqueAppointmentList.setAppointments(Collections.singletonList(FIVE_MIN_APPOINTMENT));
+        uniqueAppointmentList.deleteAppointmentsWithPatient(FIVE_MIN_APPOINTMENT.getPatient());
+        uniqueAppointmentList.add(TWO_HOUR_APPOINTMENT);
+        assertFalse(uniqueAppointmentList.isClash(FIVE_MIN_APPOINTMENT));
+        assertTrue(uniqueAppointmentList.isClash(TWO_HOUR_APPOINTMENT));
+    }
+
+    @Test
+    public void isClashForEdited_onlyClashesWithOldAppointment_returnsFalse() {
+        uniqueAppointmentList.add(TWO_HOUR_APPOINTMENT);
+        Appointment editedAppointment = new AppointmentBuilder(TWO_HOUR_APPOINTMENT)
+                .withSession("18:30", 60).build();
+        assertTrue(uniqueAppointmentList.isClash(editedAppointment));
+        assertFalse(uniqueAppointmentList.isClashForEdited(editedAppointment, TWO_HOUR_APPOINTMENT));
+    }
+
+    @Test
+    public void isClashForEdited_clashesWithOtherAppointment_returnsTrue() {
+        uniqueAppointmentList.add(TWO_HOUR_APPOINTMENT);
+        uniqueAppointmentList.add(FIVE_MIN_APPOINTMENT);
+        Appointment editedAppointment = new AppointmentBuilder(FIVE_MIN_APPOINTMENT)
+                .withPatient(TWO_HOUR_APPOINTMENT.getPatient())
+                .withDate(TWO_HOUR_APPOINTMENT.getAppointmentDate().toInputStringFormat())
+                .withSession("19:00", 5).build();
+        assertTrue(uniqueAppointmentList.isClashForEdited(editedAppointment, FIVE_MIN_APPOINTMENT));
+    }
+
 
     @Test
     public void add_nullAppointment_throwsNullPointerException() {
@@ -87,6 +160,19 @@ class UniqueAppointmentListTest {
         assertThrows(DuplicateAppointmentException.class, () -> uniqueAppointmentList.add(TWO_HOUR_APPOINTMENT));
     }
 
+    @Test
+    public void add_appointmentsOutOfOrder_keepsListSorted() {
+        Appointment sameStartAppointment = new AppointmentBuilder(FIVE_MIN_APPOINTMENT).withPatient(ALICE)
+                .withDoctor(DR_GEORGE).build();
+        uniqueAppointmentList.add(FIVE_MIN_APPOINTMENT);
+        uniqueAppointmentList.add(TWO_HOUR_APPOINTMENT);
+        uniqueAppointmentList.add(sameStartAppointment);
+
+        List<Appointment> expectedAppointments = Arrays.asList(TWO_HOUR_APPOINTMENT, FIVE_MIN_APPOINTMENT,
+                sameStartAppointment);
+        assertEquals(expectedAppointments, uniqueAppointmentList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setAppointment_nullTargetAppointment_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueAppointmentList.setAppointment(null,
@@ -134,6 +220,19 @@ class UniqueAppointmentListTest {
         assertEquals(expectedUniquePersonList, uniqueAppointmentList);
     }
 
+    @Test
+    public void setAppointment_editedAppointmentStartsLater_movesAppointment() {
+        uniqueAppointmentList.add(TWO_HOUR_APPOINTMENT);
+        uniqueAppointmentList.add(FIVE_MIN_APPOINTMENT);
+        Appointment editedAppointment = new AppointmentBuilder(TWO_HOUR_APPOINTMENT).withDate("9/8/2022").build();
+        uniqueAppointmentList.setAppointment(TWO_HOUR_APPOINTMENT, editedAppointment);
+
+        List<Appointment> expectedAppointments = Arrays.asList(FIVE_MIN_APPOINTMENT, editedAppointment);
+        assertEquals(expectedAppointments, uniqueAppointmentList.asUnmodifiableObservableList());
+        uniqueAppointmentList.remove(editedAppointment);
+        assertFalse(uniqueAppointmentList.contains(editedAppointment));
+    }
+
     @Test
     public void setAppointment_editedAppointmentHasNonUniqueIdentity_throwsDuplicateAppointmentException() {
         uniqueAppointmentList.add(TWO_HOUR_APPOINTMENT);
@@ -160,6 +259,17 @@ class UniqueAppointmentListTest {
         assertEquals(expectedUniqueAppointmentList, uniqueAppointmentList);
     }
 
+    @Test
+    public void remove_appointmentBeforeOtherAppointment_otherAppointmentStillFound() {
+        uniqueAppointmentList.add(TWO_HOUR_APPOINTMENT);
+        uniqueAppointmentList.add(FIVE_MIN_APPOINTMENT);
+        uniqueAppointmentList.remove(TWO_HOUR_APPOINTMENT);
+        assertTrue(uniqueAppointmentList.contains(FIVE_MIN_APPOINTMENT));
+
+        uniqueAppointmentList.remove(FIVE_MIN_APPOINTMENT);
+        assertFalse(uniqueAppointmentList.contains(FIVE_MIN_APPOINTMENT));
+    }
+
     @Test
     public void setAppointments_nullUniqueAppointmentList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueAppointmentList
@@ -198,6 +308,100 @@ class UniqueAppointmentListTest {
                 .setAppointments(listWithDuplicateAppointments));
     }
 
+    @Test
+    public void deleteAppointmentsWithDoctor_doctorWithSomeAppointments_removesOnlyTheirAppointments() {
+        Appointment laterAppointment = new AppointmentBuilder(TWO_HOUR_APPOINTMENT).withDate("7/6/2022").build();
+        uniqueAppointmentList.add(TWO_HOUR_APPOINTMENT);
+        uniqueAppointmentList.add(FIVE_MIN_APPOINTMENT);
+        uniqueAppointmentList.add(laterAppointment);
+
+        uniqueAppointmentList.deleteAppointmentsWithDoctor(DR_GEORGE);
+        UniqueAppointmentList expectedUniqueAppointmentList = new UniqueAppointmentList();
+        expectedUniqueAppointmentList.add(FIVE_MIN_APPOINTMENT);
+        assertEquals(expectedUniqueAppointmentList, uniqueAppointmentList);
+        assertFalse(uniqueAppointmentList.isClash(laterAppointment));
+
+        // the remaining appointment is still found at its new position
+        uniqueAppointmentList.remove(FIVE_MIN_APPOINTMENT);
+        assertFalse(uniqueAppointmentList.contains(FIVE_MIN_APPOINTMENT));
+    }
+
+    @Test
+    public void deleteAppointmentsWithDoctor_modifiedAfterSetAppointments_removesTheirCurrentAppointments() {
+        Appointment laterAppointment = new AppointmentBuilder(TWO_HOUR_APPOINTMENT).withDate("7/6/2022").build();
+        uniqueAppointmentList.setAppointments(Arrays.asList(TWO_HOUR_APPOINTMENT, FIVE_MIN_APPOINTMENT));
+        // The indexes built in the background from the appointments set are only taken after these modifications
+        uniqueAppointmentList.remove(TWO_HOUR_APPOINTMENT);
+        uniqueAppointmentList.add(laterAppointment);
+
+        uniqueAppointmentList.deleteAppointmentsWithDoctor(DR_GEORGE);
+        UniqueAppointmentList expectedUniqueAppointmentList = new UniqueAppointmentList();
+        expectedUniqueAppointmentList.add(FIVE_MIN_APPOINTMENT);
+        assertEquals(expectedUniqueAppointmentList, uniqueAppointmentList);
+        assertFalse(uniqueAppointmentList.isClash(laterAppointment));
+    }
+
+    @Test
+    public void add_onlyClashIndexUsedAfterSetAppointments_releasesSnapshotOfIndexes() {
+        uniqueAppointmentList.setAppointments(Collections.singletonList(TWO_HOUR_APPOINTMENT));
+        // The snapshot the indexes are built from, which the list shares until it is next modified
+        WeakReference<List<Appointment>> indexedSnapshot = new WeakReference<>(uniqueAppointmentList.snapshot());
+
+        // Only the clash index is needed to add an appointment, but the person index is taken too
+        uniqueAppointmentList.add(FIVE_MIN_APPOINTMENT);
+        for (int i = 0; i < 10 && indexedSnapshot.get() != null; i++) {
+            System.gc();
+        }
+        assertNull(indexedSnapshot.get());
+
+        // The person index taken early still has the modifications made since
+        uniqueAppointmentList.deleteAppointmentsWithPatient(FIVE_MIN_APPOINTMENT.getPatient());
+        UniqueAppointmentList expectedUniqueAppointmentList = new UniqueAppointmentList();
+        expectedUniqueAppointmentList.add(TWO_HOUR_APPOINTMENT);
+        assertEquals(expectedUniqueAppointmentList, uniqueAppointmentList);
+    }
+
+    @Test
+    public void editAppointmentsWithDoctor_doctorWithSomeAppointments_updatesTheirAppointmentsInOneChange() {
+        Appointment laterAppointment = new AppointmentBuilder(TWO_HOUR_APPOINTMENT).withDate("7/6/2022").build();
+        uniqueAppointmentList.add(TWO_HOUR_APPOINTMENT);
+        uniqueAppointmentList.add(FIVE_MIN_APPOINTMENT);
+        uniqueAppointmentList.add(laterAppointment);
+        int[] changeCount = new int[1];
+        uniqueAppointmentList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Appointment>) change -> changeCount[0]++);
+
+        Doctor editedDoctor = new DoctorBuilder(DR_GEORGE).withPhone("91234567").build();
+        uniqueAppointmentList.editAppointmentsWithDoctor(DR_GEORGE, editedDoctor);
+        Appointment editedAppointment = new AppointmentBuilder(TWO_HOUR_APPOINTMENT).withDoctor(editedDoctor).build();
+        Appointment editedLaterAppointment = new AppointmentBuilder(laterAppointment).withDoctor(editedDoctor).build();
+        UniqueAppointmentList expectedUniqueAppointmentList = new UniqueAppointmentList();
+        expectedUniqueAppointmentList.add(editedAppointment);
+        expectedUniqueAppointmentList.add(FIVE_MIN_APPOINTMENT);
+        expectedUniqueAppointmentList.add(editedLaterAppointment);
+        assertEquals(expectedUniqueAppointmentList, uniqueAppointmentList);
+        assertEquals(1, changeCount[0]);
+
+        // the edited appointments are the ones updated again when the edited doctor is edited
+        uniqueAppointmentList.editAppointmentsWithDoctor(editedDoctor, DR_GEORGE);
+        assertTrue(uniqueAppointmentList.contains(TWO_HOUR_APPOINTMENT));
+        assertTrue(uniqueAppointmentList.contains(laterAppointment));
+        assertFalse(uniqueAppointmentList.contains(editedAppointment));
+    }
+
+    @Test
+    public void editAppointmentsWithPatient_nonUniqueEditedAppointment_throwsDuplicateAppointmentException() {
+        Appointment otherPatientAppointment = new AppointmentBuilder(TWO_HOUR_APPOINTMENT).withPatient(BENSON).build();
+        List<Appointment> appointments = Arrays.asList(TWO_HOUR_APPOINTMENT, otherPatientAppointment);
+        uniqueAppointmentList.setAppointments(appointments);
+
+        assertThrows(DuplicateAppointmentException.class, () -> uniqueAppointmentList
+                .editAppointmentsWithPatient(ALICE, BENSON));
+        UniqueAppointmentList expectedUniqueAppointmentList = new UniqueAppointmentList();
+        expectedUniqueAppointmentList.setAppointments(appointments);
+        assertEquals(expectedUniqueAppointmentList, uniqueAppointmentList);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> uniqueAppointmentList.asUnmodifiableObservableList()
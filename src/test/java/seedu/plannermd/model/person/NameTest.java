@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.plannermd.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -37,4 +40,18 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void containsAnyWord() {
+        Name name = new Name("Alice Pauline");
+
+        // no keywords
+        assertFalse(name.containsAnyWord(Collections.emptyList()));
+
+        // only partial or non-matching keywords
+        assertFalse(name.containsAnyWord(Arrays.asList("alic", "bob")));
+
+        // one matching keyword
+        assertTrue(name.containsAnyWord(Arrays.asList("bob", "pauline")));
+    }
 }
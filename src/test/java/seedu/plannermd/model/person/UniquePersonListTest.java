@@ -14,6 +14,7 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.plannermd.model.person.exceptions.DuplicatePersonException;
 import seedu.plannermd.model.person.exceptions.PersonNotFoundException;
 import seedu.plannermd.testutil.PersonBuilder;
@@ -66,6 +67,18 @@ public abstract class UniquePersonListTest<T extends Person> {
         assertTrue(personList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentlyCasedIdentityFieldsInList_returnsTrue() {
+        personList.add(alice);
+        Person upperCaseAlicePerson = new PersonBuilder(alice)
+                .withName(alice.getName().fullName.toUpperCase())
+                .withEmail(alice.getEmail().value.toUpperCase())
+                .build();
+        T upperCaseAlice = samplePerson(upperCaseAlicePerson);
+
+        assertTrue(personList.contains(upperCaseAlice));
+    }
+
     @Test
     void getExactPerson_personNotInList_returnsEmpty() {
         assertTrue(personList.getExactPerson(alice).isEmpty());
@@ -174,6 +187,17 @@ public abstract class UniquePersonListTest<T extends Person> {
         assertEquals(expectedUniquePersonList, personList);
     }
 
+    @Test
+    public void remove_personBeforeOtherPerson_otherPersonStillFound() {
+        personList.add(alice);
+        personList.add(bob);
+        personList.remove(alice);
+        assertEquals(bob, personList.getExactPerson(bob).get());
+
+        personList.remove(bob);
+        assertFalse(personList.contains(bob));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> personList.setPersons((UniquePersonList<T>) null));
@@ -209,6 +233,30 @@ public abstract class UniquePersonListTest<T extends Person> {
         assertThrows(DuplicatePersonException.class, () -> personList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void commitBatch_modificationsInBatch_publishesOneChange() {
+        int[] changeCount = new int[1];
+        personList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<T>) change -> changeCount[0]++);
+
+        personList.beginBatch();
+        personList.add(alice);
+        personList.add(bob);
+        personList.remove(alice);
+        assertEquals(0, changeCount[0]);
+        personList.commitBatch();
+        assertEquals(1, changeCount[0]);
+
+        UniquePersonList<T> expectedUniquePersonList = new UniquePersonList<>();
+        expectedUniquePersonList.add(bob);
+        assertEquals(expectedUniquePersonList, personList);
+    }
+
+    @Test
+    public void commitBatch_noBatchStarted_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> personList.commitBatch());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(
@@ -0,0 +1,299 @@
+package seedu.plannermd.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.plannermd.testutil.Assert.assertThrows;
+import static seedu.plannermd.testutil.TypicalPlannerMd.getTypicalPlannerMd;
+import static seedu.plannermd.testutil.appointment.TypicalAppointments.ANOTHER_FIVE_MIN_APPOINTMENT;
+import static seedu.plannermd.testutil.appointment.TypicalAppointments.ANOTHER_THIRTY_MIN_APPOINTMENT;
+import static seedu.plannermd.testutil.appointment.TypicalAppointments.ANOTHER_TWO_HOUR_APPOINTMENT;
+import static seedu.plannermd.testutil.appointment.TypicalAppointments.FIVE_MIN_APPOINTMENT;
+import static seedu.plannermd.testutil.appointment.TypicalAppointments.THIRTY_MIN_APPOINTMENT;
+import static seedu.plannermd.testutil.appointment.TypicalAppointments.TWO_HOUR_APPOINTMENT;
+import static seedu.plannermd.testutil.doctor.TypicalDoctors.DR_FIONA;
+import static seedu.plannermd.testutil.patient.TypicalPatients.CARL;
+import static seedu.plannermd.testutil.patient.TypicalPatients.GEORGE;
+import static seedu.plannermd.testutil.patient.TypicalPatients.HOON;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.plannermd.commons.exceptions.DataConversionException;
+import seedu.plannermd.model.AppointmentArchive;
+import seedu.plannermd.model.PlannerMd;
+import seedu.plannermd.model.ReadOnlyPlannerMd;
+
+public class ArchivingPlannerMdStorageTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2023, 1, 1);
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path archivePath;
+    private Path juneArchivePath;
+    private Path augustArchivePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempPlannerMd.json");
+        archivePath = testFolder.resolve("TempPlannerMd.json.archive");
+        juneArchivePath = testFolder.resolve("TempPlannerMd.json.archive-2022-06");
+        augustArchivePath = testFolder.resolve("TempPlannerMd.json.archive-2022-08");
+    }
+
+    private ArchivingPlannerMdStorage createStorage(LocalDate today) {
+        Clock clock = Clock.fixed(today.atStartOfDay(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        return new ArchivingPlannerMdStorage(new JsonPlannerMdStorage(filePath), 0, clock);
+    }
+
+    /**
+     * Returns a copy of {@code plannerMd} with its archived appointments loaded.
+     */
+    private PlannerMd loadArchive(ReadOnlyPlannerMd plannerMd) throws DataConversionException {
+        PlannerMd loaded = new PlannerMd(plannerMd);
+        AppointmentArchive archive = plannerMd.getAppointmentArchive().get();
+        loaded.addArchivedAppointments(archive.readAppointments(LocalDate.MIN, plannerMd.getPatientList(),
+                plannerMd.getDoctorList()), null);
+        return loaded;
+    }
+
+    @Test
+    public void readPlannerMd_noArchive_noArchiveInData() throws Exception {
+        new JsonPlannerMdStorage(filePath).savePlannerMd(getTypicalPlannerMd());
+
+        ReadOnlyPlannerMd readBack = createStorage(TODAY).readPlannerMd().get();
+        assertFalse(readBack.getAppointmentArchive().isPresent());
+        assertEquals(getTypicalPlannerMd(), new PlannerMd(readBack));
+    }
+
+    @Test
+    public void readAndSavePlannerMd_oldAppointments_archivedAndReadWhenNeeded() throws Exception {
+        createStorage(TODAY).savePlannerMd(getTypicalPlannerMd());
+        assertTrue(Files.exists(archivePath));
+
+        ReadOnlyPlannerMd readBack = createStorage(TODAY).readPlannerMd().get();
+        assertEquals(Arrays.asList(ANOTHER_TWO_HOUR_APPOINTMENT, ANOTHER_FIVE_MIN_APPOINTMENT,
+                ANOTHER_THIRTY_MIN_APPOINTMENT), readBack.getAppointmentList());
+        assertEquals(TODAY, readBack.getAppointmentArchive().get().getArchivedBefore());
+        assertEquals(getTypicalPlannerMd(), loadArchive(readBack));
+    }
+
+    @Test
+    public void savePlannerMd_archiveNotLoaded_archiveUnchanged() throws Exception {
+        createStorage(TODAY).savePlannerMd(getTypicalPlannerMd());
+        String archive = Files.readString(archivePath);
+
+        // Appointments are not moved into an archive that is not loaded, even if they are old enough
+        ArchivingPlannerMdStorage storage = createStorage(TODAY.plusYears(1));
+        PlannerMd readBack = new PlannerMd(storage.readPlannerMd().get());
+        readBack.addPatient(HOON);
+        storage.savePlannerMd(readBack);
+        assertEquals(archive, Files.readString(archivePath));
+
+        ReadOnlyPlannerMd savedData = storage.readPlannerMd().get();
+        assertEquals(3, savedData.getAppointmentList().size());
+        assertEquals(readBack.getPatientList(), savedData.getPatientList());
+    }
+
+    @Test
+    public void savePlannerMd_archiveLoaded_archivedAppointmentsSaved() throws Exception {
+        createStorage(TODAY).savePlannerMd(getTypicalPlannerMd());
+
+        ArchivingPlannerMdStorage storage = createStorage(TODAY);
+        PlannerMd readBack = loadArchive(storage.readPlannerMd().get());
+        readBack.removeAppointment(TWO_HOUR_APPOINTMENT);
+        storage.savePlannerMd(readBack);
+        assertEquals(readBack, loadArchive(createStorage(TODAY).readPlannerMd().get()));
+
+        // Appointments that become old enough are moved into the archive
+        storage = createStorage(TODAY.plusYears(1));
+        readBack = loadArchive(storage.readPlannerMd().get());
+        storage.savePlannerMd(readBack);
+        assertTrue(createStorage(TODAY).readPlannerMd().get().getAppointmentList().isEmpty());
+        assertEquals(readBack, loadArchive(createStorage(TODAY).readPlannerMd().get()));
+    }
+
+    @Test
+    public void savePlannerMd_journalledDataWithArchiveLoaded_changesAppended() throws Exception {
+        Clock clock = Clock.fixed(TODAY.atStartOfDay(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        ArchivingPlannerMdStorage storage = new ArchivingPlannerMdStorage(new JournalPlannerMdStorage(filePath),
+                0, clock);
+        storage.savePlannerMd(getTypicalPlannerMd());
+
+        // The archive is loaded into the data read, whose modifications are then appended to the journal
+        PlannerMd readBack = (PlannerMd) storage.readPlannerMd().get();
+        ReadOnlyPlannerMd archived = readBack.getSnapshot();
+        readBack.addArchivedAppointments(readBack.getAppointmentArchive().get().readAppointments(LocalDate.MIN,
+                archived.getPatientList(), archived.getDoctorList()), null);
+        storage.savePlannerMd(readBack);
+        readBack.removeAppointment(TWO_HOUR_APPOINTMENT);
+        storage.savePlannerMd(readBack);
+        readBack.removeAppointment(ANOTHER_TWO_HOUR_APPOINTMENT);
+        storage.savePlannerMd(readBack);
+
+        // Removing an archived appointment only changes the archive
+        assertEquals(2, Files.readAllLines(testFolder.resolve("TempPlannerMd.json.journal")).size());
+        assertEquals(readBack, loadArchive(new ArchivingPlannerMdStorage(new JournalPlannerMdStorage(filePath),
+                0, clock).readPlannerMd().get()));
+    }
+
+    @Test
+    public void readAppointments_appointmentsAlsoInDataFile_leftOut() throws Exception {
+        // A save interrupted after writing the archive leaves the archived appointments in the data file too
+        createStorage(TODAY).savePlannerMd(getTypicalPlannerMd());
+        new JsonPlannerMdStorage(filePath).savePlannerMd(getTypicalPlannerMd());
+
+        assertEquals(getTypicalPlannerMd(), loadArchive(createStorage(TODAY).readPlannerMd().get()));
+    }
+
+    @Test
+    public void readPlannerMd_invalidArchiveDate_throwsDataConversionException() throws Exception {
+        new JsonPlannerMdStorage(filePath).savePlannerMd(getTypicalPlannerMd());
+        Files.write(archivePath, "{\"archivedBefore\" : \"1 Jan 2023\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(DataConversionException.class, () -> createStorage(TODAY).readPlannerMd());
+    }
+
+    @Test
+    public void savePlannerMd_archivedAppointmentDeleted_onlyItsPartitionChanged() throws Exception {
+        createStorage(TODAY).savePlannerMd(getTypicalPlannerMd());
+        assertTrue(Files.exists(juneArchivePath));
+        assertTrue(Files.exists(augustArchivePath));
+
+        ArchivingPlannerMdStorage storage = createStorage(TODAY);
+        PlannerMd readBack = loadArchive(storage.readPlannerMd().get());
+        Files.write(juneArchivePath, "not rewritten".getBytes(StandardCharsets.UTF_8));
+        readBack.removeAppointment(FIVE_MIN_APPOINTMENT);
+        storage.savePlannerMd(readBack);
+
+        assertEquals("not rewritten", Files.readString(juneArchivePath));
+        assertFalse(Files.exists(augustArchivePath));
+    }
+
+    @Test
+    public void savePlannerMd_savedAgainWithArchiveLoaded_onlyChangedPartitionsUpdated() throws Exception {
+        SettableClock clock = new SettableClock(TODAY);
+        ArchivingPlannerMdStorage storage = new ArchivingPlannerMdStorage(new JsonPlannerMdStorage(filePath), 0,
+                clock);
+        PlannerMd plannerMd = getTypicalPlannerMd();
+        storage.savePlannerMd(plannerMd);
+        String juneArchive = Files.readString(juneArchivePath);
+        Files.write(juneArchivePath, "not rewritten".getBytes(StandardCharsets.UTF_8));
+
+        // An archived appointment is deleted, and an appointment becomes old enough to be archived
+        LocalDate later = LocalDate.of(2023, 6, 7);
+        clock.today = later;
+        plannerMd.removeAppointment(FIVE_MIN_APPOINTMENT);
+        storage.savePlannerMd(plannerMd);
+
+        assertEquals("not rewritten", Files.readString(juneArchivePath));
+        assertFalse(Files.exists(augustArchivePath));
+        assertTrue(Files.exists(testFolder.resolve("TempPlannerMd.json.archive-2023-06")));
+        Files.writeString(juneArchivePath, juneArchive);
+        ReadOnlyPlannerMd savedData = createStorage(later).readPlannerMd().get();
+        assertEquals(2, savedData.getAppointmentList().size());
+        assertEquals(plannerMd, loadArchive(savedData));
+    }
+
+    @Test
+    public void getFirstDateWith_personsOfPartitions_foundWithoutReadingPartitions() throws Exception {
+        createStorage(TODAY).savePlannerMd(getTypicalPlannerMd());
+        Files.write(juneArchivePath, "not read".getBytes(StandardCharsets.UTF_8));
+        Files.write(augustArchivePath, "not read".getBytes(StandardCharsets.UTF_8));
+
+        AppointmentArchive archive = createStorage(TODAY).readPlannerMd().get().getAppointmentArchive().get();
+        assertEquals(LocalDate.of(2022, 8, 1), archive.getFirstDateWith(DR_FIONA));
+        assertEquals(LocalDate.of(2022, 10, 1), archive.getFirstDateWith(CARL));
+        assertEquals(TODAY, archive.getFirstDateWith(GEORGE));
+
+        // An index without the persons of its partitions -> every partition may hold their appointments
+        Files.write(archivePath, "{\"archivedBefore\" : \"2023-01-01\", \"partitions\" : [\"2022-06\"]}"
+                .getBytes(StandardCharsets.UTF_8));
+        archive = createStorage(TODAY).readPlannerMd().get().getAppointmentArchive().get();
+        assertEquals(LocalDate.of(2022, 6, 1), archive.getFirstDateWith(GEORGE));
+    }
+
+    @Test
+    public void readAppointments_fromDate_onlyLaterPartitionsRead() throws Exception {
+        createStorage(TODAY).savePlannerMd(getTypicalPlannerMd());
+        Files.write(juneArchivePath, "not read".getBytes(StandardCharsets.UTF_8));
+
+        ReadOnlyPlannerMd readBack = createStorage(TODAY).readPlannerMd().get();
+        AppointmentArchive archive = readBack.getAppointmentArchive().get();
+        LocalDate from = LocalDate.of(2022, 7, 1);
+        assertEquals(Arrays.asList(FIVE_MIN_APPOINTMENT, THIRTY_MIN_APPOINTMENT),
+                archive.readAppointments(from, readBack.getPatientList(), readBack.getDoctorList()));
+        assertEquals(from, archive.before(from).get().getArchivedBefore());
+        assertFalse(archive.before(LocalDate.of(2022, 6, 1)).isPresent());
+        assertThrows(DataConversionException.class, () -> loadArchive(readBack));
+    }
+
+    @Test
+    public void savePlannerMd_archivePartlyLoaded_loadedAppointmentsRemovedFromArchive() throws Exception {
+        createStorage(TODAY).savePlannerMd(getTypicalPlannerMd());
+
+        ArchivingPlannerMdStorage storage = createStorage(TODAY);
+        ReadOnlyPlannerMd readBack = storage.readPlannerMd().get();
+        AppointmentArchive archive = readBack.getAppointmentArchive().get();
+        LocalDate from = LocalDate.of(2022, 7, 1);
+        PlannerMd partlyLoaded = new PlannerMd(readBack);
+        partlyLoaded.addArchivedAppointments(archive.readAppointments(from, readBack.getPatientList(),
+                readBack.getDoctorList()), archive.before(from).get());
+        storage.savePlannerMd(partlyLoaded);
+
+        assertTrue(Files.exists(juneArchivePath));
+        assertFalse(Files.exists(augustArchivePath));
+        ReadOnlyPlannerMd savedData = createStorage(TODAY).readPlannerMd().get();
+        assertEquals(from, savedData.getAppointmentArchive().get().getArchivedBefore());
+        assertEquals(5, savedData.getAppointmentList().size());
+        assertEquals(getTypicalPlannerMd(), loadArchive(savedData));
+    }
+
+    @Test
+    public void readAppointments_invalidPartition_throwsDataConversionException() throws Exception {
+        createStorage(TODAY).savePlannerMd(getTypicalPlannerMd());
+        Files.write(augustArchivePath, "{\"appointments\" : 1}".getBytes(StandardCharsets.UTF_8));
+
+        ReadOnlyPlannerMd readBack = createStorage(TODAY).readPlannerMd().get();
+        assertThrows(DataConversionException.class, () -> loadArchive(readBack));
+    }
+
+    /**
+     * A clock telling the start of a day that can be changed.
+     */
+    private static class SettableClock extends Clock {
+        private LocalDate today;
+
+        SettableClock(LocalDate today) {
+            this.today = today;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return today.atStartOfDay(getZone()).toInstant();
+        }
+    }
+}
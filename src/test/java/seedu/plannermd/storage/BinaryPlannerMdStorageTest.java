@@ -0,0 +1,112 @@
+package seedu.plannermd.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.plannermd.testutil.Assert.assertThrows;
+import static seedu.plannermd.testutil.TypicalPlannerMd.getTypicalPlannerMd;
+import static seedu.plannermd.testutil.patient.TypicalPatients.DANIEL;
+import static seedu.plannermd.testutil.patient.TypicalPatients.HOON;
+import static seedu.plannermd.testutil.patient.TypicalPatients.IDA;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.plannermd.commons.exceptions.DataConversionException;
+import seedu.plannermd.model.PlannerMd;
+import seedu.plannermd.model.ReadOnlyPlannerMd;
+import seedu.plannermd.model.appointment.Session;
+import seedu.plannermd.testutil.patient.PatientBuilder;
+
+public class BinaryPlannerMdStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempPlannerMd.bin");
+    }
+
+    @Test
+    public void readPlannerMd_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryPlannerMdStorage(filePath).readPlannerMd(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryPlannerMdStorage(filePath).readPlannerMd().isPresent());
+    }
+
+    @Test
+    public void readAndSavePlannerMd_allInOrder_success() throws Exception {
+        PlannerMd original = getTypicalPlannerMd();
+        BinaryPlannerMdStorage storage = new BinaryPlannerMdStorage(filePath);
+
+        storage.savePlannerMd(original);
+        assertTrue(BinaryPlannerMdStorage.isBinaryFile(filePath));
+        ReadOnlyPlannerMd readBack = storage.readPlannerMd().get();
+        assertEquals(original, new PlannerMd(readBack));
+
+        // Modify data, overwrite existing file, and read back
+        original.addPatient(HOON);
+        original.removePatient(DANIEL);
+        original.addPatient(new PatientBuilder(IDA).withTags("diabetic", "elderly").withRemark("Ünïcode rèmark")
+                .build());
+        storage.savePlannerMd(original);
+        readBack = storage.readPlannerMd().get();
+        assertEquals(original, new PlannerMd(readBack));
+    }
+
+    @Test
+    public void readPlannerMd_jsonFile_throwsDataConversionException() throws Exception {
+        new JsonPlannerMdStorage(filePath).savePlannerMd(getTypicalPlannerMd());
+
+        assertFalse(BinaryPlannerMdStorage.isBinaryFile(filePath));
+        assertThrows(DataConversionException.class, () -> new BinaryPlannerMdStorage(filePath).readPlannerMd());
+    }
+
+    @Test
+    public void readPlannerMd_cutOffFile_throwsDataConversionException() throws Exception {
+        new BinaryPlannerMdStorage(filePath).savePlannerMd(getTypicalPlannerMd());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataConversionException.class, () -> new BinaryPlannerMdStorage(filePath).readPlannerMd());
+    }
+
+    @Test
+    public void readPlannerMd_newerVersion_throwsDataConversionException() throws Exception {
+        new BinaryPlannerMdStorage(filePath).savePlannerMd(getTypicalPlannerMd());
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinaryPlannerMdStorage.CURRENT_VERSION + 1);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryPlannerMdStorage(filePath).readPlannerMd());
+    }
+
+    @Test
+    public void readPlannerMd_invalidStartMinute_throwsDataConversionException() throws Exception {
+        new BinaryPlannerMdStorage(filePath).savePlannerMd(getTypicalPlannerMd());
+        byte[] bytes = Files.readAllBytes(filePath);
+        // The start minute of the last appointment record, which is followed by its duration and remark
+        ByteBuffer.wrap(bytes).putShort(bytes.length - Short.BYTES - Integer.BYTES - Short.BYTES,
+                (short) Session.MINUTES_PER_DAY);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryPlannerMdStorage(filePath).readPlannerMd());
+    }
+
+    @Test
+    public void savePlannerMd_nullPlannerMd_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryPlannerMdStorage(filePath).savePlannerMd(null));
+    }
+}
@@ -0,0 +1,298 @@
+package seedu.plannermd.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.plannermd.testutil.Assert.assertThrows;
+import static seedu.plannermd.testutil.TypicalPlannerMd.getTypicalPlannerMd;
+import static seedu.plannermd.testutil.appointment.TypicalAppointments.TWO_HOUR_APPOINTMENT;
+import static seedu.plannermd.testutil.patient.TypicalPatients.ALICE;
+import static seedu.plannermd.testutil.patient.TypicalPatients.DANIEL;
+import static seedu.plannermd.testutil.patient.TypicalPatients.HOON;
+import static seedu.plannermd.testutil.patient.TypicalPatients.IDA;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.plannermd.commons.exceptions.DataConversionException;
+import seedu.plannermd.commons.util.JsonUtil;
+import seedu.plannermd.model.PlannerMd;
+import seedu.plannermd.model.patient.Patient;
+import seedu.plannermd.testutil.patient.PatientBuilder;
+
+public class JournalPlannerMdStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempPlannerMd.json");
+        journalPath = testFolder.resolve("TempPlannerMd.json.journal");
+    }
+
+    @Test
+    public void readPlannerMd_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalPlannerMdStorage(filePath).readPlannerMd(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalPlannerMdStorage(filePath).readPlannerMd().isPresent());
+    }
+
+    @Test
+    public void readAndSavePlannerMd_allInOrder_success() throws Exception {
+        PlannerMd original = getTypicalPlannerMd();
+        JournalPlannerMdStorage storage = new JournalPlannerMdStorage(filePath);
+
+        // First save writes a snapshot
+        storage.savePlannerMd(original);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new PlannerMd(new JournalPlannerMdStorage(filePath).readPlannerMd().get()));
+
+        // Each later save appends a record
+        original.addPatient(HOON);
+        original.removePatient(DANIEL);
+        storage.savePlannerMd(original);
+        original.removeAppointment(TWO_HOUR_APPOINTMENT);
+        storage.savePlannerMd(original);
+        Patient editedAlice = new PatientBuilder(ALICE).withRemark("Edited").build();
+        original.setPatient(ALICE, editedAlice);
+        original.editAppointmentsWithPerson(ALICE, editedAlice);
+        storage.savePlannerMd(original);
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertEquals(original, new PlannerMd(new JournalPlannerMdStorage(filePath).readPlannerMd().get()));
+
+        // Records are appended to the journal of a read file, when the data read is modified
+        JournalPlannerMdStorage newStorage = new JournalPlannerMdStorage(filePath);
+        PlannerMd readBack = (PlannerMd) newStorage.readPlannerMd().get();
+        readBack.addPatient(IDA);
+        newStorage.savePlannerMd(readBack);
+        assertEquals(4, Files.readAllLines(journalPath).size());
+        assertEquals(readBack, new PlannerMd(new JournalPlannerMdStorage(filePath).readPlannerMd().get()));
+    }
+
+    @Test
+    public void savePlannerMd_unchangedPlannerMd_nothingWritten() throws Exception {
+        PlannerMd original = getTypicalPlannerMd();
+        JournalPlannerMdStorage storage = new JournalPlannerMdStorage(filePath);
+        storage.savePlannerMd(original);
+        storage.savePlannerMd(original);
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void savePlannerMd_thresholdReached_journalCompacted() throws Exception {
+        PlannerMd original = getTypicalPlannerMd();
+        JournalPlannerMdStorage storage = new JournalPlannerMdStorage(filePath, 2);
+        storage.savePlannerMd(original);
+        original.addPatient(HOON);
+        storage.savePlannerMd(original);
+        original.addPatient(IDA);
+        storage.savePlannerMd(original);
+        storage.awaitCompaction();
+        assertFalse(Files.exists(journalPath));
+
+        original.removePatient(DANIEL);
+        storage.savePlannerMd(original);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(original, new PlannerMd(new JournalPlannerMdStorage(filePath).readPlannerMd().get()));
+    }
+
+    @Test
+    public void savePlannerMd_recordsAppendedAndCompacted_digestsMatchFiles() throws Exception {
+        PlannerMd original = getTypicalPlannerMd();
+        JournalPlannerMdStorage storage = new JournalPlannerMdStorage(filePath, 2);
+        storage.savePlannerMd(original);
+        original.addPatient(HOON);
+        storage.savePlannerMd(original);
+        original.addPatient(IDA);
+        storage.savePlannerMd(original);
+        storage.awaitCompaction();
+        original.removePatient(DANIEL);
+        storage.savePlannerMd(original);
+
+        // The digests kept running while saving match the files as they are, with no compacting journal left
+        assertEquals(List.of(getDigest(Files.readAllBytes(filePath)), getDigest(new byte[0]),
+                getDigest(Files.readAllBytes(journalPath))),
+                Files.readAllLines(testFolder.resolve("TempPlannerMd.json.digest")));
+    }
+
+    private static String getDigest(byte[] bytes) throws Exception {
+        return new BigInteger(1, MessageDigest.getInstance("SHA-256").digest(bytes)).toString(16);
+    }
+
+    @Test
+    public void readPlannerMd_journalOfInterruptedCompaction_recordsAppliedOnce() throws Exception {
+        PlannerMd original = getTypicalPlannerMd();
+        JournalPlannerMdStorage storage = new JournalPlannerMdStorage(filePath);
+        storage.savePlannerMd(original);
+        original.addPatient(HOON);
+        storage.savePlannerMd(original);
+        byte[] journal = Files.readAllBytes(journalPath);
+
+        JournalPlannerMdStorage compactingStorage = new JournalPlannerMdStorage(filePath, 1);
+        PlannerMd readBack = (PlannerMd) compactingStorage.readPlannerMd().get();
+        readBack.addPatient(IDA);
+        compactingStorage.savePlannerMd(readBack);
+        compactingStorage.awaitCompaction();
+
+        // The snapshot was written, but the compacted journal was not removed
+        Files.write(testFolder.resolve("TempPlannerMd.json.journal.compacting"), journal);
+        assertEquals(readBack, new PlannerMd(new JournalPlannerMdStorage(filePath).readPlannerMd().get()));
+    }
+
+    @Test
+    public void readPlannerMd_incompleteLastRecord_recordIgnored() throws Exception {
+        PlannerMd original = getTypicalPlannerMd();
+        JournalPlannerMdStorage storage = new JournalPlannerMdStorage(filePath);
+        storage.savePlannerMd(original);
+        original.addPatient(HOON);
+        storage.savePlannerMd(original);
+        Files.write(journalPath, "{\"sequence\":3,\"patie".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournalPlannerMdStorage newStorage = new JournalPlannerMdStorage(filePath);
+        PlannerMd readBack = (PlannerMd) newStorage.readPlannerMd().get();
+        assertEquals(original, readBack);
+
+        // The next save replaces the journal with a new snapshot
+        readBack.addPatient(IDA);
+        newStorage.savePlannerMd(readBack);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(readBack, new PlannerMd(new JournalPlannerMdStorage(filePath).readPlannerMd().get()));
+    }
+
+    @Test
+    public void savePlannerMd_copyOfSavedData_snapshotWritten() throws Exception {
+        PlannerMd original = getTypicalPlannerMd();
+        JournalPlannerMdStorage storage = new JournalPlannerMdStorage(filePath);
+        storage.savePlannerMd(original);
+        original.addPatient(HOON);
+        storage.savePlannerMd(original);
+
+        // The modifications of a copy are not known, so it is saved in whole
+        PlannerMd copy = new PlannerMd(original);
+        copy.addPatient(IDA);
+        storage.savePlannerMd(copy);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(copy, new PlannerMd(new JournalPlannerMdStorage(filePath).readPlannerMd().get()));
+    }
+
+    @Test
+    public void savePlannerMd_editedPerson_onlyTheirAppointmentsWritten() throws Exception {
+        PlannerMd original = getTypicalPlannerMd();
+        JournalPlannerMdStorage storage = new JournalPlannerMdStorage(filePath);
+        storage.savePlannerMd(original);
+
+        Patient editedAlice = new PatientBuilder(ALICE).withRemark("Edited").build();
+        original.setPatient(ALICE, editedAlice);
+        original.editAppointmentsWithPerson(ALICE, editedAlice);
+        storage.savePlannerMd(original);
+        long aliceAppointments = original.getAppointmentList().stream()
+                .filter(appointment -> appointment.getPatient().equals(editedAlice)).count();
+        // One change to the patients, and one to each of the appointments of the patient
+        String record = Files.readAllLines(journalPath).get(0);
+        assertEquals(1 + aliceAppointments, record.split("\"from\"", -1).length - 1);
+        assertEquals(original, new PlannerMd(new JournalPlannerMdStorage(filePath).readPlannerMd().get()));
+    }
+
+    @Test
+    public void readPlannerMd_recordWithSingleChangePerList_changesApplied() throws Exception {
+        PlannerMd original = getTypicalPlannerMd();
+        new JournalPlannerMdStorage(filePath).savePlannerMd(original);
+        original.addPatient(HOON);
+        int hoonId = original.getPatientList().size() - 1;
+
+        // Records used to hold a single change for each list, instead of a list of changes
+        Files.write(journalPath, ("{\"sequence\":2,\"patients\":{\"from\":" + hoonId + ",\"removed\":0,\"added\":["
+                + JsonUtil.toCompactJsonString(new JsonAdaptedPatient(HOON)) + "]}}" + System.lineSeparator())
+                .getBytes(StandardCharsets.UTF_8));
+        assertEquals(original, new PlannerMd(new JournalPlannerMdStorage(filePath).readPlannerMd().get()));
+    }
+
+    @Test
+    public void readPlannerMd_invalidRecord_throwsDataConversionException() throws Exception {
+        PlannerMd original = getTypicalPlannerMd();
+        new JournalPlannerMdStorage(filePath).savePlannerMd(original);
+        Files.write(journalPath, ("{\"sequence\":2,\"patients\":{\"from\":100,\"removed\":1}}" + System.lineSeparator())
+                .getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataConversionException.class, () -> new JournalPlannerMdStorage(filePath).readPlannerMd());
+    }
+
+    @Test
+    public void readPlannerMd_snapshotChangedOutsideStorage_validatedInFull() throws Exception {
+        PlannerMd original = getTypicalPlannerMd();
+        JournalPlannerMdStorage storage = new JournalPlannerMdStorage(filePath);
+        storage.savePlannerMd(original);
+        original.addPatient(HOON);
+        storage.savePlannerMd(original);
+        assertTrue(Files.exists(testFolder.resolve("TempPlannerMd.json.digest")));
+        assertEquals(original, new PlannerMd(new JournalPlannerMdStorage(filePath).readPlannerMd().get()));
+
+        // The snapshot no longer matches its digest, so its duplicate patient is found
+        List<Patient> patients = new ArrayList<>(getTypicalPlannerMd().getPatientList());
+        patients.add(ALICE);
+        JsonUtil.saveJsonFile(new JsonSerializablePlannerMd(patients, original.getDoctorList(),
+                getTypicalPlannerMd().getAppointmentList(), 1L), filePath);
+        assertThrows(DataConversionException.class, () -> new JournalPlannerMdStorage(filePath).readPlannerMd());
+    }
+
+    @Test
+    public void savePlannerMd_otherFilePath_snapshotWritten() throws Exception {
+        PlannerMd original = getTypicalPlannerMd();
+        Path otherFilePath = testFolder.resolve("Other.json");
+        JournalPlannerMdStorage storage = new JournalPlannerMdStorage(filePath);
+        storage.savePlannerMd(original, otherFilePath);
+        assertTrue(Files.exists(otherFilePath));
+        assertEquals(original, new PlannerMd(new JsonPlannerMdStorage(otherFilePath).readPlannerMd().get()));
+    }
+
+    @Test
+    public void readAndSavePlannerMd_binaryFileName_binarySnapshotsWritten() throws Exception {
+        // A json data file renamed to the binary extension is read, and replaced by a binary snapshot
+        Path binaryFilePath = testFolder.resolve("TempPlannerMd.bin");
+        PlannerMd original = getTypicalPlannerMd();
+        new JsonPlannerMdStorage(binaryFilePath).savePlannerMd(original);
+        JournalPlannerMdStorage storage = new JournalPlannerMdStorage(binaryFilePath, 1);
+        PlannerMd readBack = new PlannerMd(storage.readPlannerMd().get());
+        assertEquals(original, readBack);
+
+        readBack.addPatient(HOON);
+        storage.savePlannerMd(readBack);
+        storage.awaitCompaction();
+        assertTrue(BinaryPlannerMdStorage.isBinaryFile(binaryFilePath));
+        assertEquals(readBack, new PlannerMd(new JournalPlannerMdStorage(binaryFilePath).readPlannerMd().get()));
+    }
+
+    @Test
+    public void readAndSavePlannerMd_compactCodec_snapshotsConverted() throws Exception {
+        // A json data file is read, and replaced by a snapshot in the format of the codec
+        PlannerMd original = getTypicalPlannerMd();
+        new JsonPlannerMdStorage(filePath).savePlannerMd(original);
+        PlannerMdCodec codec = new PlannerMdCodec(PlannerMdCodec.Format.SMILE, true);
+        JournalPlannerMdStorage storage = new JournalPlannerMdStorage(filePath, 1, true, codec);
+        PlannerMd readBack = new PlannerMd(storage.readPlannerMd().get());
+        assertEquals(original, readBack);
+
+        readBack.addPatient(HOON);
+        storage.savePlannerMd(readBack);
+        storage.awaitCompaction();
+        assertThrows(DataConversionException.class, () -> new JsonPlannerMdStorage(filePath).readPlannerMd());
+        assertEquals(readBack, new PlannerMd(new JournalPlannerMdStorage(filePath).readPlannerMd().get()));
+    }
+}
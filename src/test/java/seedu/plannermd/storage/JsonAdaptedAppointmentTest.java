@@ -1,10 +1,13 @@
 package seedu.plannermd.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.plannermd.storage.JsonAdaptedAppointment.INVALID_ID_MESSAGE_FORMAT;
 import static seedu.plannermd.storage.JsonAdaptedAppointment.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.plannermd.testutil.Assert.assertThrows;
 import static seedu.plannermd.testutil.appointment.TypicalAppointments.FIVE_MIN_APPOINTMENT;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.plannermd.commons.exceptions.IllegalValueException;
@@ -29,6 +32,21 @@ class JsonAdaptedAppointmentTest {
         assertEquals(FIVE_MIN_APPOINTMENT, appointment.toModelType());
     }
 
+    @Test
+    public void toModelType_validAppointmentDetailsWithIds_returnsAppointment() throws Exception {
+        JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(FIVE_MIN_APPOINTMENT, 0, 1);
+        assertEquals(FIVE_MIN_APPOINTMENT, appointment.toModelType(List.of(FIVE_MIN_APPOINTMENT.getPatient()),
+                List.of(FIVE_MIN_APPOINTMENT.getDoctor(), FIVE_MIN_APPOINTMENT.getDoctor())));
+    }
+
+    @Test
+    public void toModelType_invalidDoctorId_throwsIllegalValueException() {
+        JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(FIVE_MIN_APPOINTMENT, 0, 1);
+        String expectedMessage = String.format(INVALID_ID_MESSAGE_FORMAT, Doctor.class.getSimpleName(), "doctor");
+        assertThrows(IllegalValueException.class, expectedMessage, () -> appointment.toModelType(
+                List.of(FIVE_MIN_APPOINTMENT.getPatient()), List.of(FIVE_MIN_APPOINTMENT.getDoctor())));
+    }
+
     @Test
     public void toModelType_invalidDate_throwsIllegalValueException() {
         JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(VALID_PATIENT, VALID_DOCTOR, INVALID_DATE,
@@ -9,6 +9,7 @@ import static seedu.plannermd.testutil.patient.TypicalPatients.HOON;
 import static seedu.plannermd.testutil.patient.TypicalPatients.IDA;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -86,6 +87,17 @@ public class JsonPlannerMdStorageTest {
 
     }
 
+    @Test
+    public void readAndSavePlannerMd_notPrettyPrinted_success() throws Exception {
+        Path filePath = testFolder.resolve("TempPlannerMd.json");
+        PlannerMd original = getTypicalPlannerMd();
+        JsonPlannerMdStorage jsonPlannerMdStorage = new JsonPlannerMdStorage(filePath, false);
+
+        jsonPlannerMdStorage.savePlannerMd(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new PlannerMd(new JsonPlannerMdStorage(filePath).readPlannerMd().get()));
+    }
+
     @Test
     public void savePlannerMd_nullPlannerMd_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> savePlannerMd(null, "SomeFile.json"));
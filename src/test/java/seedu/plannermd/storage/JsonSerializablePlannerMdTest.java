@@ -5,19 +5,26 @@ import static seedu.plannermd.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.plannermd.commons.exceptions.IllegalValueException;
 import seedu.plannermd.commons.util.JsonUtil;
 import seedu.plannermd.model.PlannerMd;
+import seedu.plannermd.model.patient.Patient;
+import seedu.plannermd.model.person.Phone;
 import seedu.plannermd.testutil.TypicalPlannerMd;
+import seedu.plannermd.testutil.patient.PatientBuilder;
 
 public class JsonSerializablePlannerMdTest {
 
     private static final Path TEST_DATA_FOLDER = Paths.get(
             "src", "test", "data", "JsonSerializablePlannerMdTest");
     private static final Path TYPICAL_PLANNERMD_FILE = TEST_DATA_FOLDER.resolve("typicalPlannerMd.json");
+    private static final Path TYPICAL_PLANNERMD_WITH_IDS_FILE = TEST_DATA_FOLDER.resolve(
+            "typicalPlannerMdWithIds.json");
     private static final Path TYPICAL_PATIENTS_FILE = TEST_DATA_FOLDER.resolve("typicalPatientsPlannerMd.json");
     private static final Path TYPICAL_DOCTORS_FILE = TEST_DATA_FOLDER.resolve("typicalDoctorsPlannerMd.json");
     private static final Path TYPICAL_APPOINTMENTS_FILE = TEST_DATA_FOLDER.resolve("typicalAppointmentsPlannerMd.json");
@@ -32,6 +39,8 @@ public class JsonSerializablePlannerMdTest {
             "clashingPatientAppointmentPlannerMd.json");
     private static final Path CLASHING_DOCTOR_APPOINTMENTS_FILE = TEST_DATA_FOLDER.resolve(
             "clashingDoctorAppointmentPlannerMd.json");
+    private static final Path INVALID_PATIENT_ID_APPOINTMENTS_FILE = TEST_DATA_FOLDER.resolve(
+            "invalidPatientIdAppointmentPlannerMd.json");
 
     @Test
     public void toModelType_typicalPlannerMdFile_success() throws Exception {
@@ -42,6 +51,46 @@ public class JsonSerializablePlannerMdTest {
         assertEquals(plannerMdFromFile, typicalPlannerMd);
     }
 
+    @Test
+    public void toModelType_typicalPlannerMdWithIdsFile_success() throws Exception {
+        JsonSerializablePlannerMd dataFromFile = JsonUtil
+                .readJsonFile(TYPICAL_PLANNERMD_WITH_IDS_FILE, JsonSerializablePlannerMd.class).get();
+        PlannerMd plannerMdFromFile = dataFromFile.toModelType();
+        PlannerMd typicalPlannerMd = TypicalPlannerMd.getTypicalPlannerMd();
+        assertEquals(plannerMdFromFile, typicalPlannerMd);
+    }
+
+    @Test
+    public void toModelType_convertedTypicalPlannerMd_success() throws Exception {
+        PlannerMd typicalPlannerMd = TypicalPlannerMd.getTypicalPlannerMd();
+        assertEquals(new JsonSerializablePlannerMd(typicalPlannerMd).toModelType(), typicalPlannerMd);
+    }
+
+    @Test
+    public void toModelType_unsupportedVersion_throwsIllegalValueException() {
+        int version = JsonSerializablePlannerMd.CURRENT_VERSION + 1;
+        JsonSerializablePlannerMd data = new JsonSerializablePlannerMd(version, List.of(), List.of(), List.of(),
+                null);
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializablePlannerMd.MESSAGE_UNSUPPORTED_VERSION, version), data::toModelType);
+    }
+
+    @Test
+    public void toTrustedModelType_typicalPlannerMdWithIdsFile_success() throws Exception {
+        JsonSerializablePlannerMd dataFromFile = JsonUtil
+                .readJsonFile(TYPICAL_PLANNERMD_WITH_IDS_FILE, JsonSerializablePlannerMd.class).get();
+        assertEquals(TypicalPlannerMd.getTypicalPlannerMd(), dataFromFile.toTrustedModelType());
+    }
+
+    @Test
+    public void toTrustedModelType_legacyClashingAppointments_throwsIllegalValueException() throws Exception {
+        // Appointments of older versions are matched against the patients and doctors, so they are validated in full
+        JsonSerializablePlannerMd dataFromFile = JsonUtil
+                .readJsonFile(CLASHING_PATIENT_APPOINTMENTS_FILE, JsonSerializablePlannerMd.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializablePlannerMd.MESSAGE_CLASHING_APPOINTMENTS,
+                dataFromFile::toTrustedModelType);
+    }
+
     @Test
     public void toModelType_typicalPatientsFile_success() throws Exception {
         JsonSerializablePlannerMd dataFromFile = JsonUtil
@@ -129,4 +178,58 @@ public class JsonSerializablePlannerMdTest {
         assertThrows(IllegalValueException.class, JsonSerializablePlannerMd.MESSAGE_CLASHING_APPOINTMENTS,
                 dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_invalidPatientIdAppointments_throwsIllegalValueException() throws Exception {
+        JsonSerializablePlannerMd dataFromFile = JsonUtil
+                .readJsonFile(INVALID_PATIENT_ID_APPOINTMENTS_FILE, JsonSerializablePlannerMd.class).get();
+        assertThrows(IllegalValueException.class, String.format(JsonAdaptedAppointment.INVALID_ID_MESSAGE_FORMAT,
+                "Patient", "patient"), dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_manyPatients_success() throws Exception {
+        List<JsonAdaptedPatient> patients = getManyPatients(1000);
+        JsonSerializablePlannerMd data = new JsonSerializablePlannerMd(null, patients, List.of(), List.of(), null);
+
+        List<Patient> modelPatients = data.toModelType().getPatientList();
+        assertEquals(patients.size(), modelPatients.size());
+        for (int i = 0; i < patients.size(); i++) {
+            assertEquals(patients.get(i).toModelType(), modelPatients.get(i));
+        }
+    }
+
+    @Test
+    public void toModelType_manyPatientsWithDuplicateBeforeInvalidPatient_throwsDuplicateError() {
+        List<JsonAdaptedPatient> patients = getManyPatients(1000);
+        patients.set(300, patients.get(0));
+        patients.set(900, getPatientWithInvalidPhone());
+        JsonSerializablePlannerMd data = new JsonSerializablePlannerMd(null, patients, List.of(), List.of(), null);
+        assertThrows(IllegalValueException.class, JsonSerializablePlannerMd.MESSAGE_DUPLICATE_PATIENT,
+                data::toModelType);
+    }
+
+    @Test
+    public void toModelType_manyPatientsWithInvalidPatientBeforeDuplicate_throwsInvalidPatientError() {
+        List<JsonAdaptedPatient> patients = getManyPatients(1000);
+        patients.set(300, getPatientWithInvalidPhone());
+        patients.set(900, patients.get(0));
+        JsonSerializablePlannerMd data = new JsonSerializablePlannerMd(null, patients, List.of(), List.of(), null);
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, data::toModelType);
+    }
+
+    private static List<JsonAdaptedPatient> getManyPatients(int count) {
+        List<JsonAdaptedPatient> patients = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            patients.add(new JsonAdaptedPatient(new PatientBuilder().withName("Patient " + i).build()));
+        }
+        return patients;
+    }
+
+    private static JsonAdaptedPatient getPatientWithInvalidPhone() {
+        Patient patient = new PatientBuilder().build();
+        return new JsonAdaptedPatient(patient.getName().toString(), "+651234", patient.getEmail().toString(),
+                patient.getAddress().toString(), patient.getBirthDate().toString(), patient.getRemark().toString(),
+                new ArrayList<>(), patient.getRisk().toString());
+    }
 }
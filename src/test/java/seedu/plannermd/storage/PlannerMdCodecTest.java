@@ -0,0 +1,83 @@
+package seedu.plannermd.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.plannermd.testutil.Assert.assertThrows;
+import static seedu.plannermd.testutil.TypicalPlannerMd.getTypicalPlannerMd;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.plannermd.commons.exceptions.DataConversionException;
+import seedu.plannermd.model.PlannerMd;
+import seedu.plannermd.storage.PlannerMdCodec.Format;
+
+public class PlannerMdCodecTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempPlannerMd.json");
+    }
+
+    @Test
+    public void of_validFormatName_success() {
+        assertEquals(new PlannerMdCodec(Format.SMILE, true), PlannerMdCodec.of("smile", true));
+        assertEquals(new PlannerMdCodec(Format.CBOR, false), PlannerMdCodec.of("CBOR", false));
+        assertEquals(PlannerMdCodec.DEFAULT, PlannerMdCodec.of("json", false));
+    }
+
+    @Test
+    public void of_invalidFormatName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> PlannerMdCodec.of("xml", false));
+    }
+
+    @Test
+    public void writeAndRead_allFormats_success() throws Exception {
+        PlannerMd original = getTypicalPlannerMd();
+        for (Format format : Format.values()) {
+            for (boolean isCompressed : new boolean[] { false, true }) {
+                new PlannerMdCodec(format, isCompressed).write(new JsonSerializablePlannerMd(original), filePath, true);
+                JsonSerializablePlannerMd readBack = PlannerMdCodec.read(filePath, JsonSerializablePlannerMd.class)
+                        .get();
+                assertEquals(original, readBack.toModelType());
+            }
+        }
+    }
+
+    @Test
+    public void write_compactFormats_smallerThanJson() throws Exception {
+        JsonSerializablePlannerMd plannerMd = new JsonSerializablePlannerMd(getTypicalPlannerMd());
+        PlannerMdCodec.DEFAULT.write(plannerMd, filePath, true);
+        long jsonSize = Files.size(filePath);
+
+        new PlannerMdCodec(Format.SMILE, false).write(plannerMd, filePath, true);
+        assertTrue(Files.size(filePath) < jsonSize);
+        new PlannerMdCodec(Format.CBOR, false).write(plannerMd, filePath, true);
+        assertTrue(Files.size(filePath) < jsonSize);
+        new PlannerMdCodec(Format.JSON, true).write(plannerMd, filePath, true);
+        assertTrue(Files.size(filePath) < jsonSize);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(PlannerMdCodec.read(filePath, JsonSerializablePlannerMd.class).isPresent());
+    }
+
+    @Test
+    public void read_notInAnyFormat_throwsDataConversionException() throws Exception {
+        Files.write(filePath, "not a data file".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataConversionException.class, () -> PlannerMdCodec.read(filePath,
+                JsonSerializablePlannerMd.class));
+    }
+}
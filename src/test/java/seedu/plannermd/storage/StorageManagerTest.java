@@ -2,9 +2,19 @@ package seedu.plannermd.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.plannermd.testutil.Assert.assertThrows;
 import static seedu.plannermd.testutil.TypicalPlannerMd.getTypicalPlannerMd;
+import static seedu.plannermd.testutil.patient.TypicalPatients.ALICE;
+import static seedu.plannermd.testutil.patient.TypicalPatients.HOON;
+import static seedu.plannermd.testutil.patient.TypicalPatients.IDA;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +24,7 @@ import seedu.plannermd.commons.core.GuiSettings;
 import seedu.plannermd.model.PlannerMd;
 import seedu.plannermd.model.ReadOnlyPlannerMd;
 import seedu.plannermd.model.UserPrefs;
+import seedu.plannermd.testutil.patient.PatientBuilder;
 
 public class StorageManagerTest {
 
@@ -60,9 +71,207 @@ public class StorageManagerTest {
         assertEquals(original, new PlannerMd(retrieved));
     }
 
+    @Test
+    public void savePlannerMd_unmodifiedPlannerMd_saveSkipped() throws Exception {
+        PlannerMd original = getTypicalPlannerMd();
+        storageManager.savePlannerMd(original);
+        assertEquals(0, storageManager.getSkippedPlannerMdSaveCount());
+
+        storageManager.savePlannerMd(original);
+        assertEquals(1, storageManager.getSkippedPlannerMdSaveCount());
+
+        // Modified data is saved
+        original.addPatient(HOON);
+        storageManager.savePlannerMd(original);
+        assertEquals(1, storageManager.getSkippedPlannerMdSaveCount());
+        assertEquals(original, new PlannerMd(storageManager.readPlannerMd().get()));
+
+        // Equal but different data is saved
+        storageManager.savePlannerMd(new PlannerMd(original));
+        assertEquals(1, storageManager.getSkippedPlannerMdSaveCount());
+    }
+
+    @Test
+    public void savePlannerMd_modificationsChangingNothing_saveSkipped() throws Exception {
+        PlannerMd original = getTypicalPlannerMd();
+        storageManager.savePlannerMd(original);
+
+        // HOON has no appointments, and ALICE is replaced by an equal patient
+        original.deleteAppointmentsWithPerson(HOON);
+        original.editAppointmentsWithPerson(HOON, IDA);
+        original.setPatient(ALICE, new PatientBuilder(ALICE).build());
+        storageManager.savePlannerMd(original);
+        assertEquals(1, storageManager.getSkippedPlannerMdSaveCount());
+    }
+
+    @Test
+    public void savePlannerMd_writerNotRun_savesCoalesced() throws Exception {
+        CountingPlannerMdStorage plannerMdStorage = new CountingPlannerMdStorage(getTempFilePath("ab"));
+        ManualExecutor writer = new ManualExecutor();
+        StorageManager asyncStorageManager = new StorageManager(plannerMdStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), writer);
+
+        PlannerMd original = getTypicalPlannerMd();
+        asyncStorageManager.savePlannerMd(original);
+        original.addPatient(HOON);
+        asyncStorageManager.savePlannerMd(original);
+        original.addPatient(IDA);
+        asyncStorageManager.savePlannerMd(original);
+        assertEquals(0, plannerMdStorage.saveCount);
+
+        writer.runAll();
+        assertEquals(1, plannerMdStorage.saveCount);
+        assertEquals(original, new PlannerMd(asyncStorageManager.readPlannerMd().get()));
+    }
+
+    @Test
+    public void flushPlannerMd_backgroundWriter_latestDataWritten() throws Exception {
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        StorageManager asyncStorageManager = new StorageManager(new JournalPlannerMdStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), writer);
+
+        PlannerMd original = getTypicalPlannerMd();
+        asyncStorageManager.savePlannerMd(original);
+        original.addPatient(HOON);
+        asyncStorageManager.savePlannerMd(original);
+        original.addPatient(IDA);
+        asyncStorageManager.savePlannerMd(original);
+        asyncStorageManager.flushPlannerMd();
+        writer.shutdown();
+
+        assertEquals(original, new PlannerMd(new JournalPlannerMdStorage(getTempFilePath("ab")).readPlannerMd().get()));
+    }
+
+    @Test
+    public void savePlannerMd_modifiedAfterSave_savedDataWritten() throws Exception {
+        ManualExecutor writer = new ManualExecutor();
+        StorageManager asyncStorageManager = new StorageManager(new JsonPlannerMdStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), writer);
+
+        PlannerMd original = getTypicalPlannerMd();
+        asyncStorageManager.savePlannerMd(original);
+        PlannerMd expected = new PlannerMd(original);
+        original.addPatient(HOON);
+
+        writer.runAll();
+        assertEquals(expected, new PlannerMd(asyncStorageManager.readPlannerMd().get()));
+    }
+
+    @Test
+    public void savePlannerMd_writeFailed_failureReportedLater() throws Exception {
+        ManualExecutor writer = new ManualExecutor();
+        StorageManager asyncStorageManager = new StorageManager(new IoExceptionThrowingStub(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), writer);
+
+        PlannerMd original = getTypicalPlannerMd();
+        asyncStorageManager.savePlannerMd(original);
+        writer.runAll();
+        assertThrows(IOException.class, asyncStorageManager::flushPlannerMd);
+
+        // Unmodified data is written again after a failure
+        asyncStorageManager.savePlannerMd(original);
+        assertEquals(0, asyncStorageManager.getSkippedPlannerMdSaveCount());
+        writer.runAll();
+        assertThrows(IOException.class, () -> asyncStorageManager.savePlannerMd(original));
+    }
+
+    @Test
+    public void savePlannerMd_writeFailedWithHandler_failureReportedAndDataWrittenAgain() throws Exception {
+        ManualExecutor writer = new ManualExecutor();
+        StorageManager asyncStorageManager = new StorageManager(new FailingOnceStub(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), writer);
+        List<IOException> reportedFailures = new ArrayList<>();
+        asyncStorageManager.setPlannerMdWriteFailureHandler(reportedFailures::add);
+
+        PlannerMd original = getTypicalPlannerMd();
+        asyncStorageManager.savePlannerMd(original);
+        writer.runAll();
+        assertEquals(1, reportedFailures.size());
+
+        // The reported failure is not thrown again, and the unmodified data is not taken to be saved
+        asyncStorageManager.savePlannerMd(original);
+        assertEquals(0, asyncStorageManager.getSkippedPlannerMdSaveCount());
+        writer.runAll();
+        asyncStorageManager.flushPlannerMd();
+        assertEquals(original, new PlannerMd(asyncStorageManager.readPlannerMd().get()));
+
+        // Once written, the data is not written again
+        asyncStorageManager.savePlannerMd(original);
+        assertEquals(1, asyncStorageManager.getSkippedPlannerMdSaveCount());
+        assertEquals(1, reportedFailures.size());
+    }
+
     @Test
     public void getPlannerMdFilePath() {
         assertNotNull(storageManager.getPlannerMdFilePath());
     }
 
+    /**
+     * An executor that only runs tasks when asked to.
+     */
+    private static class ManualExecutor implements Executor {
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.remove(0).run();
+            }
+        }
+    }
+
+    /**
+     * A stub class that counts the number of times the save method is called.
+     */
+    private static class CountingPlannerMdStorage extends JsonPlannerMdStorage {
+        private int saveCount;
+
+        private CountingPlannerMdStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void savePlannerMd(ReadOnlyPlannerMd plannerMd, Path filePath) throws IOException {
+            saveCount++;
+            super.savePlannerMd(plannerMd, filePath);
+        }
+    }
+
+    /**
+     * A stub class to throw an {@code IOException} when the save method is called.
+     */
+    private static class IoExceptionThrowingStub extends JsonPlannerMdStorage {
+        private IoExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void savePlannerMd(ReadOnlyPlannerMd plannerMd, Path filePath) throws IOException {
+            throw new IOException("dummy exception");
+        }
+    }
+
+    /**
+     * A stub class to throw an {@code IOException} the first time the save method is called.
+     */
+    private static class FailingOnceStub extends JsonPlannerMdStorage {
+        private boolean hasFailed;
+
+        private FailingOnceStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void savePlannerMd(ReadOnlyPlannerMd plannerMd, Path filePath) throws IOException {
+            if (!hasFailed) {
+                hasFailed = true;
+                throw new IOException("dummy exception");
+            }
+            super.savePlannerMd(plannerMd, filePath);
+        }
+    }
 }